@@ -6,8 +6,9 @@ import com.skyflow.errors.ErrorCode;
 import com.skyflow.errors.ErrorMessage;
 import com.skyflow.errors.SkyflowException;
 import com.skyflow.logs.InfoLogs;
-import com.skyflow.serviceaccount.util.Token;
+import com.skyflow.serviceaccount.util.TokenManager;
 import com.skyflow.utils.Constants;
+import com.skyflow.utils.TokenManagerPool;
 import com.skyflow.utils.Utils;
 import com.skyflow.utils.logger.LogUtil;
 import com.skyflow.utils.validations.Validations;
@@ -16,8 +17,9 @@ import io.github.cdimascio.dotenv.DotenvException;
 
 public class ConnectionClient {
     private final ConnectionConfig connectionConfig;
-    protected String token;
+    protected volatile String token;
     protected String apiKey;
+    private TokenManager tokenManager;
     private Credentials commonCredentials;
     private Credentials finalCredentials;
 
@@ -45,11 +47,8 @@ public class ConnectionClient {
         Validations.validateCredentials(this.finalCredentials);
         if (this.finalCredentials.getApiKey() != null) {
             setApiKey();
-        } else if (Token.isExpired(token)) {
-            LogUtil.printInfoLog(InfoLogs.BEARER_TOKEN_EXPIRED.getLog());
-            token = Utils.generateBearerToken(this.finalCredentials);
         } else {
-            LogUtil.printInfoLog(InfoLogs.REUSE_BEARER_TOKEN.getLog());
+            token = getTokenManager().getToken();
         }
     }
 
@@ -61,6 +60,18 @@ public class ConnectionClient {
         }
     }
 
+    private synchronized TokenManager getTokenManager() {
+        if (tokenManager == null) {
+            tokenManager = TokenManagerPool.get(this.finalCredentials);
+        }
+        return tokenManager;
+    }
+
+    private synchronized void resetTokenManager() {
+        // Pooled managers may be shared with other clients, so they are released rather than closed.
+        tokenManager = null;
+    }
+
     private void prioritiseCredentials() throws SkyflowException {
         try {
             Credentials original = this.finalCredentials;
@@ -82,6 +93,7 @@ public class ConnectionClient {
             if (original != null && !original.equals(this.finalCredentials)) {
                 token = null;
                 apiKey = null;
+                resetTokenManager();
             }
         } catch (DotenvException e) {
             throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(),
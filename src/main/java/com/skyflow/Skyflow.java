@@ -2,22 +2,29 @@ package com.skyflow;
 
 import com.skyflow.config.ConnectionConfig;
 import com.skyflow.config.Credentials;
+import com.skyflow.config.TransportConfig;
 import com.skyflow.config.VaultConfig;
 import com.skyflow.enums.Env;
+import com.skyflow.enums.HttpClientScope;
 import com.skyflow.enums.LogLevel;
 import com.skyflow.errors.ErrorCode;
 import com.skyflow.errors.ErrorMessage;
 import com.skyflow.errors.SkyflowException;
 import com.skyflow.logs.ErrorLogs;
 import com.skyflow.logs.InfoLogs;
+import com.skyflow.utils.HttpUtility;
 import com.skyflow.utils.Utils;
 import com.skyflow.utils.logger.LogUtil;
 import com.skyflow.utils.validations.Validations;
 import com.skyflow.vault.controller.ConnectionController;
 import com.skyflow.vault.controller.DetectController;
 import com.skyflow.vault.controller.VaultController;
+import com.skyflow.vault.data.WarmUpResponse;
+import okhttp3.OkHttpClient;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 
 public final class Skyflow {
     private final SkyflowClientBuilder builder;
@@ -69,6 +76,17 @@ public final class Skyflow {
         return this;
     }
 
+    /**
+     * Warms up every configured vault, one after another. See {@link VaultController#warmUp()}.
+     */
+    public List<WarmUpResponse> warmUp() throws SkyflowException {
+        List<WarmUpResponse> responses = new ArrayList<>();
+        for (VaultController controller : this.builder.vaultClientsMap.values()) {
+            responses.add(controller.warmUp());
+        }
+        return responses;
+    }
+
     public Skyflow updateSkyflowCredentials(Credentials credentials) throws SkyflowException {
         this.builder.addSkyflowCredentials(credentials);
         return this;
@@ -155,6 +173,8 @@ public final class Skyflow {
         private final LinkedHashMap<String, VaultConfig> vaultConfigMap;
         private final LinkedHashMap<String, ConnectionConfig> connectionConfigMap;
         private Credentials skyflowCredentials;
+        private TransportConfig transportConfig;
+        private OkHttpClient rootHttpClient;
         private LogLevel logLevel;
 
         public SkyflowClientBuilder() {
@@ -164,6 +184,8 @@ public final class Skyflow {
             this.connectionsMap = new LinkedHashMap<>();
             this.connectionConfigMap = new LinkedHashMap<>();
             this.skyflowCredentials = null;
+            this.transportConfig = null;
+            this.rootHttpClient = HttpUtility.getSharedHttpClient();
             this.logLevel = LogLevel.ERROR;
         }
 
@@ -178,8 +200,16 @@ public final class Skyflow {
                         ErrorMessage.VaultIdAlreadyInConfigList.getMessage());
             } else {
                 this.vaultConfigMap.put(vaultConfig.getVaultId(), vaultConfig);
-                this.vaultClientsMap.put(vaultConfig.getVaultId(), new VaultController(vaultConfig, this.skyflowCredentials));
-                this.detectClientsMap.put(vaultConfig.getVaultId(), new DetectController(vaultConfig, this.skyflowCredentials));
+                VaultController vaultController = new VaultController(vaultConfig, this.skyflowCredentials);
+                DetectController detectController = new DetectController(vaultConfig, this.skyflowCredentials);
+                detectController.shareRateLimiter(vaultController);
+                vaultController.setRootHttpClient(this.rootHttpClient);
+                detectController.setRootHttpClient(this.rootHttpClient);
+                vaultController.setCommonTransportConfig(this.transportConfig);
+                detectController.setCommonTransportConfig(this.transportConfig);
+                vaultController.updateConnectionKeeper();
+                this.vaultClientsMap.put(vaultConfig.getVaultId(), vaultController);
+                this.detectClientsMap.put(vaultConfig.getVaultId(), detectController);
                 LogUtil.printInfoLog(Utils.parameterizedString(
                         InfoLogs.VAULT_CONTROLLER_INITIALIZED.getLog(), vaultConfig.getVaultId()));
                 LogUtil.printInfoLog(Utils.parameterizedString(
@@ -193,7 +223,10 @@ public final class Skyflow {
             Validations.validateVaultConfig(vaultConfig);
             if (this.vaultClientsMap.containsKey(vaultConfig.getVaultId())) {
                 VaultConfig updatedConfig = findAndUpdateVaultConfig(vaultConfig);
-                this.vaultClientsMap.get(updatedConfig.getVaultId()).updateVaultConfig();
+                VaultController vaultController = this.vaultClientsMap.get(updatedConfig.getVaultId());
+                vaultController.updateVaultConfig();
+                this.detectClientsMap.get(updatedConfig.getVaultId()).shareRateLimiter(vaultController);
+                vaultController.updateConnectionKeeper();
             } else {
                 LogUtil.printErrorLog(Utils.parameterizedString(
                         ErrorLogs.VAULT_CONFIG_DOES_NOT_EXIST.getLog(), vaultConfig.getVaultId()
@@ -205,7 +238,7 @@ public final class Skyflow {
 
         public SkyflowClientBuilder removeVaultConfig(String vaultId) throws SkyflowException {
             if (this.vaultClientsMap.containsKey(vaultId)) {
-                this.vaultClientsMap.remove(vaultId);
+                this.vaultClientsMap.remove(vaultId).stopConnectionKeeper();
                 this.vaultConfigMap.remove(vaultId);
             } else {
                 LogUtil.printErrorLog(Utils.parameterizedString(ErrorLogs.VAULT_CONFIG_DOES_NOT_EXIST.getLog(), vaultId));
@@ -278,6 +311,41 @@ public final class Skyflow {
             return this;
         }
 
+        /**
+         * Sets the HTTP transport used by every vault that does not set its own with
+         * {@link VaultConfig#setTransportConfig(TransportConfig)}.
+         */
+        public SkyflowClientBuilder setTransportConfig(TransportConfig transportConfig) throws SkyflowException {
+            if (transportConfig != null) {
+                Validations.validateTransportConfig(transportConfig);
+            }
+            this.transportConfig = transportConfig;
+            for (VaultController vault : this.vaultClientsMap.values()) {
+                vault.setCommonTransportConfig(this.transportConfig);
+            }
+            for (DetectController detect : this.detectClientsMap.values()) {
+                detect.setCommonTransportConfig(this.transportConfig);
+            }
+            return this;
+        }
+
+        /**
+         * Controls which vault and detect clients share a connection pool and dispatcher. With
+         * {@link HttpClientScope#JVM} (the default) they are shared with every {@code Skyflow} instance in the JVM;
+         * with {@link HttpClientScope#SKYFLOW_INSTANCE} only within this instance.
+         */
+        public SkyflowClientBuilder setHttpClientScope(HttpClientScope httpClientScope) {
+            this.rootHttpClient = httpClientScope == HttpClientScope.SKYFLOW_INSTANCE
+                    ? HttpUtility.newRootHttpClient() : HttpUtility.getSharedHttpClient();
+            for (VaultController vault : this.vaultClientsMap.values()) {
+                vault.setRootHttpClient(this.rootHttpClient);
+            }
+            for (DetectController detect : this.detectClientsMap.values()) {
+                detect.setRootHttpClient(this.rootHttpClient);
+            }
+            return this;
+        }
+
         public SkyflowClientBuilder setLogLevel(LogLevel logLevel) {
             this.logLevel = logLevel == null ? LogLevel.ERROR : logLevel;
             LogUtil.setupLogger(this.logLevel);
@@ -299,6 +367,12 @@ public final class Skyflow {
             previousConfig.setEnv(env);
             previousConfig.setClusterId(clusterId);
             previousConfig.setCredentials(credentials);
+            // Optional settings are replaced as a whole, so that leaving one unset on the update turns it off.
+            previousConfig.setRetryPolicy(vaultConfig.getRetryPolicy());
+            previousConfig.setTransportConfig(vaultConfig.getTransportConfig());
+            previousConfig.setKeepAliveConfig(vaultConfig.getKeepAliveConfig());
+            previousConfig.setCompressionConfig(vaultConfig.getCompressionConfig());
+            previousConfig.setRateLimitConfig(vaultConfig.getRateLimitConfig());
             return previousConfig;
         }
 
@@ -308,6 +382,7 @@ public final class Skyflow {
             Credentials credentials = connectionConfig.getCredentials() != null ? connectionConfig.getCredentials() : previousConfig.getCredentials();
             previousConfig.setConnectionUrl(connectionURL);
             previousConfig.setCredentials(credentials);
+            previousConfig.setRetryPolicy(connectionConfig.getRetryPolicy());
             return previousConfig;
         }
     }
@@ -1,6 +1,9 @@
 package com.skyflow;
 
 import com.skyflow.config.Credentials;
+import com.skyflow.config.KeepAliveConfig;
+import com.skyflow.config.RateLimitConfig;
+import com.skyflow.config.TransportConfig;
 import com.skyflow.config.VaultConfig;
 import com.skyflow.enums.DetectEntities;
 import com.skyflow.enums.DetectOutputTranscriptions;
@@ -9,10 +12,18 @@ import com.skyflow.errors.ErrorMessage;
 import com.skyflow.errors.SkyflowException;
 import com.skyflow.generated.rest.ApiClient;
 import com.skyflow.generated.rest.ApiClientBuilder;
+import com.skyflow.generated.rest.AsyncApiClient;
+import com.skyflow.generated.rest.AsyncApiClientBuilder;
+import com.skyflow.generated.rest.core.ApiClientApiException;
+import com.skyflow.generated.rest.core.ApiClientException;
+import com.skyflow.generated.rest.core.ApiClientHttpResponse;
+import com.skyflow.generated.rest.core.ObjectMappers;
 import com.skyflow.generated.rest.resources.files.FilesClient;
 import com.skyflow.generated.rest.resources.files.requests.*;
 import com.skyflow.generated.rest.resources.files.types.*;
+import com.skyflow.generated.rest.resources.query.AsyncQueryClient;
 import com.skyflow.generated.rest.resources.query.QueryClient;
+import com.skyflow.generated.rest.resources.records.AsyncRecordsClient;
 import com.skyflow.generated.rest.resources.records.RecordsClient;
 import com.skyflow.generated.rest.resources.records.requests.RecordServiceBatchOperationBody;
 import com.skyflow.generated.rest.resources.records.requests.RecordServiceInsertRecordBody;
@@ -21,20 +32,35 @@ import com.skyflow.generated.rest.resources.strings.StringsClient;
 import com.skyflow.generated.rest.resources.strings.requests.DeidentifyStringRequest;
 import com.skyflow.generated.rest.resources.strings.requests.ReidentifyStringRequest;
 import com.skyflow.generated.rest.resources.strings.types.DeidentifyStringRequestEntityTypesItem;
+import com.skyflow.generated.rest.resources.tokens.AsyncTokensClient;
 import com.skyflow.generated.rest.resources.tokens.TokensClient;
 import com.skyflow.generated.rest.resources.tokens.requests.V1DetokenizePayload;
 import com.skyflow.generated.rest.resources.tokens.requests.V1TokenizePayload;
 import com.skyflow.generated.rest.types.Transformations;
 import com.skyflow.generated.rest.types.*;
+import com.skyflow.logs.ErrorLogs;
 import com.skyflow.logs.InfoLogs;
-import com.skyflow.serviceaccount.util.Token;
+import com.skyflow.serviceaccount.util.TokenManager;
+import com.skyflow.utils.AdaptiveRateLimiter;
+import com.skyflow.utils.CompressionInterceptor;
+import com.skyflow.utils.CompressionStats;
+import com.skyflow.utils.ConnectionKeeper;
 import com.skyflow.utils.Constants;
+import com.skyflow.utils.HttpUtility;
+import com.skyflow.utils.JsonRecordReader;
+import com.skyflow.utils.KeepAliveStats;
+import com.skyflow.utils.RateLimitInterceptor;
+import com.skyflow.utils.RateLimitStats;
+import com.skyflow.utils.RetryPolicyInterceptor;
+import com.skyflow.utils.StreamingJsonRequestBody;
+import com.skyflow.utils.TokenManagerPool;
 import com.skyflow.utils.Utils;
 import com.skyflow.utils.logger.LogUtil;
 import com.skyflow.utils.validations.Validations;
 import com.skyflow.vault.data.FileUploadRequest;
 import com.skyflow.vault.data.InsertRequest;
 import com.skyflow.vault.data.UpdateRequest;
+import com.skyflow.vault.data.WarmUpResponse;
 import com.skyflow.vault.detect.DeidentifyFileRequest;
 import com.skyflow.vault.detect.*;
 import com.skyflow.vault.tokens.ColumnValue;
@@ -43,35 +69,71 @@ import com.skyflow.vault.tokens.DetokenizeRequest;
 import com.skyflow.vault.tokens.TokenizeRequest;
 import io.github.cdimascio.dotenv.Dotenv;
 import io.github.cdimascio.dotenv.DotenvException;
-import okhttp3.ConnectionPool;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 
 public class VaultClient {
     private final VaultConfig vaultConfig;
     private final ApiClientBuilder apiClientBuilder;
+    private final AsyncApiClientBuilder asyncApiClientBuilder;
     private ApiClient apiClient;
+    private AsyncApiClient asyncApiClient;
     private OkHttpClient sharedHttpClient;
+    private OkHttpClient probeHttpClient;
     private String currentVaultURL;
     private Credentials commonCredentials;
+    private TransportConfig commonTransportConfig;
+    private OkHttpClient rootHttpClient;
+    private final Interceptor authInterceptor;
+    private final CompressionInterceptor compressionInterceptor;
+    private volatile AdaptiveRateLimiter rateLimiter;
+    private RateLimitConfig currentRateLimitConfig;
+    private TransportConfig currentTransportConfig;
     private Credentials finalCredentials;
-    private String token;
+    private volatile String token;
     private String apiKey;
+    private TokenManager tokenManager;
+    private ConnectionKeeper connectionKeeper;
+    private KeepAliveConfig currentKeepAliveConfig;
 
     protected VaultClient(VaultConfig vaultConfig, Credentials credentials) {
         super();
         this.vaultConfig = vaultConfig;
         this.commonCredentials = credentials;
         this.apiClientBuilder = new ApiClientBuilder();
+        this.asyncApiClientBuilder = new AsyncApiClientBuilder();
         this.apiClient = null;
+        this.asyncApiClient = null;
+        this.rootHttpClient = HttpUtility.getSharedHttpClient();
+        this.authInterceptor = chain -> {
+            Request requestWithAuth = chain.request().newBuilder()
+                    .header("Authorization", "Bearer " + this.token)
+                    .build();
+            return chain.proceed(requestWithAuth);
+        };
+        this.compressionInterceptor = new CompressionInterceptor(this.vaultConfig::getCompressionConfig);
+        updateRateLimiter();
         updateVaultURL();
     }
 
@@ -95,6 +157,18 @@ public class VaultClient {
         return this.apiClient.query();
     }
 
+    protected AsyncRecordsClient getAsyncRecordsApi() {
+        return this.asyncApiClient.records();
+    }
+
+    protected AsyncTokensClient getAsyncTokensApi() {
+        return this.asyncApiClient.tokens();
+    }
+
+    protected AsyncQueryClient getAsyncQueryApi() {
+        return this.asyncApiClient.query();
+    }
+
     protected VaultConfig getVaultConfig() {
         return vaultConfig;
     }
@@ -104,8 +178,26 @@ public class VaultClient {
         prioritiseCredentials();
     }
 
+    /**
+     * Sets the client that this vault's HTTP client is derived from. Vaults with the same root share its connection
+     * pool and dispatcher.
+     */
+    protected void setRootHttpClient(OkHttpClient rootHttpClient) {
+        if (rootHttpClient != this.rootHttpClient) {
+            this.rootHttpClient = rootHttpClient;
+            resetHttpClient();
+        }
+    }
+
+    protected void setCommonTransportConfig(TransportConfig commonTransportConfig) {
+        this.commonTransportConfig = commonTransportConfig;
+        updateTransport();
+    }
+
     protected void updateVaultConfig() throws SkyflowException {
         updateVaultURL();
+        updateTransport();
+        updateRateLimiter();
         prioritiseCredentials();
     }
 
@@ -176,6 +268,82 @@ public class VaultClient {
                 .build();
     }
 
+    /**
+     * Streaming counterpart of {@link #getDetokenizePayload(DetokenizeRequest)}: writes the same JSON one token at a
+     * time instead of building the payload first.
+     */
+    protected StreamingJsonRequestBody getStreamingDetokenizeBody(DetokenizeRequest request) {
+        return new StreamingJsonRequestBody(generator -> {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("detokenizationParameters");
+            for (DetokenizeData detokenizeDataRecord : request.getDetokenizeData()) {
+                generator.writeStartObject();
+                StreamingJsonRequestBody.writeField(generator, "token", detokenizeDataRecord.getToken());
+                StreamingJsonRequestBody.writeField(generator, "redaction",
+                        detokenizeDataRecord.getRedactionType().getRedaction());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            StreamingJsonRequestBody.writeField(generator, "downloadURL", request.getDownloadUrl());
+            StreamingJsonRequestBody.writeField(generator, "continueOnError", request.getContinueOnError());
+            generator.writeEndObject();
+        });
+    }
+
+    /**
+     * Streaming counterpart of {@link #getBulkInsertRequestBody(InsertRequest)}.
+     */
+    protected StreamingJsonRequestBody getStreamingBulkInsertBody(InsertRequest request) {
+        return new StreamingJsonRequestBody(generator -> {
+            List<HashMap<String, Object>> values = request.getValues();
+            List<HashMap<String, Object>> tokens = request.getTokens();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("records");
+            for (int index = 0; index < values.size(); index++) {
+                generator.writeStartObject();
+                StreamingJsonRequestBody.writeField(generator, "fields", values.get(index));
+                if (tokens != null && index < tokens.size()) {
+                    StreamingJsonRequestBody.writeField(generator, "tokens", tokens.get(index));
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            StreamingJsonRequestBody.writeField(generator, "tokenization", request.getReturnTokens());
+            StreamingJsonRequestBody.writeField(generator, "upsert", request.getUpsert());
+            StreamingJsonRequestBody.writeField(generator, "homogeneous", request.getHomogeneous());
+            StreamingJsonRequestBody.writeField(generator, "byot", request.getTokenMode().getByot());
+            generator.writeEndObject();
+        });
+    }
+
+    /**
+     * Streaming counterpart of {@link #getBatchInsertRequestBody(InsertRequest)}.
+     */
+    protected StreamingJsonRequestBody getStreamingBatchInsertBody(InsertRequest request) {
+        return new StreamingJsonRequestBody(generator -> {
+            List<HashMap<String, Object>> values = request.getValues();
+            List<HashMap<String, Object>> tokens = request.getTokens();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("records");
+            for (int index = 0; index < values.size(); index++) {
+                generator.writeStartObject();
+                StreamingJsonRequestBody.writeField(generator, "method", BatchRecordMethod.POST);
+                StreamingJsonRequestBody.writeField(generator, "tableName", request.getTable());
+                StreamingJsonRequestBody.writeField(generator, "upsert", request.getUpsert());
+                StreamingJsonRequestBody.writeField(generator, "tokenization", request.getReturnTokens());
+                StreamingJsonRequestBody.writeField(generator, "fields", values.get(index));
+                if (tokens != null && index < tokens.size()) {
+                    StreamingJsonRequestBody.writeField(generator, "tokens", tokens.get(index));
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            StreamingJsonRequestBody.writeField(generator, "continueOnError", true);
+            StreamingJsonRequestBody.writeField(generator, "byot", request.getTokenMode().getByot());
+            generator.writeEndObject();
+        });
+    }
+
     protected RecordServiceUpdateRecordBody getUpdateRequestBody(UpdateRequest request) {
         RecordServiceUpdateRecordBody.Builder updateRequestBodyBuilder = RecordServiceUpdateRecordBody.builder();
         updateRequestBodyBuilder.byot(request.getTokenMode().getByot());
@@ -198,9 +366,13 @@ public class VaultClient {
     }
 
     protected V1TokenizePayload getTokenizePayload(TokenizeRequest request) {
+        return getTokenizePayload(request.getColumnValues());
+    }
+
+    protected V1TokenizePayload getTokenizePayload(List<ColumnValue> columnValues) {
         List<V1TokenizeRecordRequest> tokenizationParameters = new ArrayList<>();
 
-        for (ColumnValue columnValue : request.getColumnValues()) {
+        for (ColumnValue columnValue : columnValues) {
             V1TokenizeRecordRequest.Builder recordBuilder = V1TokenizeRecordRequest.builder();
             String value = columnValue.getValue();
             recordBuilder.value(value);
@@ -238,18 +410,225 @@ public class VaultClient {
         if (this.finalCredentials.getApiKey() != null) {
             LogUtil.printInfoLog(InfoLogs.REUSE_API_KEY.getLog());
             token = this.finalCredentials.getApiKey();
-        } else if (token == null || token.trim().isEmpty()) {
-            token = Utils.generateBearerToken(this.finalCredentials);
-        } else if (Token.isExpired(token)) {
-            LogUtil.printInfoLog(InfoLogs.BEARER_TOKEN_EXPIRED.getLog());
-            token = Utils.generateBearerToken(this.finalCredentials);
         } else {
-            LogUtil.printInfoLog(InfoLogs.REUSE_BEARER_TOKEN.getLog());
+            token = getTokenManager().getToken();
         }
         if (apiClient == null) {
             updateExecutorInHTTP();
             this.apiClient = this.apiClientBuilder.build();
         }
+        if (asyncApiClient == null) {
+            updateExecutorInHTTP();
+            this.asyncApiClient = this.asyncApiClientBuilder.build();
+        }
+    }
+
+    /**
+     * Fetches the bearer token and, in parallel, opens {@code connections} keep-alive connections to the vault URL so
+     * that they are pooled before the first request. Connection failures are logged and reported in the response
+     * rather than thrown. The connections are opened with asynchronous calls, so no more of them run at once than the
+     * HTTP client's dispatcher allows per host.
+     */
+    protected WarmUpResponse warmUpConnections(int connections) throws SkyflowException {
+        long start = System.nanoTime();
+        OkHttpClient warmUpClient = getProbeHttpClient();
+        Request request = new Request.Builder().url(currentVaultURL).head().build();
+
+        List<Call> calls = new ArrayList<>();
+        try {
+            // Each call completes with the time its connection was ready, or -1 when it failed.
+            List<CompletableFuture<Long>> results = new ArrayList<>();
+            for (int i = 0; i < connections; i++) {
+                CompletableFuture<Long> result = new CompletableFuture<>();
+                Call call = warmUpClient.newCall(request);
+                call.enqueue(new Callback() {
+                    @Override
+                    public void onResponse(Call call, Response response) {
+                        response.close();
+                        result.complete(System.nanoTime());
+                    }
+
+                    @Override
+                    public void onFailure(Call call, IOException e) {
+                        LogUtil.printWarningLog(Utils.parameterizedString(
+                                ErrorLogs.WARM_UP_CONNECTION_FAILED.getLog(), currentVaultURL, e.getMessage()));
+                        result.complete(-1L);
+                    }
+                });
+                calls.add(call);
+                results.add(result);
+            }
+
+            setBearerToken();
+            long bearerTokenMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            int opened = 0;
+            long connectionsReady = start;
+            for (CompletableFuture<Long> result : results) {
+                long readyAt = result.get();
+                if (readyAt >= 0) {
+                    opened++;
+                    connectionsReady = Math.max(connectionsReady, readyAt);
+                }
+            }
+            long connectionsMillis = TimeUnit.NANOSECONDS.toMillis(connectionsReady - start);
+            long totalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            WarmUpResponse response = new WarmUpResponse(vaultConfig.getVaultId(), bearerTokenMillis,
+                    connectionsMillis, connections, opened, totalMillis);
+            LogUtil.printInfoLog(Utils.parameterizedString(InfoLogs.WARM_UP_COMPLETED.getLog(),
+                    vaultConfig.getVaultId(), String.valueOf(bearerTokenMillis), String.valueOf(opened),
+                    String.valueOf(connections), String.valueOf(connectionsMillis)));
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SkyflowException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            throw new SkyflowException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            // Only has an effect on calls still running when the token could not be fetched.
+            for (Call call : calls) {
+                call.cancel();
+            }
+        }
+    }
+
+    /**
+     * Starts, restarts or stops the background connection keeper to match the vault config's keep-alive settings.
+     */
+    protected synchronized void updateConnectionKeeper() {
+        KeepAliveConfig keepAliveConfig = this.vaultConfig.getKeepAliveConfig();
+        if (keepAliveConfig == this.currentKeepAliveConfig) {
+            return;
+        }
+        stopConnectionKeeper();
+        this.currentKeepAliveConfig = keepAliveConfig;
+        if (keepAliveConfig != null) {
+            this.connectionKeeper = new ConnectionKeeper(keepAliveConfig, new ProbeSupplier(this));
+            this.connectionKeeper.start();
+            LogUtil.printInfoLog(Utils.parameterizedString(InfoLogs.CONNECTION_KEEPER_STARTED.getLog(),
+                    vaultConfig.getVaultId(), String.valueOf(keepAliveConfig.getMinWarmConnections()),
+                    String.valueOf(keepAliveConfig.getProbeIntervalSeconds())));
+        }
+    }
+
+    protected synchronized void stopConnectionKeeper() {
+        this.currentKeepAliveConfig = null;
+        if (this.connectionKeeper != null) {
+            this.connectionKeeper.close();
+            this.connectionKeeper = null;
+            LogUtil.printInfoLog(Utils.parameterizedString(
+                    InfoLogs.CONNECTION_KEEPER_STOPPED.getLog(), vaultConfig.getVaultId()));
+        }
+    }
+
+    protected CompressionStats getCompressionStats() {
+        return this.compressionInterceptor.getStats();
+    }
+
+    /**
+     * Makes this client take its permits from the same rate limiter as {@code other}, so that the vault and detect
+     * clients of one vault share its quota.
+     */
+    protected synchronized void shareRateLimiter(VaultClient other) {
+        synchronized (other) {
+            this.currentRateLimitConfig = other.currentRateLimitConfig;
+            this.rateLimiter = other.rateLimiter;
+        }
+    }
+
+    protected RateLimitStats getRateLimiterStats() {
+        AdaptiveRateLimiter limiter = this.rateLimiter;
+        return limiter == null ? null : limiter.getStats();
+    }
+
+    protected synchronized KeepAliveStats getConnectionKeeperStats() {
+        return this.connectionKeeper == null ? null : this.connectionKeeper.getStats();
+    }
+
+    /**
+     * Sends an unauthenticated HEAD request to the vault URL over the vault's connection pool and returns the time
+     * between sending the request and receiving the response headers.
+     */
+    protected long probeConnection() throws IOException {
+        Request request = new Request.Builder().url(currentVaultURL).head().build();
+        try (Response response = getProbeHttpClient().newCall(request).execute()) {
+            return response.receivedResponseAtMillis() - response.sentRequestAtMillis();
+        }
+    }
+
+    /**
+     * POSTs a streamed body to {@code v1/vaults/<vaultId>/<pathSegments>} over the vault's HTTP client and maps the
+     * response the way the generated clients do: a non-2xx status raises {@link ApiClientApiException} and an I/O
+     * failure raises {@link ApiClientException}.
+     */
+    protected <T> ApiClientHttpResponse<T> sendStreamingRequest(StreamingJsonRequestBody body, Class<T> responseType,
+                                                                Map<String, String> headers, String... pathSegments) {
+        try (Response response = newStreamingCall(body, headers, pathSegments).execute()) {
+            return toApiClientHttpResponse(response, responseType);
+        } catch (IOException e) {
+            throw new ApiClientException("Network error executing HTTP request", e);
+        }
+    }
+
+    /**
+     * Returns a builder for {@code <vault URL>/v1/vaults/<vaultId>/<pathSegments>}.
+     */
+    protected HttpUrl.Builder getVaultUrl(String... pathSegments) {
+        HttpUrl.Builder url = HttpUrl.parse(currentVaultURL).newBuilder()
+                .addPathSegments("v1/vaults")
+                .addPathSegment(vaultConfig.getVaultId());
+        for (String pathSegment : pathSegments) {
+            url.addPathSegment(pathSegment);
+        }
+        return url;
+    }
+
+    /**
+     * Sends a request to {@code url} (a POST when {@code body} is set, otherwise a GET) and parses the
+     * {@code records} array of the response one element at a time, passing each element and the response's request
+     * ID to {@code handler} as soon as it is read. Failures are raised like {@link #sendStreamingRequest}; exceptions
+     * thrown by {@code handler} stop parsing and are rethrown as they are.
+     */
+    protected <T> long receiveRecords(HttpUrl url, RequestBody body, Map<String, String> headers,
+                                      Class<T> recordType, BiConsumer<T, String> handler) {
+        try (Response response = newVaultCall(url, body, headers).execute()) {
+            ResponseBody responseBody = response.body();
+            if (!response.isSuccessful()) {
+                throw toApiClientApiException(response);
+            }
+            String requestId = response.header(Constants.REQUEST_ID_HEADER_KEY);
+            return JsonRecordReader.readRecords(responseBody.byteStream(), "records", recordType,
+                    record -> handler.accept(record, requestId));
+        } catch (IOException e) {
+            throw new ApiClientException("Network error executing HTTP request", e);
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #sendStreamingRequest}. The body is written on the HTTP dispatcher's thread.
+     */
+    protected <T> CompletableFuture<ApiClientHttpResponse<T>> sendStreamingRequestAsync(
+            StreamingJsonRequestBody body, Class<T> responseType, Map<String, String> headers, String... pathSegments) {
+        CompletableFuture<ApiClientHttpResponse<T>> future = new CompletableFuture<>();
+        newStreamingCall(body, headers, pathSegments).enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                try {
+                    future.complete(toApiClientHttpResponse(response, responseType));
+                } catch (IOException e) {
+                    future.completeExceptionally(new ApiClientException("Network error executing HTTP request", e));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    response.close();
+                }
+            }
+
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(new ApiClientException("Network error executing HTTP request", e));
+            }
+        });
+        return future;
     }
 
     protected DeidentifyTextResponse getDeIdentifyTextResponse(DeidentifyStringResponse deidentifyStringResponse) {
@@ -832,23 +1211,114 @@ public class VaultClient {
         if (!vaultURL.equals(this.currentVaultURL)) {
             this.currentVaultURL = vaultURL;
             this.apiClientBuilder.url(vaultURL);
+            this.asyncApiClientBuilder.url(vaultURL);
             this.apiClient = null;
+            this.asyncApiClient = null;
         }
     }
 
-    private void updateExecutorInHTTP() {
+    private TransportConfig getTransportConfig() {
+        return this.vaultConfig.getTransportConfig() != null
+                ? this.vaultConfig.getTransportConfig() : this.commonTransportConfig;
+    }
+
+    // Replaces the limiter when the vault config names a different rate limit config. The new one starts from its
+    // initial rate.
+    private synchronized void updateRateLimiter() {
+        RateLimitConfig rateLimitConfig = this.vaultConfig.getRateLimitConfig();
+        if (rateLimitConfig != this.currentRateLimitConfig) {
+            this.currentRateLimitConfig = rateLimitConfig;
+            this.rateLimiter = rateLimitConfig == null ? null : new AdaptiveRateLimiter(rateLimitConfig);
+        }
+    }
+
+    private void updateTransport() {
+        TransportConfig transportConfig = getTransportConfig();
+        if (transportConfig != this.currentTransportConfig) {
+            this.currentTransportConfig = transportConfig;
+            resetHttpClient();
+        }
+    }
+
+    private synchronized void resetHttpClient() {
+        this.sharedHttpClient = null;
+        this.probeHttpClient = null;
+        this.apiClient = null;
+        this.asyncApiClient = null;
+    }
+
+    private synchronized void updateExecutorInHTTP() {
         if (sharedHttpClient == null) {
-            sharedHttpClient = new OkHttpClient.Builder()
-                    .connectionPool(new ConnectionPool(10, 1, TimeUnit.MINUTES))
-                    .addInterceptor(chain -> {
-                        Request requestWithAuth = chain.request().newBuilder()
-                                .header("Authorization", "Bearer " + this.token)
-                                .build();
-                        return chain.proceed(requestWithAuth);
-                    })
+            currentTransportConfig = getTransportConfig();
+            sharedHttpClient = HttpUtility.newClientBuilder(rootHttpClient, currentTransportConfig)
+                    .addInterceptor(authInterceptor)
+                    .addInterceptor(compressionInterceptor)
+                    .addInterceptor(new RetryPolicyInterceptor(this.vaultConfig::getRetryPolicy))
+                    .addInterceptor(new RateLimitInterceptor(() -> this.rateLimiter))
                     .build();
             apiClientBuilder.httpClient(sharedHttpClient);
+            asyncApiClientBuilder.httpClient(sharedHttpClient);
+        }
+    }
+
+    private synchronized OkHttpClient getSharedHttpClient() {
+        updateExecutorInHTTP();
+        return sharedHttpClient;
+    }
+
+    private Call newStreamingCall(RequestBody body, Map<String, String> headers, String... pathSegments) {
+        return newVaultCall(getVaultUrl(pathSegments).build(), body, headers);
+    }
+
+    private Call newVaultCall(HttpUrl url, RequestBody body, Map<String, String> headers) {
+        Request request = new Request.Builder()
+                .url(url)
+                .method(body != null ? "POST" : "GET", body)
+                .headers(Headers.of(headers))
+                .addHeader("Accept", "application/json")
+                .build();
+        return getSharedHttpClient().newCall(request);
+    }
+
+    private static <T> ApiClientHttpResponse<T> toApiClientHttpResponse(Response response, Class<T> responseType)
+            throws IOException {
+        ResponseBody responseBody = response.body();
+        if (response.isSuccessful()) {
+            return new ApiClientHttpResponse<>(
+                    ObjectMappers.JSON_MAPPER.readValue(responseBody.string(), responseType), response);
         }
+        throw toApiClientApiException(response);
+    }
+
+    private static ApiClientApiException toApiClientApiException(Response response) throws IOException {
+        ResponseBody responseBody = response.body();
+        String responseBodyString = responseBody != null ? responseBody.string() : "{}";
+        return new ApiClientApiException("Error with status code " + response.code(), response.code(),
+                ObjectMappers.JSON_MAPPER.readValue(responseBodyString, Object.class), response);
+    }
+
+    private synchronized OkHttpClient getProbeHttpClient() {
+        updateExecutorInHTTP();
+        if (probeHttpClient == null) {
+            // Same pool and dispatcher as the vault client, without the SDK's auth, retry and rate limit interceptors.
+            OkHttpClient.Builder probeBuilder = sharedHttpClient.newBuilder();
+            probeBuilder.interceptors().removeIf(i -> i == authInterceptor || i instanceof RetryPolicyInterceptor
+                    || i instanceof RateLimitInterceptor);
+            probeHttpClient = probeBuilder.build();
+        }
+        return probeHttpClient;
+    }
+
+    private synchronized TokenManager getTokenManager() {
+        if (tokenManager == null) {
+            tokenManager = TokenManagerPool.get(this.finalCredentials);
+        }
+        return tokenManager;
+    }
+
+    private synchronized void resetTokenManager() {
+        // Pooled managers may be shared with other clients, so they are released rather than closed.
+        tokenManager = null;
     }
 
     private void prioritiseCredentials() throws SkyflowException {
@@ -872,6 +1342,7 @@ public class VaultClient {
             if (original != null && !original.equals(this.finalCredentials)) {
                 token = null;
                 apiKey = null;
+                resetTokenManager();
             }
         } catch (DotenvException e) {
             throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(),
@@ -882,4 +1353,22 @@ public class VaultClient {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Holds the client weakly so that a running keeper does not keep an abandoned client, and its connection pool,
+     * reachable.
+     */
+    private static final class ProbeSupplier implements Supplier<ConnectionKeeper.Probe> {
+        private final WeakReference<VaultClient> client;
+
+        private ProbeSupplier(VaultClient client) {
+            this.client = new WeakReference<>(client);
+        }
+
+        @Override
+        public ConnectionKeeper.Probe get() {
+            VaultClient vaultClient = client.get();
+            return vaultClient == null ? null : vaultClient::probeConnection;
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package com.skyflow.config;
+
+import com.skyflow.utils.Constants;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Settings for micro-batching single-item requests. Requests are collected for up to {@code windowMillis} after the
+ * first one arrives, or until {@code maxBatchSize} are waiting, and are then sent as one vault call. A longer window
+ * gives fuller batches at the cost of added latency for each request.
+ */
+public class BatchConfig {
+    private Long windowMillis;
+    private Integer maxBatchSize;
+    private Executor executor;
+
+    public BatchConfig() {
+        this.windowMillis = Constants.DEFAULT_BATCH_WINDOW_MILLIS;
+        this.maxBatchSize = Constants.DEFAULT_BATCH_MAX_SIZE;
+        this.executor = null;
+    }
+
+    public Long getWindowMillis() {
+        return windowMillis;
+    }
+
+    public void setWindowMillis(Long windowMillis) {
+        this.windowMillis = windowMillis == null ? Constants.DEFAULT_BATCH_WINDOW_MILLIS : windowMillis;
+    }
+
+    public Integer getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(Integer maxBatchSize) {
+        this.maxBatchSize = maxBatchSize == null ? Constants.DEFAULT_BATCH_MAX_SIZE : maxBatchSize;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor that sends each batch: it validates the batch, fetches the bearer token when needed and
+     * starts the vault call. The common {@code ForkJoinPool} is used when {@code null}.
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+}
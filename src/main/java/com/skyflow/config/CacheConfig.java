@@ -0,0 +1,33 @@
+package com.skyflow.config;
+
+import com.skyflow.utils.Constants;
+
+/**
+ * Size and lifetime bounds for an opt-in client-side cache. Entries are evicted least recently used first once
+ * {@code maxEntries} is reached and are never served after {@code ttlSeconds} have elapsed since they were stored.
+ */
+public class CacheConfig {
+    private Integer maxEntries;
+    private Long ttlSeconds;
+
+    public CacheConfig() {
+        this.maxEntries = Constants.DEFAULT_CACHE_MAX_ENTRIES;
+        this.ttlSeconds = Constants.DEFAULT_CACHE_TTL_SECONDS;
+    }
+
+    public Integer getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(Integer maxEntries) {
+        this.maxEntries = maxEntries == null ? Constants.DEFAULT_CACHE_MAX_ENTRIES : maxEntries;
+    }
+
+    public Long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    public void setTtlSeconds(Long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds == null ? Constants.DEFAULT_CACHE_TTL_SECONDS : ttlSeconds;
+    }
+}
@@ -0,0 +1,35 @@
+package com.skyflow.config;
+
+import com.skyflow.enums.CompressionAlgorithm;
+import com.skyflow.utils.Constants;
+
+/**
+ * Settings for opt-in request body compression. Bodies of at least {@code minSizeBytes} are compressed with
+ * {@code algorithm} and sent with a matching {@code Content-Encoding} header. Smaller bodies are sent as they are,
+ * because the header and CPU time outweigh the saving.
+ */
+public class CompressionConfig {
+    private CompressionAlgorithm algorithm;
+    private Long minSizeBytes;
+
+    public CompressionConfig() {
+        this.algorithm = CompressionAlgorithm.GZIP;
+        this.minSizeBytes = Constants.DEFAULT_COMPRESSION_MIN_SIZE_BYTES;
+    }
+
+    public CompressionAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(CompressionAlgorithm algorithm) {
+        this.algorithm = algorithm == null ? CompressionAlgorithm.GZIP : algorithm;
+    }
+
+    public Long getMinSizeBytes() {
+        return minSizeBytes;
+    }
+
+    public void setMinSizeBytes(Long minSizeBytes) {
+        this.minSizeBytes = minSizeBytes == null ? Constants.DEFAULT_COMPRESSION_MIN_SIZE_BYTES : minSizeBytes;
+    }
+}
@@ -4,11 +4,13 @@ public class ConnectionConfig {
     private String connectionId;
     private String connectionUrl;
     private Credentials credentials;
+    private RetryPolicy retryPolicy;
 
     public ConnectionConfig() {
         this.connectionId = null;
         this.connectionUrl = null;
         this.credentials = null;
+        this.retryPolicy = null;
     }
 
     public String getConnectionId() {
@@ -35,4 +37,14 @@ public class ConnectionConfig {
         this.credentials = credentials;
     }
 
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Sets how failed connection calls are retried. Calls are not retried when {@code null}.
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
 }
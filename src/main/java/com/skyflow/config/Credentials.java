@@ -1,5 +1,8 @@
 package com.skyflow.config;
 
+import com.skyflow.serviceaccount.util.TokenStore;
+import com.skyflow.utils.Constants;
+
 import java.util.ArrayList;
 import java.util.Map;
 
@@ -10,11 +13,14 @@ public class Credentials {
     private String credentialsString;
     private String token;
     private String apiKey;
+    private Long tokenRefreshMarginSeconds;
+    private TokenStore tokenStore;
 
     public Credentials() {
         this.path = null;
         this.context = null;
         this.credentialsString = null;
+        this.tokenRefreshMarginSeconds = Constants.DEFAULT_TOKEN_REFRESH_MARGIN_SECONDS;
     }
 
     public String getPath() {
@@ -68,4 +74,30 @@ public class Credentials {
     public void setApiKey(String apiKey) {
         this.apiKey = apiKey;
     }
+
+    public Long getTokenRefreshMarginSeconds() {
+        return tokenRefreshMarginSeconds;
+    }
+
+    /**
+     * How long before a bearer token generated from {@code path} or {@code credentialsString} expires it is
+     * refreshed in the background. {@code 0} disables background refresh, so tokens are only regenerated on the
+     * first call after they expire.
+     */
+    public void setTokenRefreshMarginSeconds(Long tokenRefreshMarginSeconds) {
+        this.tokenRefreshMarginSeconds = tokenRefreshMarginSeconds == null
+                ? Constants.DEFAULT_TOKEN_REFRESH_MARGIN_SECONDS : tokenRefreshMarginSeconds;
+    }
+
+    public TokenStore getTokenStore() {
+        return tokenStore;
+    }
+
+    /**
+     * Persists bearer tokens generated from {@code path} or {@code credentialsString} so a new process can reuse a
+     * still valid token instead of requesting one. Not set by default.
+     */
+    public void setTokenStore(TokenStore tokenStore) {
+        this.tokenStore = tokenStore;
+    }
 }
@@ -0,0 +1,85 @@
+package com.skyflow.config;
+
+import com.skyflow.utils.Constants;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Settings for an insert buffer. Buffered records are sent as one insert call when {@code maxBatchRecords} are
+ * waiting, when their JSON size reaches {@code maxBatchBytes}, or {@code flushIntervalMillis} after the first of
+ * them was buffered, whichever comes first. {@code maxBufferedBytes} caps the memory held by records that are
+ * waiting or in flight; when it is reached, new records wait for space or are rejected, depending on
+ * {@code blockWhenFull}.
+ */
+public class InsertBufferConfig {
+    private Integer maxBatchRecords;
+    private Long maxBatchBytes;
+    private Long flushIntervalMillis;
+    private Long maxBufferedBytes;
+    private Boolean blockWhenFull;
+    private Executor executor;
+
+    public InsertBufferConfig() {
+        this.maxBatchRecords = Constants.DEFAULT_INSERT_BUFFER_MAX_BATCH_RECORDS;
+        this.maxBatchBytes = Constants.DEFAULT_INSERT_BUFFER_MAX_BATCH_BYTES;
+        this.flushIntervalMillis = Constants.DEFAULT_INSERT_BUFFER_FLUSH_INTERVAL_MILLIS;
+        this.maxBufferedBytes = Constants.DEFAULT_INSERT_BUFFER_MAX_BUFFERED_BYTES;
+        this.blockWhenFull = true;
+        this.executor = null;
+    }
+
+    public Integer getMaxBatchRecords() {
+        return maxBatchRecords;
+    }
+
+    public void setMaxBatchRecords(Integer maxBatchRecords) {
+        this.maxBatchRecords = maxBatchRecords == null
+                ? Constants.DEFAULT_INSERT_BUFFER_MAX_BATCH_RECORDS : maxBatchRecords;
+    }
+
+    public Long getMaxBatchBytes() {
+        return maxBatchBytes;
+    }
+
+    public void setMaxBatchBytes(Long maxBatchBytes) {
+        this.maxBatchBytes = maxBatchBytes == null ? Constants.DEFAULT_INSERT_BUFFER_MAX_BATCH_BYTES : maxBatchBytes;
+    }
+
+    public Long getFlushIntervalMillis() {
+        return flushIntervalMillis;
+    }
+
+    public void setFlushIntervalMillis(Long flushIntervalMillis) {
+        this.flushIntervalMillis = flushIntervalMillis == null
+                ? Constants.DEFAULT_INSERT_BUFFER_FLUSH_INTERVAL_MILLIS : flushIntervalMillis;
+    }
+
+    public Long getMaxBufferedBytes() {
+        return maxBufferedBytes;
+    }
+
+    public void setMaxBufferedBytes(Long maxBufferedBytes) {
+        this.maxBufferedBytes = maxBufferedBytes == null
+                ? Constants.DEFAULT_INSERT_BUFFER_MAX_BUFFERED_BYTES : maxBufferedBytes;
+    }
+
+    public Boolean getBlockWhenFull() {
+        return blockWhenFull;
+    }
+
+    public void setBlockWhenFull(Boolean blockWhenFull) {
+        this.blockWhenFull = blockWhenFull == null || blockWhenFull;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor that sends each batch: it validates the insert call, fetches the bearer token when needed
+     * and starts the vault call. The common {@code ForkJoinPool} is used when {@code null}.
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+}
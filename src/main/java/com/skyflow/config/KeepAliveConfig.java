@@ -0,0 +1,37 @@
+package com.skyflow.config;
+
+import com.skyflow.utils.Constants;
+
+/**
+ * Settings for the opt-in background connection keeper. Every {@code probeIntervalSeconds} the keeper sends
+ * {@code minWarmConnections} concurrent lightweight requests to the vault so that at least that many pooled
+ * connections stay open. Keep the interval below the transport's keep-alive duration, otherwise idle connections
+ * are evicted between probes.
+ */
+public class KeepAliveConfig {
+    private Integer minWarmConnections;
+    private Long probeIntervalSeconds;
+
+    public KeepAliveConfig() {
+        this.minWarmConnections = Constants.DEFAULT_KEEP_ALIVE_MIN_WARM_CONNECTIONS;
+        this.probeIntervalSeconds = Constants.DEFAULT_KEEP_ALIVE_PROBE_INTERVAL_SECONDS;
+    }
+
+    public Integer getMinWarmConnections() {
+        return minWarmConnections;
+    }
+
+    public void setMinWarmConnections(Integer minWarmConnections) {
+        this.minWarmConnections = minWarmConnections == null
+                ? Constants.DEFAULT_KEEP_ALIVE_MIN_WARM_CONNECTIONS : minWarmConnections;
+    }
+
+    public Long getProbeIntervalSeconds() {
+        return probeIntervalSeconds;
+    }
+
+    public void setProbeIntervalSeconds(Long probeIntervalSeconds) {
+        this.probeIntervalSeconds = probeIntervalSeconds == null
+                ? Constants.DEFAULT_KEEP_ALIVE_PROBE_INTERVAL_SECONDS : probeIntervalSeconds;
+    }
+}
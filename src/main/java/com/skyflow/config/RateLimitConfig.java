@@ -0,0 +1,81 @@
+package com.skyflow.config;
+
+import com.skyflow.utils.Constants;
+
+/**
+ * Settings for the opt-in client-side rate limiter of a vault. Requests take permits from a token bucket that
+ * refills at the current rate and holds up to {@code burstSize} permits. The rate adapts to the vault's quota
+ * (additive increase, multiplicative decrease): every successful response raises it so that it grows by about
+ * {@code additiveIncrease} requests per second each second while the limiter is fully used, and a 429 or 503
+ * response multiplies it by {@code decreaseFactor}. The rate stays between
+ * {@code minRate} and {@code maxRate}. Rates are in requests per second.
+ */
+public class RateLimitConfig {
+    private Double initialRate;
+    private Double minRate;
+    private Double maxRate;
+    private Double additiveIncrease;
+    private Double decreaseFactor;
+    private Integer burstSize;
+
+    public RateLimitConfig() {
+        this.initialRate = Constants.DEFAULT_RATE_LIMIT_INITIAL_RATE;
+        this.minRate = Constants.DEFAULT_RATE_LIMIT_MIN_RATE;
+        this.maxRate = Constants.DEFAULT_RATE_LIMIT_MAX_RATE;
+        this.additiveIncrease = Constants.DEFAULT_RATE_LIMIT_ADDITIVE_INCREASE;
+        this.decreaseFactor = Constants.DEFAULT_RATE_LIMIT_DECREASE_FACTOR;
+        this.burstSize = Constants.DEFAULT_RATE_LIMIT_BURST_SIZE;
+    }
+
+    public Double getInitialRate() {
+        return initialRate;
+    }
+
+    public void setInitialRate(Double initialRate) {
+        this.initialRate = initialRate == null ? Constants.DEFAULT_RATE_LIMIT_INITIAL_RATE : initialRate;
+    }
+
+    public Double getMinRate() {
+        return minRate;
+    }
+
+    public void setMinRate(Double minRate) {
+        this.minRate = minRate == null ? Constants.DEFAULT_RATE_LIMIT_MIN_RATE : minRate;
+    }
+
+    public Double getMaxRate() {
+        return maxRate;
+    }
+
+    public void setMaxRate(Double maxRate) {
+        this.maxRate = maxRate == null ? Constants.DEFAULT_RATE_LIMIT_MAX_RATE : maxRate;
+    }
+
+    public Double getAdditiveIncrease() {
+        return additiveIncrease;
+    }
+
+    public void setAdditiveIncrease(Double additiveIncrease) {
+        this.additiveIncrease = additiveIncrease == null
+                ? Constants.DEFAULT_RATE_LIMIT_ADDITIVE_INCREASE : additiveIncrease;
+    }
+
+    public Double getDecreaseFactor() {
+        return decreaseFactor;
+    }
+
+    public void setDecreaseFactor(Double decreaseFactor) {
+        this.decreaseFactor = decreaseFactor == null ? Constants.DEFAULT_RATE_LIMIT_DECREASE_FACTOR : decreaseFactor;
+    }
+
+    public Integer getBurstSize() {
+        return burstSize;
+    }
+
+    /**
+     * Most requests that can be sent back to back after the limiter was idle.
+     */
+    public void setBurstSize(Integer burstSize) {
+        this.burstSize = burstSize == null ? Constants.DEFAULT_RATE_LIMIT_BURST_SIZE : burstSize;
+    }
+}
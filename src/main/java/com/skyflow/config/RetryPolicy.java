@@ -0,0 +1,93 @@
+package com.skyflow.config;
+
+import com.skyflow.utils.Constants;
+
+/**
+ * Controls how failed HTTP calls are retried. Retries are opt-in: calls to a vault or connection without a policy
+ * are sent once. The delay before each retry is drawn uniformly between 0 and
+ * {@code min(maxBackoffMillis, baseBackoffMillis * 2^(retry - 1))} ("full jitter"), unless the server sent a
+ * {@code Retry-After} header with a 429 or 503 response, which is honored instead. No retry is started once
+ * {@code retryBudgetMillis} would be exceeded. Set {@code maxAttempts} to 1 to disable retries.
+ * <p>
+ * Throttling (429) and unavailable (503) responses are retried for every method because the server did not process
+ * the request. Other 5xx and 408 responses and network errors are only retried for idempotent methods unless
+ * {@code retryNonIdempotentRequests} is set, since the call may already have taken effect. Connection failures
+ * where the request was never sent are always retried.
+ * <p>
+ * The delay before a retry blocks the thread running the call. For asynchronous calls that is an OkHttp dispatcher
+ * thread, so long backoffs hold dispatcher slots that other calls may be waiting for.
+ */
+public class RetryPolicy {
+    private Integer maxAttempts;
+    private Long baseBackoffMillis;
+    private Long maxBackoffMillis;
+    private Long retryBudgetMillis;
+    private Boolean respectRetryAfter;
+    private Boolean retryNonIdempotentRequests;
+
+    public RetryPolicy() {
+        this.maxAttempts = Constants.DEFAULT_RETRY_MAX_ATTEMPTS;
+        this.baseBackoffMillis = Constants.DEFAULT_RETRY_BASE_BACKOFF_MILLIS;
+        this.maxBackoffMillis = Constants.DEFAULT_RETRY_MAX_BACKOFF_MILLIS;
+        this.retryBudgetMillis = Constants.DEFAULT_RETRY_BUDGET_MILLIS;
+        this.respectRetryAfter = true;
+        this.retryNonIdempotentRequests = false;
+    }
+
+    public Integer getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Total number of attempts including the first one.
+     */
+    public void setMaxAttempts(Integer maxAttempts) {
+        this.maxAttempts = maxAttempts == null ? Constants.DEFAULT_RETRY_MAX_ATTEMPTS : maxAttempts;
+    }
+
+    public Long getBaseBackoffMillis() {
+        return baseBackoffMillis;
+    }
+
+    public void setBaseBackoffMillis(Long baseBackoffMillis) {
+        this.baseBackoffMillis = baseBackoffMillis == null
+                ? Constants.DEFAULT_RETRY_BASE_BACKOFF_MILLIS : baseBackoffMillis;
+    }
+
+    public Long getMaxBackoffMillis() {
+        return maxBackoffMillis;
+    }
+
+    public void setMaxBackoffMillis(Long maxBackoffMillis) {
+        this.maxBackoffMillis = maxBackoffMillis == null
+                ? Constants.DEFAULT_RETRY_MAX_BACKOFF_MILLIS : maxBackoffMillis;
+    }
+
+    public Long getRetryBudgetMillis() {
+        return retryBudgetMillis;
+    }
+
+    /**
+     * Upper bound on the time spent retrying a single call, measured from the start of the first attempt.
+     */
+    public void setRetryBudgetMillis(Long retryBudgetMillis) {
+        this.retryBudgetMillis = retryBudgetMillis == null
+                ? Constants.DEFAULT_RETRY_BUDGET_MILLIS : retryBudgetMillis;
+    }
+
+    public Boolean getRespectRetryAfter() {
+        return respectRetryAfter;
+    }
+
+    public void setRespectRetryAfter(Boolean respectRetryAfter) {
+        this.respectRetryAfter = respectRetryAfter == null || respectRetryAfter;
+    }
+
+    public Boolean getRetryNonIdempotentRequests() {
+        return retryNonIdempotentRequests;
+    }
+
+    public void setRetryNonIdempotentRequests(Boolean retryNonIdempotentRequests) {
+        this.retryNonIdempotentRequests = retryNonIdempotentRequests != null && retryNonIdempotentRequests;
+    }
+}
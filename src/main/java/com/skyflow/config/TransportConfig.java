@@ -0,0 +1,150 @@
+package com.skyflow.config;
+
+import com.skyflow.enums.HttpProtocol;
+import okhttp3.OkHttpClient;
+
+/**
+ * HTTP transport settings for vault calls. Settings left {@code null} keep the value of the base client: the
+ * supplied {@link OkHttpClient} when one is set, otherwise a client with the SDK defaults. The SDK adds its
+ * authorization and retry interceptors on top of the supplied client, which is never modified.
+ */
+public class TransportConfig {
+    private Integer maxIdleConnections;
+    private Long keepAliveDurationSeconds;
+    private Integer maxRequests;
+    private Integer maxRequestsPerHost;
+    private Long connectTimeoutMillis;
+    private Long readTimeoutMillis;
+    private Long writeTimeoutMillis;
+    private Long callTimeoutMillis;
+    private HttpProtocol httpProtocol;
+    private Long pingIntervalMillis;
+    private OkHttpClient httpClient;
+
+    public TransportConfig() {
+        this.maxIdleConnections = null;
+        this.keepAliveDurationSeconds = null;
+        this.maxRequests = null;
+        this.maxRequestsPerHost = null;
+        this.connectTimeoutMillis = null;
+        this.readTimeoutMillis = null;
+        this.writeTimeoutMillis = null;
+        this.callTimeoutMillis = null;
+        this.httpProtocol = null;
+        this.pingIntervalMillis = null;
+        this.httpClient = null;
+    }
+
+    public Integer getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public void setMaxIdleConnections(Integer maxIdleConnections) {
+        this.maxIdleConnections = maxIdleConnections;
+    }
+
+    public Long getKeepAliveDurationSeconds() {
+        return keepAliveDurationSeconds;
+    }
+
+    public void setKeepAliveDurationSeconds(Long keepAliveDurationSeconds) {
+        this.keepAliveDurationSeconds = keepAliveDurationSeconds;
+    }
+
+    public Integer getMaxRequests() {
+        return maxRequests;
+    }
+
+    /**
+     * Maximum number of asynchronous calls in flight across all hosts.
+     */
+    public void setMaxRequests(Integer maxRequests) {
+        this.maxRequests = maxRequests;
+    }
+
+    public Integer getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    /**
+     * Maximum number of asynchronous calls in flight to a single host. With HTTP/2 this is the number of concurrent
+     * streams to the host, and defaults to {@code maxRequests} instead of 5.
+     */
+    public void setMaxRequestsPerHost(Integer maxRequestsPerHost) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    public Long getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public void setConnectTimeoutMillis(Long connectTimeoutMillis) {
+        this.connectTimeoutMillis = connectTimeoutMillis;
+    }
+
+    public Long getReadTimeoutMillis() {
+        return readTimeoutMillis;
+    }
+
+    public void setReadTimeoutMillis(Long readTimeoutMillis) {
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    public Long getWriteTimeoutMillis() {
+        return writeTimeoutMillis;
+    }
+
+    public void setWriteTimeoutMillis(Long writeTimeoutMillis) {
+        this.writeTimeoutMillis = writeTimeoutMillis;
+    }
+
+    public Long getCallTimeoutMillis() {
+        return callTimeoutMillis;
+    }
+
+    /**
+     * Upper bound on a whole call, including retries and redirects. {@code 0} means no limit.
+     */
+    public void setCallTimeoutMillis(Long callTimeoutMillis) {
+        this.callTimeoutMillis = callTimeoutMillis;
+    }
+
+    public HttpProtocol getHttpProtocol() {
+        return httpProtocol;
+    }
+
+    /**
+     * Protocols offered to the vault. {@link HttpProtocol#HTTP_2} negotiates h2 through ALPN and falls back to
+     * HTTP/1.1, so concurrent calls share a few multiplexed connections. Each connection carries as many streams as
+     * the server's {@code SETTINGS_MAX_CONCURRENT_STREAMS} allows before another one is opened.
+     * {@link HttpProtocol#HTTP_2_PRIOR_KNOWLEDGE} speaks cleartext h2 without negotiation and only works with
+     * {@code http://} servers, such as local test servers.
+     */
+    public void setHttpProtocol(HttpProtocol httpProtocol) {
+        this.httpProtocol = httpProtocol;
+    }
+
+    public Long getPingIntervalMillis() {
+        return pingIntervalMillis;
+    }
+
+    /**
+     * Interval of HTTP/2 pings on idle connections, so that a dead connection is detected before the streams
+     * multiplexed on it fail. {@code 0} disables pings.
+     */
+    public void setPingIntervalMillis(Long pingIntervalMillis) {
+        this.pingIntervalMillis = pingIntervalMillis;
+    }
+
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Base client to derive the vault transport from, for example to share a connection pool or add proxy and
+     * TLS settings.
+     */
+    public void setHttpClient(OkHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+}
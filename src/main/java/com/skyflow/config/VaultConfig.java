@@ -7,12 +7,28 @@ public class VaultConfig {
     private String clusterId;
     private Env env;
     private Credentials credentials;
+    private CacheConfig detokenizeCacheConfig;
+    private CacheConfig tokenizeCacheConfig;
+    private Boolean coalesceRequests;
+    private RetryPolicy retryPolicy;
+    private TransportConfig transportConfig;
+    private KeepAliveConfig keepAliveConfig;
+    private CompressionConfig compressionConfig;
+    private RateLimitConfig rateLimitConfig;
 
     public VaultConfig() {
         this.vaultId = null;
         this.clusterId = null;
         this.env = Env.PROD;
         this.credentials = null;
+        this.detokenizeCacheConfig = null;
+        this.tokenizeCacheConfig = null;
+        this.coalesceRequests = false;
+        this.retryPolicy = null;
+        this.transportConfig = null;
+        this.keepAliveConfig = null;
+        this.compressionConfig = null;
+        this.rateLimitConfig = null;
     }
 
     public String getVaultId() {
@@ -46,4 +62,102 @@ public class VaultConfig {
     public void setCredentials(Credentials credentials) {
         this.credentials = credentials;
     }
+
+    public CacheConfig getDetokenizeCacheConfig() {
+        return detokenizeCacheConfig;
+    }
+
+    /**
+     * Enables a client-side cache of detokenized values for this vault. Disabled when {@code null} (the default).
+     * The config is read when the vault is added to the client; {@code updateVaultConfig} does not change it.
+     */
+    public void setDetokenizeCacheConfig(CacheConfig detokenizeCacheConfig) {
+        this.detokenizeCacheConfig = detokenizeCacheConfig;
+    }
+
+    public CacheConfig getTokenizeCacheConfig() {
+        return tokenizeCacheConfig;
+    }
+
+    /**
+     * Enables a client-side cache of tokenize results for this vault, keyed by column group and a SHA-256 hash of
+     * the value. Disabled when {@code null} (the default). The config is read when the vault is added to the client;
+     * {@code updateVaultConfig} does not change it.
+     */
+    public void setTokenizeCacheConfig(CacheConfig tokenizeCacheConfig) {
+        this.tokenizeCacheConfig = tokenizeCacheConfig;
+    }
+
+    public Boolean getCoalesceRequests() {
+        return coalesceRequests;
+    }
+
+    /**
+     * Lets concurrent identical detokenize and get calls on this vault share one HTTP call. Each caller gets its own
+     * copy of the response. Nothing is kept once the call completes. Disabled by default; {@code null} disables it.
+     * The setting is read when the vault is added to the client; {@code updateVaultConfig} does not change it.
+     */
+    public void setCoalesceRequests(Boolean coalesceRequests) {
+        this.coalesceRequests = coalesceRequests != null && coalesceRequests;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Sets how failed calls to this vault are retried. Calls are not retried when {@code null}.
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    public TransportConfig getTransportConfig() {
+        return transportConfig;
+    }
+
+    /**
+     * Sets the HTTP transport for this vault. Falls back to the transport set with
+     * {@code Skyflow.builder().setTransportConfig(...)}, then to the SDK defaults, when {@code null}.
+     */
+    public void setTransportConfig(TransportConfig transportConfig) {
+        this.transportConfig = transportConfig;
+    }
+
+    public KeepAliveConfig getKeepAliveConfig() {
+        return keepAliveConfig;
+    }
+
+    /**
+     * Enables a background keeper that holds warm connections to this vault and records their round-trip time.
+     * Disabled when {@code null} (the default).
+     */
+    public void setKeepAliveConfig(KeepAliveConfig keepAliveConfig) {
+        this.keepAliveConfig = keepAliveConfig;
+    }
+
+    public CompressionConfig getCompressionConfig() {
+        return compressionConfig;
+    }
+
+    /**
+     * Enables compression of large request bodies sent to this vault. Disabled when {@code null} (the default).
+     */
+    public void setCompressionConfig(CompressionConfig compressionConfig) {
+        this.compressionConfig = compressionConfig;
+    }
+
+    public RateLimitConfig getRateLimitConfig() {
+        return rateLimitConfig;
+    }
+
+    /**
+     * Limits the rate of requests to this vault on the client, adapting it to the vault's quota from 429 and 503
+     * responses. The vault and detect clients of the vault share one limiter. Disabled when {@code null} (the
+     * default). A different config set with {@code updateVaultConfig} replaces the limiter, which starts again from
+     * its initial rate.
+     */
+    public void setRateLimitConfig(RateLimitConfig rateLimitConfig) {
+        this.rateLimitConfig = rateLimitConfig;
+    }
 }
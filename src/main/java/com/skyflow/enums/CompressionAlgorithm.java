@@ -0,0 +1,21 @@
+package com.skyflow.enums;
+
+public enum CompressionAlgorithm {
+    GZIP("gzip"),
+    DEFLATE("deflate");
+
+    private final String contentEncoding;
+
+    CompressionAlgorithm(String contentEncoding) {
+        this.contentEncoding = contentEncoding;
+    }
+
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    @Override
+    public String toString() {
+        return contentEncoding;
+    }
+}
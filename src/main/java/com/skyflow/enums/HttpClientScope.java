@@ -0,0 +1,6 @@
+package com.skyflow.enums;
+
+public enum HttpClientScope {
+    JVM,
+    SKYFLOW_INSTANCE
+}
@@ -0,0 +1,23 @@
+package com.skyflow.enums;
+
+import okhttp3.Protocol;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public enum HttpProtocol {
+    HTTP_1_1(Protocol.HTTP_1_1),
+    HTTP_2(Protocol.HTTP_2, Protocol.HTTP_1_1),
+    HTTP_2_PRIOR_KNOWLEDGE(Protocol.H2_PRIOR_KNOWLEDGE);
+
+    private final List<Protocol> protocols;
+
+    HttpProtocol(Protocol... protocols) {
+        this.protocols = Collections.unmodifiableList(Arrays.asList(protocols));
+    }
+
+    public List<Protocol> getProtocols() {
+        return protocols;
+    }
+}
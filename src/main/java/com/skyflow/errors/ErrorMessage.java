@@ -15,6 +15,33 @@ public enum ErrorMessage {
     EmptyVaultId("%s0 Initialization failed. Invalid vault ID. Vault ID must not be empty."),
     InvalidClusterId("%s0 Initialization failed. Invalid cluster ID. Specify cluster ID."),
     EmptyClusterId("%s0 Initialization failed. Invalid cluster ID. Specify a valid cluster ID."),
+    InvalidCacheMaxEntries("%s0 Initialization failed. Invalid cache config. 'maxEntries' must be greater than 0."),
+    InvalidCacheTtl("%s0 Initialization failed. Invalid cache config. 'ttlSeconds' must be greater than 0."),
+    InvalidRetryMaxAttempts("%s0 Initialization failed. Invalid retry policy. 'maxAttempts' must be 1 or more."),
+    InvalidRetryBackoff("%s0 Initialization failed. Invalid retry policy. 'baseBackoffMillis' can not be negative and 'maxBackoffMillis' can not be less than 'baseBackoffMillis'."),
+    InvalidConnectionPoolSettings("%s0 Initialization failed. Invalid transport config. 'maxIdleConnections' can not be negative and 'keepAliveDurationSeconds' must be greater than 0."),
+    InvalidMaxRequests("%s0 Initialization failed. Invalid transport config. 'maxRequests' and 'maxRequestsPerHost' must be 1 or more."),
+    InvalidTransportTimeout("%s0 Initialization failed. Invalid transport config. Timeouts and ping interval can not be negative."),
+    InvalidWarmUpConnections("%s0 Validation error. Invalid warm up connections. Specify a value of 1 or more."),
+    InvalidRecordConsumer("%s0 Validation error. Record consumer can not be null. Specify a consumer for the streamed records."),
+    InvalidKeepAliveMinWarmConnections("%s0 Initialization failed. Invalid keep-alive config. 'minWarmConnections' must be 1 or more."),
+    InvalidKeepAliveProbeInterval("%s0 Initialization failed. Invalid keep-alive config. 'probeIntervalSeconds' must be greater than 0."),
+    InvalidCompressionMinSize("%s0 Initialization failed. Invalid compression config. 'minSizeBytes' can not be negative."),
+    InvalidBatchWindow("%s0 Initialization failed. Invalid batch config. 'windowMillis' can not be negative."),
+    InvalidBatchMaxSize("%s0 Initialization failed. Invalid batch config. 'maxBatchSize' must be 1 or more."),
+    BatcherClosed("%s0 Validation error. The batcher is closed. Create a new batcher to send more requests."),
+    InvalidInsertBufferMaxBatchRecords("%s0 Initialization failed. Invalid insert buffer config. 'maxBatchRecords' must be 1 or more."),
+    InvalidInsertBufferMaxBatchBytes("%s0 Initialization failed. Invalid insert buffer config. 'maxBatchBytes' must be 1 or more."),
+    InvalidInsertBufferFlushInterval("%s0 Initialization failed. Invalid insert buffer config. 'flushIntervalMillis' can not be negative."),
+    InvalidInsertBufferMaxBufferedBytes("%s0 Initialization failed. Invalid insert buffer config. 'maxBufferedBytes' must be 1 or more."),
+    InsertBufferFull("%s0 Validation error. The insert buffer is full. Retry later, or set 'blockWhenFull' to wait for space."),
+    InsertBufferInterrupted("%s0 Interrupted while waiting for space in the insert buffer."),
+    MissingBatchResult("%s0 The vault response has no result for this request in the batch."),
+    InvalidRateLimitRate("%s0 Initialization failed. Invalid rate limit config. 'minRate', 'initialRate' and 'maxRate' must be greater than 0, with 'minRate' <= 'initialRate' <= 'maxRate'."),
+    InvalidRateLimitAdditiveIncrease("%s0 Initialization failed. Invalid rate limit config. 'additiveIncrease' can not be negative."),
+    InvalidRateLimitDecreaseFactor("%s0 Initialization failed. Invalid rate limit config. 'decreaseFactor' must be greater than 0 and less than 1."),
+    InvalidRateLimitBurstSize("%s0 Initialization failed. Invalid rate limit config. 'burstSize' must be 1 or more."),
+    InvalidRetryBudget("%s0 Initialization failed. Invalid retry policy. 'retryBudgetMillis' can not be negative."),
 
     // Connection config
     InvalidConnectionId("%s0 Initialization failed. Invalid connection ID. Specify a valid connection ID."),
@@ -36,6 +63,7 @@ public enum ErrorMessage {
     EmptyContext("%s0 Initialization failed. Invalid context. Specify a valid context."),
     InvalidContextType("%s0 Initialization failed. Invalid context type. Specify context as a String or Map<String, Object>."),
     InvalidContextMapKey("%s0 Initialization failed. Invalid key '%s1' in context map. Keys must contain only alphanumeric characters and underscores."),
+    InvalidTokenRefreshMargin("%s0 Initialization failed. Invalid token refresh margin. Specify a value of 0 or more seconds."),
 
     // Bearer token generation
     FileNotFound("%s0 Initialization failed. Credential file not found at %s1. Verify the file path."),
@@ -68,6 +96,9 @@ public enum ErrorMessage {
     NoTokensWithTokenMode("%s0 Validation error. Tokens weren't specified for records while 'tokenMode' was %s1. Specify tokens."),
     MismatchOfFieldsAndTokens("%s0 Validation error. 'fields' and 'tokens' have different columns names. Verify that 'fields' and 'tokens' columns match."),
     InsufficientTokensPassedForTokenModeEnableStrict("%s0 Validation error. 'tokenMode' is set to 'ENABLE_STRICT', but some fields are missing tokens. Specify tokens for all fields."),
+    InvalidChunkSize("%s0 Validation error. 'chunkSize' must be greater than 0. Specify a valid chunk size."),
+    ChunkSizeRequiresContinueOnError("%s0 Validation error. 'chunkSize' requires 'continueOnError' to be true, because chunks are committed independently. Set 'continueOnError' to true."),
+    InvalidMaxConcurrency("%s0 Validation error. 'maxConcurrency' must be greater than 0. Specify a valid concurrency limit."),
     BatchInsertPartialSuccess("%s0 Insert operation completed with partial success."),
     BatchInsertFailure("%s0 Insert operation failed."),
 
@@ -8,6 +8,33 @@ public enum ErrorLogs {
     EMPTY_VAULT_ID("Invalid vault config. Vault ID can not be empty."),
     CLUSTER_ID_IS_REQUIRED("Invalid vault config. Cluster ID is required."),
     EMPTY_CLUSTER_ID("Invalid vault config. Cluster ID can not be empty."),
+    INVALID_CACHE_MAX_ENTRIES("Invalid vault config. Cache max entries must be greater than 0."),
+    INVALID_CACHE_TTL("Invalid vault config. Cache TTL must be greater than 0."),
+    INVALID_RETRY_MAX_ATTEMPTS("Invalid retry policy. Max attempts must be 1 or more."),
+    INVALID_RETRY_BACKOFF("Invalid retry policy. Backoff must not be negative and max backoff must not be less than base backoff."),
+    INVALID_CONNECTION_POOL_SETTINGS("Invalid transport config. Max idle connections can not be negative and keep-alive duration must be greater than 0."),
+    INVALID_MAX_REQUESTS("Invalid transport config. Max requests and max requests per host must be 1 or more."),
+    INVALID_TRANSPORT_TIMEOUT("Invalid transport config. Timeouts and ping interval can not be negative."),
+    WARM_UP_CONNECTION_FAILED("Failed to open a warm-up connection to %s1: %s2"),
+    INVALID_WARM_UP_CONNECTIONS("Invalid warm up request. Connections must be 1 or more."),
+    INVALID_RECORD_CONSUMER("Invalid streaming request. Record consumer can not be null."),
+    INVALID_KEEP_ALIVE_MIN_WARM_CONNECTIONS("Invalid keep-alive config. Min warm connections must be 1 or more."),
+    INVALID_KEEP_ALIVE_PROBE_INTERVAL("Invalid keep-alive config. Probe interval must be greater than 0."),
+    KEEP_ALIVE_PROBE_FAILED("Keep-alive probe failed: %s1"),
+    INVALID_COMPRESSION_MIN_SIZE("Invalid compression config. Min size can not be negative."),
+    INVALID_BATCH_WINDOW("Invalid batch config. Window can not be negative."),
+    INVALID_BATCH_MAX_SIZE("Invalid batch config. Max batch size must be 1 or more."),
+    INVALID_INSERT_BUFFER_MAX_BATCH_RECORDS("Invalid insert buffer config. Max batch records must be 1 or more."),
+    INVALID_INSERT_BUFFER_MAX_BATCH_BYTES("Invalid insert buffer config. Max batch bytes must be 1 or more."),
+    INVALID_INSERT_BUFFER_FLUSH_INTERVAL("Invalid insert buffer config. Flush interval can not be negative."),
+    INVALID_INSERT_BUFFER_MAX_BUFFERED_BYTES("Invalid insert buffer config. Max buffered bytes must be 1 or more."),
+    INSERT_BUFFER_FULL("Insert buffer for table %s1 is full. Rejected a record of %s2 bytes."),
+    BATCH_REQUEST_FAILED("Batched %s1 request with %s2 items failed: %s3"),
+    INVALID_RATE_LIMIT_RATE("Invalid rate limit config. Rates must be greater than 0, with min rate <= initial rate <= max rate."),
+    INVALID_RATE_LIMIT_ADDITIVE_INCREASE("Invalid rate limit config. Additive increase can not be negative."),
+    INVALID_RATE_LIMIT_DECREASE_FACTOR("Invalid rate limit config. Decrease factor must be greater than 0 and less than 1."),
+    INVALID_RATE_LIMIT_BURST_SIZE("Invalid rate limit config. Burst size must be 1 or more."),
+    INVALID_RETRY_BUDGET("Invalid retry policy. Retry budget can not be negative."),
     CONNECTION_CONFIG_EXISTS("Connection config with connection ID %s1 already exists."),
     CONNECTION_CONFIG_DOES_NOT_EXIST("Connection config with connection ID %s1 doesn't exist."),
     CONNECTION_ID_IS_REQUIRED("Invalid connection config. Connection ID is required."),
@@ -27,6 +54,8 @@ public enum ErrorLogs {
     EMPTY_OR_NULL_CONTEXT("Invalid credentials. Context can not be empty."),
     INVALID_CONTEXT_TYPE("Invalid credentials. Context must be a String or Map<String, Object>."),
     INVALID_CONTEXT_MAP_KEY("Invalid credentials. Context map key '%s1' contains invalid characters."),
+    INVALID_TOKEN_REFRESH_MARGIN("Invalid credentials. Token refresh margin can not be negative."),
+    BEARER_TOKEN_REFRESH_FAILED("Background bearer token refresh failed. Retrying in %s1 seconds."),
 
     // Bearer token generation
     INVALID_BEARER_TOKEN("Bearer token is invalid or expired."),
@@ -45,6 +74,8 @@ public enum ErrorLogs {
     INVALID_KEY_SPEC("Unable to parse RSA private key."),
     BEARER_TOKEN_REJECTED("Bearer token request resulted in failure."),
     SIGNED_DATA_TOKENS_REJECTED("Signed data tokens request resulted in failure."),
+    TOKEN_STORE_READ_FAILED("Failed to read bearer token from token store file %s1. Generating a new token."),
+    TOKEN_STORE_WRITE_FAILED("Failed to write bearer token to token store file %s1."),
 
     // Vault api interfaces
     TABLE_IS_REQUIRED("Invalid %s1 request. Table is required."),
@@ -59,6 +90,9 @@ public enum ErrorLogs {
     EMPTY_OR_NULL_KEY_IN_TOKENS("Invalid %s1 request. Key can not be null or empty in tokens."),
     INSUFFICIENT_TOKENS_PASSED_FOR_TOKEN_MODE_ENABLE_STRICT("Invalid %s1 request. For tokenMode as ENABLE_STRICT, tokens should be passed for all fields."),
     MISMATCH_OF_FIELDS_AND_TOKENS("Invalid %s1 request. Keys for values and tokens are not matching."),
+    INVALID_CHUNK_SIZE("Invalid %s1 request. Chunk size must be greater than 0."),
+    INVALID_MAX_CONCURRENCY("Invalid %s1 request. Max concurrency must be greater than 0."),
+    CHUNK_SIZE_REQUIRES_CONTINUE_ON_ERROR("Invalid %s1 request. Chunk size requires continue on error to be set."),
     INSERT_RECORDS_REJECTED("Insert request resulted in failure."),
     DETOKENIZE_DATA_REQUIRED("Invalid %s1 request. Detokenize data is required."),
     EMPTY_DETOKENIZE_DATA("Invalid %s1 request. Detokenize data can not be empty."),
@@ -17,9 +17,19 @@ public enum InfoLogs {
     BEARER_TOKEN_EXPIRED("Bearer token is invalid or expired."),
     GET_BEARER_TOKEN_TRIGGERED("getBearerToken method triggered."),
     GET_BEARER_TOKEN_SUCCESS("Bearer token generated."),
+    REUSE_STORED_BEARER_TOKEN("Reusing bearer token from token store."),
     GET_SIGNED_DATA_TOKENS_TRIGGERED("getSignedDataTokens method triggered."),
     GET_SIGNED_DATA_TOKEN_SUCCESS("Signed data tokens generated."),
     REUSE_BEARER_TOKEN("Reusing bearer token."),
+    BEARER_TOKEN_REFRESH_SCHEDULED("Scheduled bearer token refresh in %s1 seconds."),
+    BEARER_TOKEN_REFRESHED("Bearer token refreshed in the background."),
+    WARM_UP_COMPLETED("Warmed up vault %s1. Bearer token ready in %s2 ms, %s3 of %s4 connections opened in %s5 ms."),
+    CONNECTION_KEEPER_STARTED("Started connection keeper for vault %s1. Probing %s2 connections every %s3 seconds."),
+    CONNECTION_KEEPER_STOPPED("Stopped connection keeper for vault %s1."),
+    REQUEST_BODY_COMPRESSED("Compressed request body from %s1 to %s2 bytes with %s3 in %s4 ms."),
+    STREAMING_REQUEST_BODY("Streaming request body with %s1 records."),
+    RATE_LIMIT_DECREASED("Vault throttled a request with status %s1. Lowered the request rate to %s2 per second."),
+    RETRYING_REQUEST("Request failed with %s1. Retrying in %s2 ms, attempt %s3 of %s4."),
     REUSE_API_KEY("Reusing api key."),
     GENERATE_BEARER_TOKEN_FROM_CREDENTIALS_TRIGGERED("generateBearerTokenFromCredentials method triggered."),
     GENERATE_BEARER_TOKEN_FROM_CREDENTIALS_STRING_TRIGGERED("generateBearerTokenFromCredentialString method triggered."),
@@ -30,12 +40,15 @@ public enum InfoLogs {
     INSERT_TRIGGERED("Insert method triggered."),
     VALIDATE_INSERT_REQUEST("Validating insert request."),
     INSERT_REQUEST_RESOLVED("Insert request resolved."),
+    INSERT_IN_CHUNKS("Inserting %s1 records in %s2 chunks with up to %s3 concurrent requests."),
     INSERT_SUCCESS("Data inserted."),
 
     // Detokenize interface
     DETOKENIZE_TRIGGERED("Detokenize method triggered."),
     VALIDATE_DETOKENIZE_REQUEST("Validating detokenize request."),
     DETOKENIZE_REQUEST_RESOLVED("Detokenize request resolved."),
+    DETOKENIZE_CACHE_HITS("Resolved %s1 of %s2 tokens from the detokenize cache."),
+    DETOKENIZE_CACHE_INVALIDATED("Invalidated detokenize cache after a write to the vault."),
     DETOKENIZE_PARTIAL_SUCCESS("Data detokenized partially."),
     DETOKENIZE_SUCCESS("Data detokenized."),
 
@@ -67,6 +80,7 @@ public enum InfoLogs {
     TOKENIZE_TRIGGERED("Tokenize method triggered."),
     VALIDATING_TOKENIZE_REQUEST("Validating tokenize request."),
     TOKENIZE_REQUEST_RESOLVED("Tokenize request resolved."),
+    TOKENIZE_VALUES_DEDUPLICATED("Tokenizing %s1 unique values for %s2 requested values, %s3 served from the tokenize cache."),
     TOKENIZE_SUCCESS("Data tokenized."),
 
     // File upload interface
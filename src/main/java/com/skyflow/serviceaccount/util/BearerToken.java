@@ -15,18 +15,16 @@ import com.skyflow.logs.InfoLogs;
 import com.skyflow.utils.Constants;
 import com.skyflow.utils.Utils;
 import com.skyflow.utils.logger.LogUtil;
-import io.jsonwebtoken.Jwts;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.IOException;
 import java.net.MalformedURLException;
-import java.security.PrivateKey;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 public class BearerToken {
     private static final Gson GSON = new GsonBuilder().serializeNulls().create();
@@ -36,6 +34,7 @@ public class BearerToken {
     private final Object ctx;
     private final ArrayList<String> roles;
     private final String credentialsType;
+    private final TokenStore tokenStore;
 
     private BearerToken(BearerTokenBuilder builder) {
         this.credentialsFile = builder.credentialsFile;
@@ -43,110 +42,49 @@ public class BearerToken {
         this.ctx = builder.ctx;
         this.roles = builder.roles;
         this.credentialsType = builder.credentialsType;
+        this.tokenStore = builder.tokenStore;
     }
 
     public static BearerTokenBuilder builder() {
         return new BearerTokenBuilder();
     }
 
-    private static V1GetAuthTokenResponse generateBearerTokenFromCredentials(
-            File credentialsFile, Object context, ArrayList<String> roles
+    private static String generateBearerTokenFromCredentials(
+            File credentialsFile, Object context, ArrayList<String> roles, TokenStore tokenStore
     ) throws SkyflowException {
         LogUtil.printInfoLog(InfoLogs.GENERATE_BEARER_TOKEN_FROM_CREDENTIALS_TRIGGERED.getLog());
-        try {
-            if (credentialsFile == null) {
-                LogUtil.printErrorLog(ErrorLogs.INVALID_CREDENTIALS_FILE.getLog());
-                throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidCredentials.getMessage());
-            }
-            FileReader reader = new FileReader(String.valueOf(credentialsFile));
-            try {
-                JsonObject serviceAccountCredentials = JsonParser.parseReader(reader).getAsJsonObject();
-                return getBearerTokenFromCredentials(serviceAccountCredentials, context, roles);
-            } finally {
-                try { reader.close(); } catch (IOException ignored) {}
-            }
-        } catch (JsonSyntaxException e) {
-            LogUtil.printErrorLog(ErrorLogs.INVALID_CREDENTIALS_FILE_FORMAT.getLog());
-            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), Utils.parameterizedString(
-                    ErrorMessage.FileInvalidJson.getMessage(), credentialsFile.getPath()));
-        } catch (FileNotFoundException e) {
-            LogUtil.printErrorLog(ErrorLogs.CREDENTIALS_FILE_NOT_FOUND.getLog());
-            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), Utils.parameterizedString(
-                    ErrorMessage.FileNotFound.getMessage(), credentialsFile.getPath()));
-        }
+        return getBearerTokenFromCredentials(
+                ServiceAccountCredentials.fromFile(credentialsFile), context, roles, tokenStore);
     }
 
-    private static V1GetAuthTokenResponse generateBearerTokenFromCredentialString(
-            String credentials, Object context, ArrayList<String> roles
+    private static String generateBearerTokenFromCredentialString(
+            String credentials, Object context, ArrayList<String> roles, TokenStore tokenStore
     ) throws SkyflowException {
         LogUtil.printInfoLog(InfoLogs.GENERATE_BEARER_TOKEN_FROM_CREDENTIALS_STRING_TRIGGERED.getLog());
-        try {
-            if (credentials == null || credentials.isEmpty()) {
-                LogUtil.printErrorLog(ErrorLogs.INVALID_CREDENTIALS_STRING.getLog());
-                throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidCredentials.getMessage());
-            }
-            JsonObject serviceAccountCredentials = JsonParser.parseString(credentials).getAsJsonObject();
-            return getBearerTokenFromCredentials(serviceAccountCredentials, context, roles);
-        } catch (JsonSyntaxException e) {
-            LogUtil.printErrorLog(ErrorLogs.INVALID_CREDENTIALS_STRING_FORMAT.getLog());
-            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(),
-                    ErrorMessage.CredentialsStringInvalidJson.getMessage());
-        }
+        return getBearerTokenFromCredentials(
+                ServiceAccountCredentials.fromString(credentials), context, roles, tokenStore);
     }
 
-    private static V1GetAuthTokenResponse getBearerTokenFromCredentials(
-            JsonObject credentials, Object context, ArrayList<String> roles
+    private static String getBearerTokenFromCredentials(
+            ServiceAccountCredentials credentials, Object context, ArrayList<String> roles, TokenStore tokenStore
     ) throws SkyflowException {
         try {
-            JsonElement privateKey = credentials.get("privateKey");
-            if (privateKey == null) {
-                LogUtil.printErrorLog(ErrorLogs.PRIVATE_KEY_IS_REQUIRED.getLog());
-                throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.MissingPrivateKey.getMessage());
-            }
-
-            // Accept both new-form keys (clientId/keyId/tokenUri) and legacy all-caps form for migration
-            JsonElement clientId = credentials.get("clientId");
-            if (clientId == null) {
-                clientId = credentials.get("clientID");
-                if (clientId != null) {
-                    LogUtil.printWarningLog(InfoLogs.DEPRECATED_CREDENTIAL_CLIENT_ID.getLog());
+            credentials.validate(true);
+
+            String tokenStoreKey = null;
+            if (tokenStore != null) {
+                tokenStoreKey = getTokenStoreKey(
+                        credentials.getClientId(), credentials.getKeyId(), credentials.getTokenUri(), roles, context);
+                String storedToken = tokenStore.get(tokenStoreKey);
+                if (isReusable(storedToken)) {
+                    LogUtil.printInfoLog(InfoLogs.REUSE_STORED_BEARER_TOKEN.getLog());
+                    return storedToken;
                 }
             }
-            if (clientId == null) {
-                LogUtil.printErrorLog(ErrorLogs.CLIENT_ID_IS_REQUIRED.getLog());
-                throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.MissingClientId.getMessage());
-            }
 
-            JsonElement keyId = credentials.get("keyId");
-            if (keyId == null) {
-                keyId = credentials.get("keyID");
-                if (keyId != null) {
-                    LogUtil.printWarningLog(InfoLogs.DEPRECATED_CREDENTIAL_KEY_ID.getLog());
-                }
-            }
-            if (keyId == null) {
-                LogUtil.printErrorLog(ErrorLogs.KEY_ID_IS_REQUIRED.getLog());
-                throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.MissingKeyId.getMessage());
-            }
+            String signedUserJWT = credentials.getSignedAssertion(context);
 
-            JsonElement tokenUri = credentials.get("tokenUri");
-            if (tokenUri == null) {
-                tokenUri = credentials.get("tokenURI");
-                if (tokenUri != null) {
-                    LogUtil.printWarningLog(InfoLogs.DEPRECATED_CREDENTIAL_TOKEN_URI.getLog());
-                }
-            }
-            if (tokenUri == null) {
-                LogUtil.printErrorLog(ErrorLogs.TOKEN_URI_IS_REQUIRED.getLog());
-                throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.MissingTokenUri.getMessage());
-            }
-
-            PrivateKey pvtKey = Utils.getPrivateKeyFromPem(privateKey.getAsString());
-            String signedUserJWT = getSignedToken(
-                    clientId.getAsString(), keyId.getAsString(), tokenUri.getAsString(), pvtKey, context
-            );
-
-            String basePath = Utils.getBaseURL(tokenUri.getAsString());
+            String basePath = Utils.getBaseURL(credentials.getTokenUri());
             API_CLIENT_BUILDER.url(basePath);
             ApiClient apiClient = API_CLIENT_BUILDER.token("token").build();
             AuthenticationClient authenticationApi = apiClient.authentication();
@@ -157,7 +95,12 @@ public class BearerToken {
                 String scopedRoles = getScopeUsingRoles(roles);
                 authTokenBuilder.scope(scopedRoles);
             }
-            return authenticationApi.authenticationServiceGetAuthToken(authTokenBuilder.build());
+            V1GetAuthTokenResponse response = authenticationApi.authenticationServiceGetAuthToken(authTokenBuilder.build());
+            String accessToken = response.getAccessToken().get();
+            if (tokenStore != null) {
+                tokenStore.put(tokenStoreKey, accessToken);
+            }
+            return accessToken;
         } catch (MalformedURLException e) {
             LogUtil.printErrorLog(ErrorLogs.INVALID_TOKEN_URI.getLog());
             throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidTokenUri.getMessage());
@@ -168,23 +111,20 @@ public class BearerToken {
         }
     }
 
-    private static String getSignedToken(
-            String clientId, String keyId, String tokenUri, PrivateKey pvtKey, Object context
+    private static String getTokenStoreKey(
+            String clientId, String keyId, String tokenUri, ArrayList<String> roles, Object context
     ) {
-        final Date createdDate = new Date();
-        final Date expirationDate = new Date(createdDate.getTime() + (3600 * 1000));
-        io.jsonwebtoken.JwtBuilder builder = Jwts.builder()
-                .claim("iss", clientId)
-                .claim("key", keyId)
-                .claim("aud", tokenUri)
-                .claim("sub", clientId)
-                .expiration(expirationDate);
-
-        if (context != null) {
-            builder.claim("ctx", context);
-        }
+        List<String> sortedRoles = roles == null ? Collections.<String>emptyList() : new ArrayList<>(roles);
+        Collections.sort(sortedRoles);
+        return GSON.toJson(Arrays.asList(clientId, keyId, tokenUri, sortedRoles, Utils.sortContext(context)));
+    }
 
-        return builder.signWith(pvtKey, Jwts.SIG.RS256).compact();
+    /**
+     * A stored token is only reused if it stays valid long enough for the caller to use it.
+     */
+    private static boolean isReusable(String token) {
+        long remainingMillis = TokenManager.getExpiryMillis(token) - System.currentTimeMillis();
+        return remainingMillis > TimeUnit.SECONDS.toMillis(Constants.TOKEN_STORE_MIN_VALIDITY_SECONDS);
     }
 
     private static String getScopeUsingRoles(ArrayList<String> roles) {
@@ -199,14 +139,13 @@ public class BearerToken {
 
     public synchronized String getBearerToken() throws SkyflowException {
         LogUtil.printInfoLog(InfoLogs.GET_BEARER_TOKEN_TRIGGERED.getLog());
-        V1GetAuthTokenResponse response;
         String accessToken = null;
         if (this.credentialsFile != null && Objects.equals(this.credentialsType, "FILE")) {
-            response = generateBearerTokenFromCredentials(this.credentialsFile, this.ctx, this.roles);
-            accessToken = response.getAccessToken().get();
+            accessToken = generateBearerTokenFromCredentials(
+                    this.credentialsFile, this.ctx, this.roles, this.tokenStore);
         } else if (this.credentialsString != null && Objects.equals(this.credentialsType, "STRING")) {
-            response = generateBearerTokenFromCredentialString(this.credentialsString, this.ctx, this.roles);
-            accessToken = response.getAccessToken().get();
+            accessToken = generateBearerTokenFromCredentialString(
+                    this.credentialsString, this.ctx, this.roles, this.tokenStore);
         }
         LogUtil.printInfoLog(InfoLogs.GET_BEARER_TOKEN_SUCCESS.getLog());
         return accessToken;
@@ -219,6 +158,7 @@ public class BearerToken {
         private Object ctx;
         private ArrayList<String> roles;
         private String credentialsType;
+        private TokenStore tokenStore;
 
         private BearerTokenBuilder() {
         }
@@ -254,6 +194,15 @@ public class BearerToken {
             return this;
         }
 
+        /**
+         * Reuses a still valid token from {@code tokenStore} instead of requesting a new one, and saves newly
+         * generated tokens to it.
+         */
+        public BearerTokenBuilder setTokenStore(TokenStore tokenStore) {
+            this.tokenStore = tokenStore;
+            return this;
+        }
+
         public BearerToken build() {
             return new BearerToken(this);
         }
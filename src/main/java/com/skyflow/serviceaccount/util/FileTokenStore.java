@@ -0,0 +1,140 @@
+package com.skyflow.serviceaccount.util;
+
+import com.skyflow.logs.ErrorLogs;
+import com.skyflow.utils.Constants;
+import com.skyflow.utils.Utils;
+import com.skyflow.utils.logger.LogUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+
+/**
+ * {@link TokenStore} that keeps one file per key in a directory only the current user can access.
+ *
+ * <p>File names are the SHA-256 of the key, so client IDs, roles and context never appear on disk. Tokens are
+ * written to a temporary file and moved into place, so readers never see a partially written token.
+ */
+public class FileTokenStore implements TokenStore {
+    private static final Set<PosixFilePermission> DIRECTORY_PERMISSIONS = PosixFilePermissions.fromString("rwx------");
+    private static final Set<PosixFilePermission> FILE_PERMISSIONS = PosixFilePermissions.fromString("rw-------");
+    private final Path directory;
+
+    /**
+     * Stores tokens in {@code ~/.skyflow/tokens}.
+     */
+    public FileTokenStore() {
+        this(new File(System.getProperty("user.home"), Constants.DEFAULT_TOKEN_STORE_DIRECTORY));
+    }
+
+    public FileTokenStore(File directory) {
+        this.directory = directory.toPath();
+    }
+
+    @Override
+    public String get(String key) {
+        Path file = getFile(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            String token = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim();
+            return token.isEmpty() ? null : token;
+        } catch (IOException | SecurityException e) {
+            LogUtil.printWarningLog(Utils.parameterizedString(
+                    ErrorLogs.TOKEN_STORE_READ_FAILED.getLog(), file.toString()));
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String key, String token) {
+        Path file = getFile(key);
+        Path temp = null;
+        try {
+            createDirectory();
+            temp = createOwnerOnlyFile();
+            Files.write(temp, token.getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | SecurityException e) {
+            LogUtil.printWarningLog(Utils.parameterizedString(
+                    ErrorLogs.TOKEN_STORE_WRITE_FAILED.getLog(), file.toString()));
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        deleteQuietly(getFile(key));
+    }
+
+    private Path getFile(String key) {
+        return directory.resolve(Utils.sha256Hex(key));
+    }
+
+    private void createDirectory() throws IOException {
+        if (Files.isDirectory(directory)) {
+            return;
+        }
+        if (isPosix(directory.getParent())) {
+            Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(DIRECTORY_PERMISSIONS));
+        } else {
+            Files.createDirectories(directory);
+            restrictToOwner(directory.toFile());
+        }
+    }
+
+    private Path createOwnerOnlyFile() throws IOException {
+        if (isPosix(directory)) {
+            return Files.createTempFile(directory, null, ".tmp", PosixFilePermissions.asFileAttribute(FILE_PERMISSIONS));
+        }
+        Path temp = Files.createTempFile(directory, null, ".tmp");
+        restrictToOwner(temp.toFile());
+        return temp;
+    }
+
+    private static boolean isPosix(Path path) {
+        Path existing = path;
+        while (existing != null && !Files.exists(existing)) {
+            existing = existing.getParent();
+        }
+        try {
+            return existing != null && Files.getFileStore(existing).supportsFileAttributeView("posix");
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void restrictToOwner(File file) {
+        file.setReadable(false, false);
+        file.setReadable(true, true);
+        file.setWritable(false, false);
+        file.setWritable(true, true);
+        if (file.isDirectory()) {
+            file.setExecutable(false, false);
+            file.setExecutable(true, true);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException | SecurityException ignored) {
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.skyflow.serviceaccount.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.skyflow.errors.ErrorCode;
+import com.skyflow.errors.ErrorMessage;
+import com.skyflow.errors.SkyflowException;
+import com.skyflow.logs.ErrorLogs;
+import com.skyflow.logs.InfoLogs;
+import com.skyflow.utils.Constants;
+import com.skyflow.utils.Utils;
+import com.skyflow.utils.cache.LruCache;
+import com.skyflow.utils.logger.LogUtil;
+import io.jsonwebtoken.Jwts;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.security.PrivateKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsed service account credentials, cached per credentials file or string so repeated token generation does not
+ * re-read the file, re-parse the JSON or re-decode the private key.
+ *
+ * <p>File-based entries are re-read when the file's modification time or size changes.
+ */
+final class ServiceAccountCredentials {
+    private static final Gson GSON = new Gson();
+    private static final LruCache<String, ServiceAccountCredentials> CACHE = new LruCache<>(
+            Constants.CREDENTIALS_CACHE_MAX_ENTRIES, Constants.CREDENTIALS_CACHE_TTL_MINUTES, TimeUnit.MINUTES);
+
+    private final JsonElement privateKeyPem;
+    private final JsonElement clientId;
+    private final JsonElement keyId;
+    private final JsonElement tokenUri;
+    private final long lastModified;
+    private final long length;
+    // Entries expire once fewer than SIGNED_ASSERTION_MIN_VALIDITY_SECONDS of the assertion's lifetime remain.
+    private final LruCache<String, String> assertions = new LruCache<>(Constants.SIGNED_ASSERTION_CACHE_MAX_ENTRIES,
+            Constants.SIGNED_ASSERTION_LIFETIME_SECONDS - Constants.SIGNED_ASSERTION_MIN_VALIDITY_SECONDS,
+            TimeUnit.SECONDS);
+    private volatile PrivateKey privateKey;
+
+    private ServiceAccountCredentials(JsonObject credentials, long lastModified, long length) {
+        this.privateKeyPem = credentials.get("privateKey");
+        // Accept both new-form keys (clientId/keyId/tokenUri) and legacy all-caps form for migration
+        this.clientId = getField(credentials, "clientId", "clientID", InfoLogs.DEPRECATED_CREDENTIAL_CLIENT_ID);
+        this.keyId = getField(credentials, "keyId", "keyID", InfoLogs.DEPRECATED_CREDENTIAL_KEY_ID);
+        this.tokenUri = getField(credentials, "tokenUri", "tokenURI", InfoLogs.DEPRECATED_CREDENTIAL_TOKEN_URI);
+        this.lastModified = lastModified;
+        this.length = length;
+    }
+
+    static ServiceAccountCredentials fromFile(File credentialsFile) throws SkyflowException {
+        if (credentialsFile == null) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_CREDENTIALS_FILE.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidCredentials.getMessage());
+        }
+        String cacheKey = "file:" + credentialsFile.getAbsolutePath();
+        long lastModified = credentialsFile.lastModified();
+        long length = credentialsFile.length();
+        ServiceAccountCredentials cached = CACHE.get(cacheKey);
+        if (cached != null && lastModified != 0 && cached.lastModified == lastModified && cached.length == length) {
+            return cached;
+        }
+        try {
+            FileReader reader = new FileReader(String.valueOf(credentialsFile));
+            try {
+                JsonObject credentials = JsonParser.parseReader(reader).getAsJsonObject();
+                ServiceAccountCredentials parsed = new ServiceAccountCredentials(credentials, lastModified, length);
+                CACHE.put(cacheKey, parsed);
+                return parsed;
+            } finally {
+                try { reader.close(); } catch (IOException ignored) {}
+            }
+        } catch (JsonSyntaxException e) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_CREDENTIALS_FILE_FORMAT.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), Utils.parameterizedString(
+                    ErrorMessage.FileInvalidJson.getMessage(), credentialsFile.getPath()));
+        } catch (FileNotFoundException e) {
+            LogUtil.printErrorLog(ErrorLogs.CREDENTIALS_FILE_NOT_FOUND.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), Utils.parameterizedString(
+                    ErrorMessage.FileNotFound.getMessage(), credentialsFile.getPath()));
+        }
+    }
+
+    static ServiceAccountCredentials fromString(String credentialsString) throws SkyflowException {
+        if (credentialsString == null || credentialsString.isEmpty()) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_CREDENTIALS_STRING.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidCredentials.getMessage());
+        }
+        String cacheKey = "string:" + Utils.sha256Hex(credentialsString);
+        ServiceAccountCredentials cached = CACHE.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            JsonObject credentials = JsonParser.parseString(credentialsString).getAsJsonObject();
+            ServiceAccountCredentials parsed = new ServiceAccountCredentials(credentials, 0, 0);
+            CACHE.put(cacheKey, parsed);
+            return parsed;
+        } catch (JsonSyntaxException e) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_CREDENTIALS_STRING_FORMAT.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(),
+                    ErrorMessage.CredentialsStringInvalidJson.getMessage());
+        }
+    }
+
+    void validate(boolean tokenUriRequired) throws SkyflowException {
+        if (privateKeyPem == null) {
+            LogUtil.printErrorLog(ErrorLogs.PRIVATE_KEY_IS_REQUIRED.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.MissingPrivateKey.getMessage());
+        }
+        if (clientId == null) {
+            LogUtil.printErrorLog(ErrorLogs.CLIENT_ID_IS_REQUIRED.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.MissingClientId.getMessage());
+        }
+        if (keyId == null) {
+            LogUtil.printErrorLog(ErrorLogs.KEY_ID_IS_REQUIRED.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.MissingKeyId.getMessage());
+        }
+        if (tokenUriRequired && tokenUri == null) {
+            LogUtil.printErrorLog(ErrorLogs.TOKEN_URI_IS_REQUIRED.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.MissingTokenUri.getMessage());
+        }
+    }
+
+    String getClientId() {
+        return clientId.getAsString();
+    }
+
+    String getKeyId() {
+        return keyId.getAsString();
+    }
+
+    String getTokenUri() {
+        return tokenUri.getAsString();
+    }
+
+    PrivateKey getPrivateKey() throws SkyflowException {
+        PrivateKey key = privateKey;
+        if (key == null) {
+            key = Utils.getPrivateKeyFromPem(privateKeyPem.getAsString());
+            privateKey = key;
+        }
+        return key;
+    }
+
+    /**
+     * Returns the signed JWT assertion exchanged for a bearer token. Assertions are valid for an hour and are
+     * reused per context until fewer than five minutes remain.
+     */
+    String getSignedAssertion(Object context) throws SkyflowException {
+        String contextKey = GSON.toJson(Utils.sortContext(context));
+        String assertion = assertions.get(contextKey);
+        if (assertion != null) {
+            return assertion;
+        }
+        Date expirationDate = new Date(System.currentTimeMillis()
+                + TimeUnit.SECONDS.toMillis(Constants.SIGNED_ASSERTION_LIFETIME_SECONDS));
+        io.jsonwebtoken.JwtBuilder builder = Jwts.builder()
+                .claim("iss", getClientId())
+                .claim("key", getKeyId())
+                .claim("aud", getTokenUri())
+                .claim("sub", getClientId())
+                .expiration(expirationDate);
+
+        if (context != null) {
+            builder.claim("ctx", context);
+        }
+
+        assertion = builder.signWith(getPrivateKey(), Jwts.SIG.RS256).compact();
+        assertions.put(contextKey, assertion);
+        return assertion;
+    }
+
+    private static JsonElement getField(JsonObject credentials, String name, String legacyName, InfoLogs deprecation) {
+        JsonElement value = credentials.get(name);
+        if (value == null) {
+            value = credentials.get(legacyName);
+            if (value != null) {
+                LogUtil.printWarningLog(deprecation.getLog());
+            }
+        }
+        return value;
+    }
+}
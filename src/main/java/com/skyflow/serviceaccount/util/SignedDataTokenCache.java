@@ -0,0 +1,64 @@
+package com.skyflow.serviceaccount.util;
+
+import com.google.gson.Gson;
+import com.skyflow.utils.Constants;
+import com.skyflow.utils.Utils;
+import com.skyflow.utils.cache.CacheStats;
+import com.skyflow.utils.cache.LruCache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signed data tokens that {@link SignedDataTokens} can hand out again instead of signing the same data token.
+ *
+ * <p>Entries are keyed by service account, time-to-live, context and data token. A cached signed token is only
+ * returned while at least half of its time-to-live remains, so callers never receive a token much closer to expiry
+ * than one signed on the spot. Share one instance across {@link SignedDataTokens} builds to benefit from it.
+ */
+public final class SignedDataTokenCache {
+    private static final Gson GSON = new Gson();
+    private final LruCache<String, CachedSignedToken> signedTokens;
+
+    public SignedDataTokenCache() {
+        this(Constants.DEFAULT_CACHE_MAX_ENTRIES);
+    }
+
+    public SignedDataTokenCache(int maxEntries) {
+        this.signedTokens = new LruCache<>(Math.max(maxEntries, 1),
+                Constants.SIGNED_DATA_TOKEN_CACHE_MAX_AGE_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public CacheStats getStats() {
+        return signedTokens.getStats();
+    }
+
+    public void invalidateAll() {
+        signedTokens.invalidateAll();
+    }
+
+    static String getKeyPrefix(String clientId, String keyId, long timeToLiveSeconds, Object context) {
+        return clientId + ":" + keyId + ":" + timeToLiveSeconds + ":" + GSON.toJson(Utils.sortContext(context)) + ":";
+    }
+
+    String get(String keyPrefix, String dataToken, long timeToLiveSeconds, long nowMillis) {
+        CachedSignedToken cached = signedTokens.get(keyPrefix + dataToken);
+        if (cached == null || cached.expiresAtMillis - nowMillis < TimeUnit.SECONDS.toMillis(timeToLiveSeconds) / 2) {
+            return null;
+        }
+        return cached.signedToken;
+    }
+
+    void put(String keyPrefix, String dataToken, String signedToken, long expiresAtMillis) {
+        signedTokens.put(keyPrefix + dataToken, new CachedSignedToken(signedToken, expiresAtMillis));
+    }
+
+    private static final class CachedSignedToken {
+        private final String signedToken;
+        private final long expiresAtMillis;
+
+        private CachedSignedToken(String signedToken, long expiresAtMillis) {
+            this.signedToken = signedToken;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
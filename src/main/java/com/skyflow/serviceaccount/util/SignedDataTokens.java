@@ -1,28 +1,24 @@
 package com.skyflow.serviceaccount.util;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import com.google.gson.JsonSyntaxException;
-import com.skyflow.errors.ErrorCode;
-import com.skyflow.errors.ErrorMessage;
 import com.skyflow.errors.SkyflowException;
 import com.skyflow.logs.ErrorLogs;
 import com.skyflow.logs.InfoLogs;
-import com.skyflow.utils.Utils;
+import com.skyflow.utils.Constants;
 import com.skyflow.utils.logger.LogUtil;
 import io.jsonwebtoken.Jwts;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.IOException;
 import java.security.PrivateKey;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 public class SignedDataTokens {
     private final File credentialsFile;
@@ -31,6 +27,8 @@ public class SignedDataTokens {
     private final Object ctx;
     private final ArrayList<String> dataTokens;
     private final Integer timeToLive;
+    private final Executor executor;
+    private final SignedDataTokenCache cache;
 
     private SignedDataTokens(SignedDataTokensBuilder builder) {
         this.credentialsFile = builder.credentialsFile;
@@ -39,99 +37,32 @@ public class SignedDataTokens {
         this.ctx = builder.ctx;
         this.dataTokens = builder.dataTokens;
         this.timeToLive = builder.timeToLive;
+        this.executor = builder.executor;
+        this.cache = builder.cache;
     }
 
     public static SignedDataTokensBuilder builder() {
         return new SignedDataTokensBuilder();
     }
 
-    private static List<SignedDataTokenResponse> generateSignedTokenFromCredentialsFile(
-            File credentialsFile, ArrayList<String> dataTokens, Integer timeToLive, Object context
-    ) throws SkyflowException {
+    private List<SignedDataTokenResponse> generateSignedTokenFromCredentialsFile() throws SkyflowException {
         LogUtil.printInfoLog(InfoLogs.GENERATE_SIGNED_TOKENS_FROM_CREDENTIALS_FILE_TRIGGERED.getLog());
-        List<SignedDataTokenResponse> responseToken;
-        try {
-            if (credentialsFile == null) {
-                LogUtil.printErrorLog(ErrorLogs.INVALID_CREDENTIALS_FILE.getLog());
-                throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidCredentials.getMessage());
-            }
-            FileReader reader = new FileReader(String.valueOf(credentialsFile));
-            try {
-                JsonObject serviceAccountCredentials = JsonParser.parseReader(reader).getAsJsonObject();
-                responseToken = generateSignedTokensFromCredentials(serviceAccountCredentials, dataTokens, timeToLive, context);
-            } finally {
-                try { reader.close(); } catch (IOException ignored) {}
-            }
-        } catch (JsonSyntaxException e) {
-            LogUtil.printErrorLog(ErrorLogs.INVALID_CREDENTIALS_FILE_FORMAT.getLog());
-            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), Utils.parameterizedString(
-                    ErrorMessage.FileInvalidJson.getMessage(), credentialsFile.getPath()));
-        } catch (FileNotFoundException e) {
-            LogUtil.printErrorLog(ErrorLogs.CREDENTIALS_FILE_NOT_FOUND.getLog());
-            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), Utils.parameterizedString(
-                    ErrorMessage.FileNotFound.getMessage(), credentialsFile.getPath()));
-        }
-        return responseToken;
+        return generateSignedTokensFromCredentials(ServiceAccountCredentials.fromFile(this.credentialsFile));
     }
 
-    private static List<SignedDataTokenResponse> generateSignedTokensFromCredentialsString(
-            String credentials, ArrayList<String> dataTokens, Integer timeToLive, Object context
-    ) throws SkyflowException {
+    private List<SignedDataTokenResponse> generateSignedTokensFromCredentialsString() throws SkyflowException {
         LogUtil.printInfoLog(InfoLogs.GENERATE_SIGNED_TOKENS_FROM_CREDENTIALS_STRING_TRIGGERED.getLog());
-        List<SignedDataTokenResponse> responseToken;
-        try {
-            if (credentials == null || credentials.isEmpty()) {
-                LogUtil.printErrorLog(ErrorLogs.INVALID_CREDENTIALS_STRING.getLog());
-                throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidCredentials.getMessage());
-            }
-            JsonObject serviceAccountCredentials = JsonParser.parseString(credentials).getAsJsonObject();
-            responseToken = generateSignedTokensFromCredentials(serviceAccountCredentials, dataTokens, timeToLive, context);
-        } catch (JsonSyntaxException e) {
-            LogUtil.printErrorLog(ErrorLogs.INVALID_CREDENTIALS_STRING_FORMAT.getLog());
-            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(),
-                    ErrorMessage.CredentialsStringInvalidJson.getMessage());
-        }
-        return responseToken;
+        return generateSignedTokensFromCredentials(ServiceAccountCredentials.fromString(this.credentialsString));
     }
 
-    private static List<SignedDataTokenResponse> generateSignedTokensFromCredentials(
-            JsonObject credentials, ArrayList<String> dataTokens, Integer timeToLive, Object context
+    private List<SignedDataTokenResponse> generateSignedTokensFromCredentials(
+            ServiceAccountCredentials credentials
     ) throws SkyflowException {
         List<SignedDataTokenResponse> signedDataTokens = null;
         try {
-            JsonElement privateKey = credentials.get("privateKey");
-            if (privateKey == null) {
-                LogUtil.printErrorLog(ErrorLogs.PRIVATE_KEY_IS_REQUIRED.getLog());
-                throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.MissingPrivateKey.getMessage());
-            }
-
-            // Accept both new-form keys (clientId/keyId) and legacy all-caps form for migration
-            JsonElement clientId = credentials.get("clientId");
-            if (clientId == null) {
-                clientId = credentials.get("clientID");
-                if (clientId != null) {
-                    LogUtil.printWarningLog(InfoLogs.DEPRECATED_CREDENTIAL_CLIENT_ID.getLog());
-                }
-            }
-            if (clientId == null) {
-                LogUtil.printErrorLog(ErrorLogs.CLIENT_ID_IS_REQUIRED.getLog());
-                throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.MissingClientId.getMessage());
-            }
-
-            JsonElement keyId = credentials.get("keyId");
-            if (keyId == null) {
-                keyId = credentials.get("keyID");
-                if (keyId != null) {
-                    LogUtil.printWarningLog(InfoLogs.DEPRECATED_CREDENTIAL_KEY_ID.getLog());
-                }
-            }
-            if (keyId == null) {
-                LogUtil.printErrorLog(ErrorLogs.KEY_ID_IS_REQUIRED.getLog());
-                throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.MissingKeyId.getMessage());
-            }
-            PrivateKey pvtKey = Utils.getPrivateKeyFromPem(privateKey.getAsString());
-            signedDataTokens = getSignedToken(
-                    clientId.getAsString(), keyId.getAsString(), pvtKey, dataTokens, timeToLive, context);
+            credentials.validate(false);
+            PrivateKey pvtKey = credentials.getPrivateKey();
+            signedDataTokens = getSignedToken(credentials.getClientId(), credentials.getKeyId(), pvtKey);
         } catch (RuntimeException e) {
             LogUtil.printErrorLog(ErrorLogs.SIGNED_DATA_TOKENS_REJECTED.getLog());
             throw new SkyflowException(e);
@@ -139,47 +70,100 @@ public class SignedDataTokens {
         return signedDataTokens;
     }
 
-    private static List<SignedDataTokenResponse> getSignedToken(
-            String clientId, String keyId, PrivateKey pvtKey,
-            ArrayList<String> dataTokens, Integer timeToLive, Object context
-    ) {
+    private List<SignedDataTokenResponse> getSignedToken(String clientId, String keyId, PrivateKey pvtKey) {
         final Date createdDate = new Date();
-        final Date expirationDate;
+        final long timeToLiveSeconds = this.timeToLive != null
+                ? this.timeToLive : Constants.DEFAULT_SIGNED_DATA_TOKEN_TTL_SECONDS;
+        final Date expirationDate = new Date(createdDate.getTime() + TimeUnit.SECONDS.toMillis(timeToLiveSeconds));
+        // The exp claim has second precision.
+        final long expiresAtMillis = expirationDate.getTime() / 1000 * 1000;
+
+        String[] signedTokens = new String[this.dataTokens.size()];
+        List<Integer> unsigned = new ArrayList<>();
+        String cacheKeyPrefix = null;
+        if (this.cache != null) {
+            cacheKeyPrefix = SignedDataTokenCache.getKeyPrefix(clientId, keyId, timeToLiveSeconds, this.ctx);
+            for (int index = 0; index < signedTokens.length; index++) {
+                signedTokens[index] = this.cache.get(
+                        cacheKeyPrefix, this.dataTokens.get(index), timeToLiveSeconds, createdDate.getTime());
+                if (signedTokens[index] == null) {
+                    unsigned.add(index);
+                }
+            }
+        } else {
+            for (int index = 0; index < signedTokens.length; index++) {
+                unsigned.add(index);
+            }
+        }
 
-        if (timeToLive != null) {
-            expirationDate = new Date(createdDate.getTime() + (timeToLive * 1000));
+        int parallelism = getParallelism(unsigned.size());
+        if (parallelism <= 1) {
+            signTokens(unsigned, signedTokens, clientId, keyId, pvtKey, createdDate, expirationDate);
         } else {
-            expirationDate = new Date(createdDate.getTime() + 60000); // Valid for 60 seconds
+            // Contiguous slices keep each task's writes to its own positions, so results stay in input order.
+            int sliceSize = (unsigned.size() + parallelism - 1) / parallelism;
+            List<CompletableFuture<Void>> slices = new ArrayList<>();
+            for (int start = 0; start < unsigned.size(); start += sliceSize) {
+                List<Integer> slice = unsigned.subList(start, Math.min(start + sliceSize, unsigned.size()));
+                slices.add(CompletableFuture.runAsync(() -> signTokens(
+                        slice, signedTokens, clientId, keyId, pvtKey, createdDate, expirationDate), this.executor));
+            }
+            try {
+                CompletableFuture.allOf(slices.toArray(new CompletableFuture<?>[0])).join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
         }
 
         List<SignedDataTokenResponse> list = new ArrayList<>();
-        for (String dataToken : dataTokens) {
+        for (int index = 0; index < signedTokens.length; index++) {
+            list.add(new SignedDataTokenResponse(this.dataTokens.get(index), signedTokens[index]));
+        }
+        if (this.cache != null) {
+            for (Integer index : unsigned) {
+                this.cache.put(cacheKeyPrefix, this.dataTokens.get(index), signedTokens[index], expiresAtMillis);
+            }
+        }
+        return list;
+    }
+
+    private void signTokens(
+            List<Integer> indexes, String[] signedTokens, String clientId, String keyId, PrivateKey pvtKey,
+            Date createdDate, Date expirationDate
+    ) {
+        for (Integer index : indexes) {
             io.jsonwebtoken.JwtBuilder builder = Jwts.builder()
                     .claim("iss", "sdk")
                     .claim("iat", (createdDate.getTime() / 1000))
                     .claim("key", keyId)
                     .claim("sub", clientId)
-                    .claim("tok", dataToken)
+                    .claim("tok", this.dataTokens.get(index))
                     .expiration(expirationDate);
 
-            if (context != null) {
-                builder.claim("ctx", context);
+            if (this.ctx != null) {
+                builder.claim("ctx", this.ctx);
             }
 
-            String eachSignedDataToken = builder.signWith(pvtKey, Jwts.SIG.RS256).compact();
-            SignedDataTokenResponse responseObject = new SignedDataTokenResponse(dataToken, eachSignedDataToken);
-            list.add(responseObject);
+            signedTokens[index] = builder.signWith(pvtKey, Jwts.SIG.RS256).compact();
         }
-        return list;
     }
 
-    public synchronized List<SignedDataTokenResponse> getSignedDataTokens() throws SkyflowException {
+    private int getParallelism(int tokenCount) {
+        if (this.executor == null || tokenCount < Constants.MIN_PARALLEL_SIGNED_DATA_TOKENS) {
+            return 1;
+        }
+        int workers = this.executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) this.executor).getParallelism() : Runtime.getRuntime().availableProcessors();
+        return Math.max(1, Math.min(workers, tokenCount));
+    }
+
+    public List<SignedDataTokenResponse> getSignedDataTokens() throws SkyflowException {
         LogUtil.printInfoLog(InfoLogs.GET_SIGNED_DATA_TOKENS_TRIGGERED.getLog());
         List<SignedDataTokenResponse> signedToken = new ArrayList<>();
         if (this.credentialsFile != null && Objects.equals(this.credentialsType, "FILE")) {
-            signedToken = generateSignedTokenFromCredentialsFile(this.credentialsFile, this.dataTokens, this.timeToLive, this.ctx);
+            signedToken = generateSignedTokenFromCredentialsFile();
         } else if (this.credentialsString != null && Objects.equals(this.credentialsType, "STRING")) {
-            signedToken = generateSignedTokensFromCredentialsString(this.credentialsString, this.dataTokens, this.timeToLive, this.ctx);
+            signedToken = generateSignedTokensFromCredentialsString();
         }
         LogUtil.printInfoLog(InfoLogs.GET_SIGNED_DATA_TOKEN_SUCCESS.getLog());
         return signedToken;
@@ -192,6 +176,8 @@ public class SignedDataTokens {
         private String credentialsString;
         private Object ctx;
         private String credentialsType;
+        private Executor executor;
+        private SignedDataTokenCache cache;
 
         private SignedDataTokensBuilder() {
         }
@@ -232,6 +218,31 @@ public class SignedDataTokens {
             return this;
         }
 
+        /**
+         * Signs the data tokens in parallel on {@code executor}. Results keep the order of the data tokens.
+         */
+        public SignedDataTokensBuilder setExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Signs the data tokens in parallel on the common fork-join pool.
+         */
+        public SignedDataTokensBuilder setParallel(boolean parallel) {
+            this.executor = parallel ? ForkJoinPool.commonPool() : null;
+            return this;
+        }
+
+        /**
+         * Returns still valid signed tokens from {@code cache} instead of signing them again, and caches newly
+         * signed tokens.
+         */
+        public SignedDataTokensBuilder setCache(SignedDataTokenCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
         public SignedDataTokens build() {
             return new SignedDataTokens(this);
         }
@@ -0,0 +1,221 @@
+package com.skyflow.serviceaccount.util;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonSyntaxException;
+import com.skyflow.errors.SkyflowException;
+import com.skyflow.logs.ErrorLogs;
+import com.skyflow.logs.InfoLogs;
+import com.skyflow.utils.Constants;
+import com.skyflow.utils.Utils;
+import com.skyflow.utils.logger.LogUtil;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Holds a bearer token together with its parsed expiry so the request path only performs a volatile read.
+ *
+ * <p>When a refresh margin is set, the token is regenerated on a shared daemon thread {@code refreshMarginSeconds}
+ * before it expires. A manager whose token was not read since the previous refresh stops refreshing, so abandoned
+ * clients do not keep minting tokens. A token that is expired, or whose {@code exp} claim cannot be read, is
+ * regenerated by the next caller; concurrent callers share that single fetch.
+ */
+public final class TokenManager {
+    private final TokenFetcher fetcher;
+    private final long refreshMarginSeconds;
+    private final ScheduledExecutorService scheduler;
+    private final LongSupplier clock;
+    private final AtomicReference<CompletableFuture<CachedToken>> inFlight = new AtomicReference<>();
+    private volatile CachedToken current;
+    private volatile boolean accessed;
+    private ScheduledFuture<?> scheduledRefresh;
+    private boolean closed;
+
+    public TokenManager(TokenFetcher fetcher, long refreshMarginSeconds) {
+        this(fetcher, refreshMarginSeconds, refreshMarginSeconds > 0 ? SchedulerHolder.SCHEDULER : null,
+                System::currentTimeMillis);
+    }
+
+    TokenManager(TokenFetcher fetcher, long refreshMarginSeconds, ScheduledExecutorService scheduler, LongSupplier clock) {
+        this.fetcher = fetcher;
+        this.refreshMarginSeconds = refreshMarginSeconds;
+        this.scheduler = scheduler;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a token that has not expired, generating one first if needed.
+     */
+    public String getToken() throws SkyflowException {
+        CachedToken token = current;
+        if (!accessed) {
+            accessed = true;
+        }
+        if (token != null && token.isValid(clock.getAsLong())) {
+            LogUtil.printInfoLog(InfoLogs.REUSE_BEARER_TOKEN.getLog());
+            return token.value;
+        }
+        return refresh(token);
+    }
+
+    /**
+     * Stops background refresh. The manager can still hand out tokens on demand.
+     */
+    public synchronized void close() {
+        closed = true;
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+            scheduledRefresh = null;
+        }
+    }
+
+    private String refresh(CachedToken stale) throws SkyflowException {
+        if (stale != null) {
+            LogUtil.printInfoLog(InfoLogs.BEARER_TOKEN_EXPIRED.getLog());
+        }
+        CachedToken token = acquire(stale);
+        scheduleRefresh(token);
+        return token.value;
+    }
+
+    /**
+     * Replaces {@code stale} with a newly fetched token. Only one fetch runs at a time; callers arriving while it
+     * is in flight wait for the same result instead of fetching again.
+     */
+    private CachedToken acquire(CachedToken stale) throws SkyflowException {
+        while (true) {
+            CompletableFuture<CachedToken> pending = inFlight.get();
+            if (pending != null) {
+                return await(pending);
+            }
+            CompletableFuture<CachedToken> fetch = new CompletableFuture<>();
+            if (!inFlight.compareAndSet(null, fetch)) {
+                continue;
+            }
+            try {
+                CachedToken token = current;
+                // Another caller may have finished a fetch between our read of the token and winning the slot.
+                if (token == stale || token == null || !token.isValid(clock.getAsLong())) {
+                    String value = fetcher.fetch();
+                    token = new CachedToken(value, getExpiryMillis(value));
+                    current = token;
+                }
+                fetch.complete(token);
+                return token;
+            } catch (SkyflowException | RuntimeException e) {
+                fetch.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.compareAndSet(fetch, null);
+            }
+        }
+    }
+
+    private void backgroundRefresh() {
+        synchronized (this) {
+            scheduledRefresh = null;
+            if (closed || !accessed) {
+                return;
+            }
+            accessed = false;
+        }
+        try {
+            CachedToken token = acquire(current);
+            LogUtil.printInfoLog(InfoLogs.BEARER_TOKEN_REFRESHED.getLog());
+            scheduleRefresh(token);
+        } catch (SkyflowException | RuntimeException e) {
+            CachedToken token = current;
+            long remainingMillis = token == null ? 0 : token.expiresAtMillis - clock.getAsLong();
+            long retrySeconds = Math.min(Constants.TOKEN_REFRESH_RETRY_SECONDS, remainingMillis / 2000);
+            if (retrySeconds > 0) {
+                LogUtil.printErrorLog(Utils.parameterizedString(
+                        ErrorLogs.BEARER_TOKEN_REFRESH_FAILED.getLog(), String.valueOf(retrySeconds)));
+                synchronized (this) {
+                    if (!closed && scheduledRefresh == null) {
+                        accessed = true;
+                        scheduledRefresh = scheduler.schedule(this::backgroundRefresh, retrySeconds, TimeUnit.SECONDS);
+                    }
+                }
+            }
+        }
+    }
+
+    private static CachedToken await(CompletableFuture<CachedToken> pending) throws SkyflowException {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof SkyflowException) {
+                throw (SkyflowException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private synchronized void scheduleRefresh(CachedToken token) {
+        if (scheduler == null || closed || scheduledRefresh != null) {
+            return;
+        }
+        long lifetimeMillis = token.expiresAtMillis - clock.getAsLong();
+        if (lifetimeMillis <= 0) {
+            return;
+        }
+        // Never refresh more often than every half lifetime, even if the margin exceeds the token lifetime.
+        long marginMillis = Math.min(TimeUnit.SECONDS.toMillis(refreshMarginSeconds), lifetimeMillis / 2);
+        long delayMillis = lifetimeMillis - marginMillis;
+        LogUtil.printInfoLog(Utils.parameterizedString(
+                InfoLogs.BEARER_TOKEN_REFRESH_SCHEDULED.getLog(), String.valueOf(delayMillis / 1000)));
+        scheduledRefresh = scheduler.schedule(this::backgroundRefresh, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the {@code exp} claim of {@code token} in epoch milliseconds, or {@code 0} when it can't be read,
+     * which makes the token count as expired.
+     */
+    static long getExpiryMillis(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            return 0;
+        }
+        try {
+            JsonElement exp = Token.decoded(token).get("exp");
+            return exp == null ? 0 : TimeUnit.SECONDS.toMillis(exp.getAsLong());
+        } catch (JsonSyntaxException | IllegalArgumentException | IllegalStateException | SkyflowException e) {
+            return 0;
+        }
+    }
+
+    @FunctionalInterface
+    public interface TokenFetcher {
+        String fetch() throws SkyflowException;
+    }
+
+    private static final class CachedToken {
+        private final String value;
+        private final long expiresAtMillis;
+
+        private CachedToken(String value, long expiresAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isValid(long nowMillis) {
+            return nowMillis < expiresAtMillis;
+        }
+    }
+
+    private static final class SchedulerHolder {
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "skyflow-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package com.skyflow.serviceaccount.util;
+
+/**
+ * Persists bearer tokens so they can be reused across process restarts.
+ *
+ * <p>Keys identify the service account, roles and context a token was issued for. Implementations should treat
+ * read and write failures as cache misses rather than throwing, since a token can always be generated again.
+ */
+public interface TokenStore {
+    /**
+     * Returns the token stored under {@code key}, or {@code null} if there is none.
+     */
+    String get(String key);
+
+    void put(String key, String token);
+
+    void remove(String key);
+}
@@ -0,0 +1,138 @@
+package com.skyflow.utils;
+
+import com.skyflow.config.RateLimitConfig;
+import com.skyflow.logs.InfoLogs;
+import com.skyflow.utils.logger.LogUtil;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket whose refill rate follows the vault's quota with additive increase and multiplicative decrease, as
+ * described on {@link RateLimitConfig}. Permits are handed out in order: a caller that finds the bucket empty takes
+ * the next permit in advance and waits until the bucket would have refilled it, so concurrent callers are spread
+ * evenly instead of waking up together.
+ * <p>
+ * Only throttled responses to requests sent after the last decrease lower the rate again, so a burst of 429s for
+ * requests that were already in flight counts as one signal. A {@code Retry-After} delay holds back every permit
+ * until it has passed. Instances are thread-safe.
+ */
+public final class AdaptiveRateLimiter {
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double minRate;
+    private final double maxRate;
+    private final double additiveIncrease;
+    private final double decreaseFactor;
+    private final double burstSize;
+    private final LongSupplier nanoClock;
+    private final Sleeper sleeper;
+    private double rate;
+    private double permits;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+    private long lastDecreaseNanos;
+    private long permitCount;
+    private long throttledCount;
+    private long decreaseCount;
+    private long totalWaitNanos;
+
+    public AdaptiveRateLimiter(RateLimitConfig rateLimitConfig) {
+        this(rateLimitConfig, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+    }
+
+    AdaptiveRateLimiter(RateLimitConfig rateLimitConfig, LongSupplier nanoClock, Sleeper sleeper) {
+        this.minRate = rateLimitConfig.getMinRate();
+        this.maxRate = rateLimitConfig.getMaxRate();
+        this.additiveIncrease = rateLimitConfig.getAdditiveIncrease();
+        this.decreaseFactor = rateLimitConfig.getDecreaseFactor();
+        this.burstSize = rateLimitConfig.getBurstSize();
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+        this.rate = rateLimitConfig.getInitialRate();
+        this.permits = burstSize;
+        long now = nanoClock.getAsLong();
+        this.lastRefillNanos = now;
+        this.pausedUntilNanos = now;
+        this.lastDecreaseNanos = now - 1;
+    }
+
+    /**
+     * Waits for a permit and returns the {@link System#nanoTime()} at which it was granted. Pass that time to
+     * {@link #onThrottled(long, long, int)} when the request is throttled.
+     */
+    public long acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = nanoClock.getAsLong();
+            refill(now);
+            permits -= 1;
+            waitNanos = Math.max(0, pausedUntilNanos - now);
+            if (permits < 0) {
+                waitNanos += (long) (-permits / rate * NANOS_PER_SECOND);
+            }
+            permitCount++;
+            totalWaitNanos += waitNanos;
+        }
+        if (waitNanos > 0) {
+            sleeper.sleep(waitNanos);
+        }
+        return nanoClock.getAsLong();
+    }
+
+    /**
+     * Raises the rate after a response that was not throttled.
+     */
+    public synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + additiveIncrease / rate);
+    }
+
+    /**
+     * Lowers the rate after a throttled response and, when {@code retryAfterMillis} is not negative, holds back
+     * every permit for that long.
+     */
+    public synchronized void onThrottled(long grantedAtNanos, long retryAfterMillis, int statusCode) {
+        long now = nanoClock.getAsLong();
+        throttledCount++;
+        if (retryAfterMillis >= 0) {
+            refill(now);
+            long pausedUntil = now + TimeUnit.MILLISECONDS.toNanos(retryAfterMillis);
+            if (pausedUntil - pausedUntilNanos > 0) {
+                pausedUntilNanos = pausedUntil;
+            }
+            permits = Math.min(permits, 0);
+        }
+        if (grantedAtNanos - lastDecreaseNanos > 0) {
+            refill(now);
+            rate = Math.max(minRate, rate * decreaseFactor);
+            lastDecreaseNanos = now;
+            decreaseCount++;
+            LogUtil.printInfoLog(Utils.parameterizedString(InfoLogs.RATE_LIMIT_DECREASED.getLog(),
+                    String.valueOf(statusCode), String.format("%.2f", rate)));
+        }
+    }
+
+    public synchronized double getCurrentRate() {
+        return rate;
+    }
+
+    public synchronized RateLimitStats getStats() {
+        return new RateLimitStats(rate, permitCount, throttledCount, decreaseCount,
+                permitCount == 0 ? 0 : totalWaitNanos / 1_000_000.0 / permitCount);
+    }
+
+    // Adds the permits earned since the last refill. No permits are earned while a Retry-After delay runs.
+    private void refill(long now) {
+        long from = pausedUntilNanos - lastRefillNanos > 0 ? pausedUntilNanos : lastRefillNanos;
+        if (now - from > 0) {
+            permits = Math.min(burstSize, permits + (now - from) / NANOS_PER_SECOND * rate);
+        }
+        if (now - lastRefillNanos > 0) {
+            lastRefillNanos = now;
+        }
+    }
+
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+}
@@ -0,0 +1,66 @@
+package com.skyflow.utils;
+
+import com.google.gson.Gson;
+
+/**
+ * Point-in-time counters for a micro-batcher: how full its batches are and how long requests wait before they are
+ * sent, used to tune the batch window and size.
+ */
+public class BatchStats {
+    private final long batchCount;
+    private final long requestCount;
+    private final int largestBatchSize;
+    private final double averageWaitMillis;
+    private final double maxWaitMillis;
+
+    public BatchStats(long batchCount, long requestCount, int largestBatchSize, double averageWaitMillis,
+                      double maxWaitMillis) {
+        this.batchCount = batchCount;
+        this.requestCount = requestCount;
+        this.largestBatchSize = largestBatchSize;
+        this.averageWaitMillis = averageWaitMillis;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /**
+     * Vault calls made.
+     */
+    public long getBatchCount() {
+        return batchCount;
+    }
+
+    /**
+     * Requests sent in those calls.
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public int getLargestBatchSize() {
+        return largestBatchSize;
+    }
+
+    /**
+     * Requests per vault call, or 0 before the first batch was sent.
+     */
+    public double getAverageBatchSize() {
+        return batchCount == 0 ? 0 : (double) requestCount / batchCount;
+    }
+
+    /**
+     * Average time a request waited in the queue before its batch was sent.
+     */
+    public double getAverageWaitMillis() {
+        return averageWaitMillis;
+    }
+
+    public double getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    @Override
+    public String toString() {
+        Gson gson = new Gson().newBuilder().serializeNulls().create();
+        return gson.toJson(this);
+    }
+}
@@ -0,0 +1,46 @@
+package com.skyflow.utils;
+
+import com.google.gson.Gson;
+
+/**
+ * Point-in-time counters for request coalescing: how many vault calls were made and how many requests shared a call
+ * that was already in flight instead of making their own.
+ */
+public class CoalescingStats {
+    private final long callCount;
+    private final long coalescedCount;
+    private final int inFlightCount;
+
+    public CoalescingStats(long callCount, long coalescedCount, int inFlightCount) {
+        this.callCount = callCount;
+        this.coalescedCount = coalescedCount;
+        this.inFlightCount = inFlightCount;
+    }
+
+    /**
+     * Vault calls made.
+     */
+    public long getCallCount() {
+        return callCount;
+    }
+
+    /**
+     * Requests that shared a call already in flight.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Calls in flight when the stats were taken.
+     */
+    public int getInFlightCount() {
+        return inFlightCount;
+    }
+
+    @Override
+    public String toString() {
+        Gson gson = new Gson().newBuilder().serializeNulls().create();
+        return gson.toJson(this);
+    }
+}
@@ -0,0 +1,164 @@
+package com.skyflow.utils;
+
+import com.skyflow.config.CompressionConfig;
+import com.skyflow.enums.CompressionAlgorithm;
+import com.skyflow.logs.InfoLogs;
+import com.skyflow.utils.logger.LogUtil;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.DeflaterSink;
+import okio.ForwardingSink;
+import okio.GzipSink;
+import okio.Okio;
+import okio.Sink;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses request bodies according to a {@link CompressionConfig}. The config is looked up on every call, so
+ * changes to the owning config take effect without rebuilding the HTTP client. One-shot bodies and bodies that
+ * already carry a {@code Content-Encoding} are sent as they are. Bodies of known length are compressed into a
+ * buffer, so retries replay them without compressing again. Bodies of unknown length, such as
+ * {@link StreamingJsonRequestBody}, are compressed while they are written to the connection; the minimum size does
+ * not apply to them, and their compression time includes the time spent writing to the socket.
+ */
+public final class CompressionInterceptor implements Interceptor {
+    private static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+
+    private final Supplier<CompressionConfig> configSupplier;
+    private final LongAdder compressedCount = new LongAdder();
+    private final LongAdder skippedCount = new LongAdder();
+    private final LongAdder originalBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder compressionNanos = new LongAdder();
+
+    public CompressionInterceptor(Supplier<CompressionConfig> configSupplier) {
+        this.configSupplier = configSupplier;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        CompressionConfig config = configSupplier.get();
+        RequestBody body = request.body();
+        if (config == null || body == null || request.header(CONTENT_ENCODING_HEADER) != null) {
+            return chain.proceed(request);
+        }
+        long length = body.contentLength();
+        if (body.isOneShot() || body.isDuplex() || (length >= 0 && length < config.getMinSizeBytes())) {
+            skippedCount.increment();
+            return chain.proceed(request);
+        }
+        CompressionAlgorithm algorithm = config.getAlgorithm();
+        if (length < 0) {
+            return chain.proceed(request.newBuilder()
+                    .header(CONTENT_ENCODING_HEADER, algorithm.getContentEncoding())
+                    .method(request.method(), new StreamingCompressedBody(body, algorithm))
+                    .build());
+        }
+
+        long start = System.nanoTime();
+        Buffer compressed = new Buffer();
+        try (BufferedSink sink = Okio.buffer(compressingSink(compressed, algorithm))) {
+            body.writeTo(sink);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        compressionNanos.add(elapsedNanos);
+        if (compressed.size() >= length) {
+            // Incompressible payloads are cheaper to send as they are.
+            skippedCount.increment();
+            return chain.proceed(request);
+        }
+
+        recordCompression(length, compressed.size(), algorithm, elapsedNanos);
+        Request compressedRequest = request.newBuilder()
+                .header(CONTENT_ENCODING_HEADER, algorithm.getContentEncoding())
+                .method(request.method(), RequestBody.create(compressed.readByteString(), body.contentType()))
+                .build();
+        return chain.proceed(compressedRequest);
+    }
+
+    private void recordCompression(long length, long compressedLength, CompressionAlgorithm algorithm,
+                                   long elapsedNanos) {
+        compressedCount.increment();
+        originalBytes.add(length);
+        compressedBytes.add(compressedLength);
+        LogUtil.printInfoLog(Utils.parameterizedString(InfoLogs.REQUEST_BODY_COMPRESSED.getLog(),
+                String.valueOf(length), String.valueOf(compressedLength), algorithm.getContentEncoding(),
+                String.valueOf(TimeUnit.NANOSECONDS.toMicros(elapsedNanos) / 1000.0)));
+    }
+
+    private static Sink compressingSink(Sink sink, CompressionAlgorithm algorithm) {
+        return algorithm == CompressionAlgorithm.DEFLATE ? new DeflaterSink(sink, new Deflater()) : new GzipSink(sink);
+    }
+
+    public CompressionStats getStats() {
+        return new CompressionStats(compressedCount.sum(), skippedCount.sum(), originalBytes.sum(),
+                compressedBytes.sum(), compressionNanos.sum() / 1_000_000.0);
+    }
+
+    /**
+     * Compresses the wrapped body on every write, straight into the connection's sink.
+     */
+    private final class StreamingCompressedBody extends RequestBody {
+        private final RequestBody body;
+        private final CompressionAlgorithm algorithm;
+
+        private StreamingCompressedBody(RequestBody body, CompressionAlgorithm algorithm) {
+            this.body = body;
+            this.algorithm = algorithm;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return body.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return -1;
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            long start = System.nanoTime();
+            CountingSink compressed = new CountingSink(sink) {
+                @Override
+                public void close() throws IOException {
+                    // The compressor closes its sink to finish the stream, but the connection's sink belongs to OkHttp.
+                    flush();
+                }
+            };
+            CountingSink original = new CountingSink(compressingSink(compressed, algorithm));
+            try (BufferedSink compressing = Okio.buffer(original)) {
+                body.writeTo(compressing);
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            compressionNanos.add(elapsedNanos);
+            recordCompression(original.count, compressed.count, algorithm, elapsedNanos);
+        }
+    }
+
+    private static class CountingSink extends ForwardingSink {
+        private long count;
+
+        private CountingSink(Sink delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void write(Buffer source, long byteCount) throws IOException {
+            super.write(source, byteCount);
+            count += byteCount;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.skyflow.utils;
+
+import com.google.gson.Gson;
+
+/**
+ * Point-in-time counters for request body compression, used to decide whether it pays off.
+ */
+public class CompressionStats {
+    private final long compressedCount;
+    private final long skippedCount;
+    private final long originalBytes;
+    private final long compressedBytes;
+    private final double compressionMillis;
+
+    public CompressionStats(long compressedCount, long skippedCount, long originalBytes, long compressedBytes,
+                            double compressionMillis) {
+        this.compressedCount = compressedCount;
+        this.skippedCount = skippedCount;
+        this.originalBytes = originalBytes;
+        this.compressedBytes = compressedBytes;
+        this.compressionMillis = compressionMillis;
+    }
+
+    /**
+     * Request bodies that were compressed.
+     */
+    public long getCompressedCount() {
+        return compressedCount;
+    }
+
+    /**
+     * Request bodies that were sent uncompressed because they were below the size threshold, could be written only
+     * once, or were not smaller once compressed. Streamed bodies of unknown length are always compressed.
+     */
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * Total size of the compressed bodies before compression.
+     */
+    public long getOriginalBytes() {
+        return originalBytes;
+    }
+
+    public long getCompressedBytes() {
+        return compressedBytes;
+    }
+
+    /**
+     * Total time spent compressing.
+     */
+    public double getCompressionMillis() {
+        return compressionMillis;
+    }
+
+    /**
+     * Compressed size divided by original size, or 1.0 before any body was compressed.
+     */
+    public double getCompressionRatio() {
+        return originalBytes == 0 ? 1.0 : (double) compressedBytes / originalBytes;
+    }
+
+    @Override
+    public String toString() {
+        Gson gson = new Gson().newBuilder().serializeNulls().create();
+        return gson.toJson(this);
+    }
+}
@@ -0,0 +1,147 @@
+package com.skyflow.utils;
+
+import com.skyflow.config.KeepAliveConfig;
+import com.skyflow.logs.ErrorLogs;
+import com.skyflow.utils.logger.LogUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a minimum number of pooled connections to a host open by sending lightweight probes on a shared daemon
+ * thread, so that low-traffic clients do not pay a new TLS handshake after the pool evicts idle connections.
+ *
+ * <p>Each round runs {@code minWarmConnections} probes concurrently, which makes the pool open or reuse that many
+ * distinct connections. The probe is looked up before every round; when the supplier returns {@code null} (for
+ * example because the owning client was garbage collected) the keeper stops itself. Probes run on their own
+ * executor and the scheduler thread never waits for them: a round is recorded once its last probe completes, and
+ * a round that comes due while the previous one is still running is skipped.
+ */
+public final class ConnectionKeeper {
+    private static final double ROUND_TRIP_SMOOTHING = 0.2;
+
+    /**
+     * Sends one lightweight request and returns its round-trip time in milliseconds.
+     */
+    public interface Probe {
+        long probe() throws IOException;
+    }
+
+    private final int minWarmConnections;
+    private final long probeIntervalSeconds;
+    private final Supplier<Probe> probeSupplier;
+    private final ScheduledExecutorService scheduler;
+    private final Executor probeExecutor;
+    private ScheduledFuture<?> scheduledProbes;
+    private boolean closed;
+    private boolean roundInFlight;
+    private long probeCount;
+    private long failedProbeCount;
+    private int warmConnections;
+    private long lastRoundTripMillis = -1;
+    private double averageRoundTripMillis = -1;
+
+    public ConnectionKeeper(KeepAliveConfig keepAliveConfig, Supplier<Probe> probeSupplier) {
+        this(keepAliveConfig, probeSupplier, SchedulerHolder.SCHEDULER, SchedulerHolder.PROBE_EXECUTOR);
+    }
+
+    ConnectionKeeper(KeepAliveConfig keepAliveConfig, Supplier<Probe> probeSupplier,
+                     ScheduledExecutorService scheduler, Executor probeExecutor) {
+        this.minWarmConnections = keepAliveConfig.getMinWarmConnections();
+        this.probeIntervalSeconds = keepAliveConfig.getProbeIntervalSeconds();
+        this.probeSupplier = probeSupplier;
+        this.scheduler = scheduler;
+        this.probeExecutor = probeExecutor;
+    }
+
+    /**
+     * Runs the first round of probes right away and then one every probe interval until {@link #close()} is called.
+     */
+    public synchronized void start() {
+        if (!closed && scheduledProbes == null) {
+            scheduledProbes = scheduler.scheduleWithFixedDelay(
+                    this::runProbes, 0, probeIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    public synchronized void close() {
+        closed = true;
+        if (scheduledProbes != null) {
+            scheduledProbes.cancel(false);
+            scheduledProbes = null;
+        }
+    }
+
+    public synchronized KeepAliveStats getStats() {
+        return new KeepAliveStats(probeCount, failedProbeCount, warmConnections,
+                lastRoundTripMillis, averageRoundTripMillis);
+    }
+
+    void runProbes() {
+        Probe probe = probeSupplier.get();
+        if (probe == null) {
+            close();
+            return;
+        }
+        synchronized (this) {
+            if (roundInFlight) {
+                return;
+            }
+            roundInFlight = true;
+        }
+        List<CompletableFuture<Long>> results = new ArrayList<>();
+        for (int i = 0; i < minWarmConnections; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return probe.probe();
+                } catch (IOException | RuntimeException e) {
+                    // A failed round must not cancel the schedule, so failures are only counted.
+                    LogUtil.printWarningLog(Utils.parameterizedString(
+                            ErrorLogs.KEEP_ALIVE_PROBE_FAILED.getLog(), String.valueOf(e.getMessage())));
+                    return -1L;
+                }
+            }, probeExecutor));
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).thenRun(() -> recordRound(results));
+    }
+
+    private synchronized void recordRound(List<CompletableFuture<Long>> results) {
+        int warm = 0;
+        for (CompletableFuture<Long> result : results) {
+            long roundTripMillis = result.join();
+            probeCount++;
+            if (roundTripMillis < 0) {
+                failedProbeCount++;
+                continue;
+            }
+            warm++;
+            lastRoundTripMillis = roundTripMillis;
+            averageRoundTripMillis = averageRoundTripMillis < 0 ? roundTripMillis
+                    : averageRoundTripMillis + ROUND_TRIP_SMOOTHING * (roundTripMillis - averageRoundTripMillis);
+        }
+        warmConnections = warm;
+        roundInFlight = false;
+    }
+
+    private static final class SchedulerHolder {
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "skyflow-connection-keeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        private static final ExecutorService PROBE_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "skyflow-connection-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -38,6 +38,45 @@ public final class Constants {
     public static final String CURLY_PLACEHOLDER = "{%s}";
     public static final String EMPTY_STRING = "";
     public static final String QUOTE = "\"";
+    public static final int DEFAULT_INSERT_MAX_CONCURRENCY = 4;
+    public static final int DEFAULT_CACHE_MAX_ENTRIES = 10000;
+    public static final long DEFAULT_CACHE_TTL_SECONDS = 300L;
+    public static final long DEFAULT_TOKEN_REFRESH_MARGIN_SECONDS = 300L;
+    public static final long TOKEN_REFRESH_RETRY_SECONDS = 30L;
+    // Stored tokens must outlive the default refresh margin, or background refresh would keep reading them back.
+    public static final long TOKEN_STORE_MIN_VALIDITY_SECONDS = DEFAULT_TOKEN_REFRESH_MARGIN_SECONDS + 60L;
+    public static final String DEFAULT_TOKEN_STORE_DIRECTORY = ".skyflow/tokens";
+    public static final int CREDENTIALS_CACHE_MAX_ENTRIES = 64;
+    public static final long CREDENTIALS_CACHE_TTL_MINUTES = 60L;
+    public static final long SIGNED_ASSERTION_LIFETIME_SECONDS = 3600L;
+    public static final long SIGNED_ASSERTION_MIN_VALIDITY_SECONDS = 300L;
+    public static final int SIGNED_ASSERTION_CACHE_MAX_ENTRIES = 100;
+    public static final long SIGNED_DATA_TOKEN_CACHE_MAX_AGE_SECONDS = 86400L;
+    public static final long DEFAULT_SIGNED_DATA_TOKEN_TTL_SECONDS = 60L;
+    public static final int MIN_PARALLEL_SIGNED_DATA_TOKENS = 64;
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 10;
+    public static final long DEFAULT_KEEP_ALIVE_DURATION_SECONDS = 60L;
+    public static final int DEFAULT_WARM_UP_CONNECTIONS = 4;
+    public static final int DEFAULT_KEEP_ALIVE_MIN_WARM_CONNECTIONS = 2;
+    public static final long DEFAULT_KEEP_ALIVE_PROBE_INTERVAL_SECONDS = 30L;
+    public static final long DEFAULT_COMPRESSION_MIN_SIZE_BYTES = 8192L;
+    public static final int STREAMING_REQUEST_MIN_RECORDS = 1000;
+    public static final long DEFAULT_BATCH_WINDOW_MILLIS = 2L;
+    public static final int DEFAULT_BATCH_MAX_SIZE = 100;
+    public static final int DEFAULT_INSERT_BUFFER_MAX_BATCH_RECORDS = 100;
+    public static final long DEFAULT_INSERT_BUFFER_MAX_BATCH_BYTES = 1024L * 1024L;
+    public static final long DEFAULT_INSERT_BUFFER_FLUSH_INTERVAL_MILLIS = 100L;
+    public static final long DEFAULT_INSERT_BUFFER_MAX_BUFFERED_BYTES = 16L * 1024L * 1024L;
+    public static final double DEFAULT_RATE_LIMIT_INITIAL_RATE = 50.0;
+    public static final double DEFAULT_RATE_LIMIT_MIN_RATE = 1.0;
+    public static final double DEFAULT_RATE_LIMIT_MAX_RATE = 1000.0;
+    public static final double DEFAULT_RATE_LIMIT_ADDITIVE_INCREASE = 2.0;
+    public static final double DEFAULT_RATE_LIMIT_DECREASE_FACTOR = 0.8;
+    public static final int DEFAULT_RATE_LIMIT_BURST_SIZE = 10;
+    public static final int DEFAULT_RETRY_MAX_ATTEMPTS = 3;
+    public static final long DEFAULT_RETRY_BASE_BACKOFF_MILLIS = 200L;
+    public static final long DEFAULT_RETRY_MAX_BACKOFF_MILLIS = 10000L;
+    public static final long DEFAULT_RETRY_BUDGET_MILLIS = 30000L;
 
     public static final class HttpUtilityExtra {
         public static final String SDK_GENERATED_PREFIX = "SDK-Generated-";
@@ -0,0 +1,39 @@
+package com.skyflow.utils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a single {@link HttpUtility#send} call. The request ID is carried on the response itself so that
+ * concurrent callers never observe each other's IDs.
+ */
+public final class HttpResponse {
+    private final int statusCode;
+    private final String body;
+    private final String requestId;
+    private final Map<String, List<String>> headers;
+
+    public HttpResponse(int statusCode, String body, String requestId, Map<String, List<String>> headers) {
+        this.statusCode = statusCode;
+        this.body = body;
+        this.requestId = requestId;
+        this.headers = headers == null ? Collections.emptyMap() : Collections.unmodifiableMap(headers);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+}
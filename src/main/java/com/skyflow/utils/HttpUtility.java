@@ -2,7 +2,18 @@ package com.skyflow.utils;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.skyflow.config.RetryPolicy;
+import com.skyflow.config.TransportConfig;
 import com.skyflow.errors.SkyflowException;
+import com.skyflow.enums.HttpProtocol;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 
 import java.io.*;
 import java.net.HttpURLConnection;
@@ -14,16 +25,104 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 public final class HttpUtility {
 
     private static final String LINE_FEED = "\r\n";
     private static String requestID;
 
+    /**
+     * @deprecated Not safe under concurrent use, the value may belong to another thread's request. Use
+     * {@link HttpResponse#getRequestId()} from {@link #send} instead.
+     */
+    @Deprecated(since = "2.1")
     public static String getRequestID() {
         return requestID;
     }
 
+    /**
+     * Sends a request over a shared keep-alive connection pool, so repeated calls to the same host reuse
+     * TCP connections and TLS sessions. Safe for concurrent use. Like {@link HttpURLConnection}, the client sets no
+     * connect, read or write timeout, so a call waits for as long as the server takes to respond.
+     */
+    public static HttpResponse send(String method, URL url, JsonObject params, Map<String, String> headers)
+            throws IOException, SkyflowException {
+        return send(method, url, params, headers, null);
+    }
+
+    /**
+     * Same as {@link #send(String, URL, JsonObject, Map)}, retrying failed calls according to {@code retryPolicy}.
+     * The call is sent once when it is {@code null}.
+     */
+    public static HttpResponse send(String method, URL url, JsonObject params, Map<String, String> headers,
+                                    RetryPolicy retryPolicy) throws IOException, SkyflowException {
+        return send(ClientHolder.CLIENT, method, url, params, headers, retryPolicy);
+    }
+
+    static HttpResponse send(OkHttpClient client, String method, URL url, JsonObject params,
+                             Map<String, String> headers, RetryPolicy retryPolicy)
+            throws IOException, SkyflowException {
+        Request.Builder requestBuilder = new Request.Builder().url(url).header("Accept", "*/*");
+        if (retryPolicy != null) {
+            requestBuilder.tag(RetryPolicy.class, retryPolicy);
+        }
+        String boundary = String.valueOf(System.currentTimeMillis());
+        boolean hasParams = params != null && !params.isEmpty();
+        String contentType = headers == null ? null : headers.get("content-type");
+        if (contentType == null && hasParams) {
+            contentType = "application/json";
+        } else if (Objects.equals(contentType, "multipart/form-data")) {
+            contentType = "multipart/form-data; boundary=" + boundary;
+        }
+
+        if (headers != null) {
+            for (Map.Entry<String, String> entry : headers.entrySet()) {
+                if (!"content-type".equals(entry.getKey())) {
+                    requestBuilder.header(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        if (contentType != null) {
+            requestBuilder.header("content-type", contentType);
+        }
+
+        RequestBody body = null;
+        if (hasParams && permitsRequestBody(method)) {
+            String payload;
+            if (contentType.contains("application/x-www-form-urlencoded")) {
+                payload = formatJsonToFormEncodedString(params);
+            } else if (contentType.contains("multipart/form-data")) {
+                payload = formatJsonToMultiPartFormDataString(params, boundary);
+            } else {
+                payload = params.toString();
+            }
+            body = RequestBody.create(payload.getBytes(StandardCharsets.UTF_8), MediaType.parse(contentType));
+        } else if (requiresRequestBody(method)) {
+            body = RequestBody.create(new byte[0], contentType == null ? null : MediaType.parse(contentType));
+        }
+        requestBuilder.method(method, body);
+
+        try (Response response = client.newCall(requestBuilder.build()).execute()) {
+            String headerRequestId = response.header(Constants.REQUEST_ID_HEADER_KEY);
+            String responseRequestId = headerRequestId != null
+                    ? headerRequestId.split(",")[0]
+                    : Constants.HttpUtilityExtra.SDK_GENERATED_PREFIX + UUID.randomUUID();
+            Map<String, List<String>> responseHeaders = response.headers().toMultimap();
+            ResponseBody responseBody = response.body();
+            String responseString = responseBody == null ? "" : responseBody.string();
+            if (response.code() > 299) {
+                throw new SkyflowException(response.code(), new Throwable(), responseHeaders, responseString);
+            }
+            return new HttpResponse(response.code(), responseString, responseRequestId, responseHeaders);
+        }
+    }
+
+    /**
+     * @deprecated Opens a new connection per call and records the request ID in shared state. Use
+     * {@link #send} instead.
+     */
+    @Deprecated(since = "2.1")
     public static String sendRequest(String method, URL url, JsonObject params, Map<String, String> headers) throws IOException, SkyflowException {
 
         HttpURLConnection connection = null;
@@ -112,6 +211,95 @@ public final class HttpUtility {
 
     }
 
+    /**
+     * Returns the root client shared by every SDK client in this JVM. Clients derived from it with
+     * {@link OkHttpClient#newBuilder()} share its connection pool and dispatcher.
+     */
+    public static OkHttpClient getSharedHttpClient() {
+        return ClientHolder.ROOT;
+    }
+
+    /**
+     * Creates a root client with its own connection pool and dispatcher, using the SDK defaults.
+     */
+    public static OkHttpClient newRootHttpClient() {
+        return new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(Constants.DEFAULT_MAX_IDLE_CONNECTIONS,
+                        Constants.DEFAULT_KEEP_ALIVE_DURATION_SECONDS, TimeUnit.SECONDS))
+                .build();
+    }
+
+    /**
+     * Returns a client builder derived from {@code root} with {@code transportConfig} applied. When the config sets
+     * its own base client, that client is used instead of {@code root}. The connection pool and dispatcher are only
+     * replaced when the config changes their settings, so clients without such settings keep sharing them.
+     */
+    public static OkHttpClient.Builder newClientBuilder(OkHttpClient root, TransportConfig transportConfig) {
+        OkHttpClient base = transportConfig != null && transportConfig.getHttpClient() != null
+                ? transportConfig.getHttpClient() : root;
+        OkHttpClient.Builder builder = base.newBuilder();
+        if (transportConfig == null) {
+            return builder;
+        }
+
+        Integer maxIdle = transportConfig.getMaxIdleConnections();
+        Long keepAlive = transportConfig.getKeepAliveDurationSeconds();
+        if (maxIdle != null || keepAlive != null) {
+            builder.connectionPool(new ConnectionPool(
+                    maxIdle != null ? maxIdle : Constants.DEFAULT_MAX_IDLE_CONNECTIONS,
+                    keepAlive != null ? keepAlive : Constants.DEFAULT_KEEP_ALIVE_DURATION_SECONDS,
+                    TimeUnit.SECONDS));
+        }
+        HttpProtocol httpProtocol = transportConfig.getHttpProtocol();
+        boolean http2 = httpProtocol == HttpProtocol.HTTP_2 || httpProtocol == HttpProtocol.HTTP_2_PRIOR_KNOWLEDGE;
+        if (httpProtocol != null) {
+            builder.protocols(httpProtocol.getProtocols());
+        }
+        if (transportConfig.getMaxRequests() != null || transportConfig.getMaxRequestsPerHost() != null || http2) {
+            // A new dispatcher, so that the limits never leak into the base client or other vaults.
+            Dispatcher dispatcher = new Dispatcher();
+            Dispatcher baseDispatcher = base.dispatcher();
+            dispatcher.setMaxRequests(transportConfig.getMaxRequests() != null
+                    ? transportConfig.getMaxRequests() : baseDispatcher.getMaxRequests());
+            if (transportConfig.getMaxRequestsPerHost() != null) {
+                dispatcher.setMaxRequestsPerHost(transportConfig.getMaxRequestsPerHost());
+            } else if (http2) {
+                // Streams to one host are multiplexed, so the HTTP/1.1 per-host limit would only throttle them.
+                dispatcher.setMaxRequestsPerHost(dispatcher.getMaxRequests());
+            } else {
+                dispatcher.setMaxRequestsPerHost(baseDispatcher.getMaxRequestsPerHost());
+            }
+            builder.dispatcher(dispatcher);
+        }
+        if (transportConfig.getPingIntervalMillis() != null) {
+            builder.pingInterval(transportConfig.getPingIntervalMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (transportConfig.getConnectTimeoutMillis() != null) {
+            builder.connectTimeout(transportConfig.getConnectTimeoutMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (transportConfig.getReadTimeoutMillis() != null) {
+            builder.readTimeout(transportConfig.getReadTimeoutMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (transportConfig.getWriteTimeoutMillis() != null) {
+            builder.writeTimeout(transportConfig.getWriteTimeoutMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (transportConfig.getCallTimeoutMillis() != null) {
+            builder.callTimeout(transportConfig.getCallTimeoutMillis(), TimeUnit.MILLISECONDS);
+        }
+        return builder;
+    }
+
+    private static final class ClientHolder {
+        private static final OkHttpClient ROOT = newRootHttpClient();
+        // No timeouts, as with the HttpURLConnection this client replaced. OkHttp would default to 10 seconds each.
+        private static final OkHttpClient CLIENT = ROOT.newBuilder()
+                .connectTimeout(0, TimeUnit.MILLISECONDS)
+                .readTimeout(0, TimeUnit.MILLISECONDS)
+                .writeTimeout(0, TimeUnit.MILLISECONDS)
+                .addInterceptor(new RetryPolicyInterceptor(() -> null))
+                .build();
+    }
+
     public static String formatJsonToFormEncodedString(JsonObject requestBody) {
         StringBuilder formEncodeString = new StringBuilder();
         HashMap<String, String> jsonMap = convertJsonToMap(requestBody, "");
@@ -135,6 +323,15 @@ public final class HttpUtility {
         return formEncodeString.toString();
     }
 
+    // OkHttp rejects a GET or HEAD request with a body, and a POST, PUT or PATCH request without one.
+    private static boolean permitsRequestBody(String method) {
+        return !"GET".equals(method) && !"HEAD".equals(method);
+    }
+
+    private static boolean requiresRequestBody(String method) {
+        return "POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method);
+    }
+
     private static HashMap<String, String> convertJsonToMap(JsonObject json, String rootKey) {
         HashMap<String, String> currentMap = new HashMap<>();
         Map<String, JsonElement> jsonMap = json.asMap();
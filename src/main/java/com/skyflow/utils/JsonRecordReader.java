@@ -0,0 +1,48 @@
+package com.skyflow.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.skyflow.generated.rest.core.ObjectMappers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Reads the elements of one array field of a JSON object incrementally with Jackson's streaming parser. Only the
+ * element being read is held in memory, and each element is handed to the consumer before the next one is parsed,
+ * so processing can start before the whole document has arrived. Other fields are skipped.
+ */
+public final class JsonRecordReader {
+    private JsonRecordReader() {
+    }
+
+    /**
+     * Passes every element of the top-level array field {@code field} in {@code input} to {@code consumer} as an
+     * instance of {@code recordType}, mapped with the generated client's object mapper. Returns the number of
+     * elements read. A missing or {@code null} field yields no elements.
+     */
+    public static <T> long readRecords(InputStream input, String field, Class<T> recordType, Consumer<T> consumer)
+            throws IOException {
+        long count = 0;
+        try (JsonParser parser = ObjectMappers.JSON_MAPPER.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw JsonMappingException.from(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!field.equals(name) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    consumer.accept(parser.readValueAs(recordType));
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
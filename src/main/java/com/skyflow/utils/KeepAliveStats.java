@@ -0,0 +1,58 @@
+package com.skyflow.utils;
+
+import com.google.gson.Gson;
+
+/**
+ * Point-in-time counters and round-trip times observed by a connection keeper.
+ */
+public class KeepAliveStats {
+    private final long probeCount;
+    private final long failedProbeCount;
+    private final int warmConnections;
+    private final long lastRoundTripMillis;
+    private final double averageRoundTripMillis;
+
+    public KeepAliveStats(long probeCount, long failedProbeCount, int warmConnections,
+                          long lastRoundTripMillis, double averageRoundTripMillis) {
+        this.probeCount = probeCount;
+        this.failedProbeCount = failedProbeCount;
+        this.warmConnections = warmConnections;
+        this.lastRoundTripMillis = lastRoundTripMillis;
+        this.averageRoundTripMillis = averageRoundTripMillis;
+    }
+
+    public long getProbeCount() {
+        return probeCount;
+    }
+
+    public long getFailedProbeCount() {
+        return failedProbeCount;
+    }
+
+    /**
+     * Number of probes that succeeded in the most recent round.
+     */
+    public int getWarmConnections() {
+        return warmConnections;
+    }
+
+    /**
+     * Round-trip time of the most recent successful probe, or -1 before any probe succeeded.
+     */
+    public long getLastRoundTripMillis() {
+        return lastRoundTripMillis;
+    }
+
+    /**
+     * Exponentially weighted moving average of successful probe round-trip times, or -1 before any probe succeeded.
+     */
+    public double getAverageRoundTripMillis() {
+        return averageRoundTripMillis;
+    }
+
+    @Override
+    public String toString() {
+        Gson gson = new Gson().newBuilder().serializeNulls().create();
+        return gson.toJson(this);
+    }
+}
@@ -0,0 +1,235 @@
+package com.skyflow.utils;
+
+import com.skyflow.config.BatchConfig;
+import com.skyflow.errors.ErrorCode;
+import com.skyflow.errors.ErrorMessage;
+import com.skyflow.errors.SkyflowException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects single requests from any number of threads and sends them together. A batch is sent when
+ * {@link BatchConfig#getMaxBatchSize()} requests are waiting, or {@link BatchConfig#getWindowMillis()} after the first
+ * request of the batch arrived, whichever comes first. Requests may also carry a weight, such as their size in bytes;
+ * a batch is then sent as well once its weight reaches the maximum batch weight, and a request that would take a
+ * batch over it starts the next batch. The sender returns one result per request, in request order,
+ * and each result completes the future of the request at the same position. When the whole batch fails, every
+ * future in it fails with the same exception. Batches are handed to {@link BatchConfig#getExecutor()}, so the
+ * shared scheduler thread only collects requests and never runs a sender.
+ *
+ * @param <I> the request type
+ * @param <O> the result type
+ */
+public final class MicroBatcher<I, O> implements AutoCloseable {
+
+    /**
+     * Sends one batch and returns the results in request order.
+     */
+    @FunctionalInterface
+    public interface BatchSender<I, O> {
+        CompletableFuture<List<O>> send(List<I> requests);
+    }
+
+    private final int maxBatchSize;
+    private final long maxBatchWeight;
+    private final long windowMillis;
+    private final BatchSender<I, O> sender;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private List<Pending<I, O>> pending = new ArrayList<>();
+    private long pendingWeight;
+    private ScheduledFuture<?> scheduledFlush;
+    private boolean closed;
+    private long batchCount;
+    private long requestCount;
+    private int largestBatchSize;
+    private long totalWaitNanos;
+    private long maxWaitNanos;
+
+    public MicroBatcher(BatchConfig batchConfig, BatchSender<I, O> sender) {
+        this(batchConfig, sender, SchedulerHolder.SCHEDULER);
+    }
+
+    /**
+     * Creates a batcher that also sends a batch once the weights of its requests add up to {@code maxBatchWeight}.
+     * Batches are sent from {@code executor}, or from the common {@code ForkJoinPool} when it is {@code null}.
+     */
+    public MicroBatcher(int maxBatchSize, long maxBatchWeight, long windowMillis, Executor executor,
+                        BatchSender<I, O> sender) {
+        this(maxBatchSize, maxBatchWeight, windowMillis, executor, sender, SchedulerHolder.SCHEDULER);
+    }
+
+    MicroBatcher(BatchConfig batchConfig, BatchSender<I, O> sender, ScheduledExecutorService scheduler) {
+        this(batchConfig.getMaxBatchSize(), Long.MAX_VALUE, batchConfig.getWindowMillis(), batchConfig.getExecutor(),
+                sender, scheduler);
+    }
+
+    MicroBatcher(int maxBatchSize, long maxBatchWeight, long windowMillis, Executor executor,
+                 BatchSender<I, O> sender, ScheduledExecutorService scheduler) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchWeight = maxBatchWeight;
+        this.windowMillis = windowMillis;
+        this.sender = sender;
+        this.scheduler = scheduler;
+        this.executor = executor != null ? executor : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Queues {@code request} and returns a future for its result. The future fails with a {@link SkyflowException}
+     * when the batcher is closed.
+     */
+    public CompletableFuture<O> submit(I request) {
+        return submit(request, 0);
+    }
+
+    /**
+     * Queues {@code request} with the given weight and returns a future for its result. A request that outweighs
+     * the maximum batch weight on its own is sent in a batch of one.
+     */
+    public CompletableFuture<O> submit(I request, long weight) {
+        CompletableFuture<O> future = new CompletableFuture<>();
+        List<Pending<I, O>> previousBatch = null;
+        List<Pending<I, O>> batch = null;
+        synchronized (this) {
+            if (closed) {
+                future.completeExceptionally(new SkyflowException(
+                        ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.BatcherClosed.getMessage()));
+                return future;
+            }
+            if (!pending.isEmpty() && pendingWeight + weight > maxBatchWeight) {
+                previousBatch = drain();
+            }
+            pending.add(new Pending<>(request, future));
+            pendingWeight += weight;
+            if (pending.size() >= maxBatchSize || pendingWeight >= maxBatchWeight) {
+                batch = drain();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (previousBatch != null) {
+            send(previousBatch);
+        }
+        if (batch != null) {
+            send(batch);
+        }
+        return future;
+    }
+
+    /**
+     * Sends the waiting requests now instead of at the end of the window.
+     */
+    public void flush() {
+        List<Pending<I, O>> batch;
+        synchronized (this) {
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    /**
+     * Sends the waiting requests and rejects any further ones. Requests already sent still complete.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        flush();
+    }
+
+    /**
+     * Returns how many requests are waiting for their batch to be sent.
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    public synchronized BatchStats getStats() {
+        return new BatchStats(batchCount, requestCount, largestBatchSize,
+                requestCount == 0 ? 0 : totalWaitNanos / 1_000_000.0 / requestCount, maxWaitNanos / 1_000_000.0);
+    }
+
+    private List<Pending<I, O>> drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<Pending<I, O>> batch = pending;
+        pending = new ArrayList<>();
+        pendingWeight = 0;
+        if (!batch.isEmpty()) {
+            long now = System.nanoTime();
+            batchCount++;
+            requestCount += batch.size();
+            largestBatchSize = Math.max(largestBatchSize, batch.size());
+            for (Pending<I, O> request : batch) {
+                long waitNanos = now - request.queuedAt;
+                totalWaitNanos += waitNanos;
+                maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+            }
+        }
+        return batch;
+    }
+
+    private void send(List<Pending<I, O>> batch) {
+        List<I> requests = new ArrayList<>(batch.size());
+        for (Pending<I, O> request : batch) {
+            requests.add(request.request);
+        }
+        CompletableFuture<List<O>> results;
+        try {
+            results = CompletableFuture.supplyAsync(() -> sender.send(requests), executor)
+                    .thenCompose(sent -> sent);
+        } catch (RuntimeException e) {
+            // The executor rejected the batch.
+            results = new CompletableFuture<>();
+            results.completeExceptionally(e);
+        }
+        results.whenComplete((outputs, throwable) -> {
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause() : throwable;
+            for (int i = 0; i < batch.size(); i++) {
+                CompletableFuture<O> future = batch.get(i).future;
+                if (cause != null) {
+                    future.completeExceptionally(cause);
+                } else if (outputs != null && i < outputs.size() && outputs.get(i) != null) {
+                    future.complete(outputs.get(i));
+                } else {
+                    future.completeExceptionally(new SkyflowException(ErrorMessage.MissingBatchResult.getMessage()));
+                }
+            }
+        });
+    }
+
+    private static final class Pending<I, O> {
+        private final I request;
+        private final CompletableFuture<O> future;
+        private final long queuedAt;
+
+        private Pending(I request, CompletableFuture<O> future) {
+            this.request = request;
+            this.future = future;
+            this.queuedAt = System.nanoTime();
+        }
+    }
+
+    private static final class SchedulerHolder {
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "skyflow-micro-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
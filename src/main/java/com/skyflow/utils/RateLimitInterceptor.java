@@ -0,0 +1,45 @@
+package com.skyflow.utils;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.function.Supplier;
+
+/**
+ * Takes a permit from an {@link AdaptiveRateLimiter} before every attempt of a call and reports the response back to
+ * it: status 429 or 503 lowers the rate, and holds back permits for its {@code Retry-After} delay, while a successful
+ * response raises it. Install it after {@link RetryPolicyInterceptor} so that retries are limited too. The limiter is
+ * looked up on every call; calls go through unlimited while it is {@code null}.
+ */
+public final class RateLimitInterceptor implements Interceptor {
+    private final Supplier<AdaptiveRateLimiter> limiterSupplier;
+
+    public RateLimitInterceptor(Supplier<AdaptiveRateLimiter> limiterSupplier) {
+        this.limiterSupplier = limiterSupplier;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        AdaptiveRateLimiter limiter = limiterSupplier.get();
+        if (limiter == null) {
+            return chain.proceed(chain.request());
+        }
+        long grantedAtNanos;
+        try {
+            grantedAtNanos = limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the rate limit");
+        }
+        Response response = chain.proceed(chain.request());
+        if (response.code() == 429 || response.code() == 503) {
+            limiter.onThrottled(grantedAtNanos,
+                    RetryPolicyInterceptor.retryAfterMillis(response, System.currentTimeMillis()), response.code());
+        } else if (response.isSuccessful()) {
+            limiter.onSuccess();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,64 @@
+package com.skyflow.utils;
+
+import com.google.gson.Gson;
+
+/**
+ * Point-in-time rate and counters of an adaptive rate limiter.
+ */
+public class RateLimitStats {
+    private final double currentRate;
+    private final long permitCount;
+    private final long throttledCount;
+    private final long decreaseCount;
+    private final double averageWaitMillis;
+
+    public RateLimitStats(double currentRate, long permitCount, long throttledCount, long decreaseCount,
+                          double averageWaitMillis) {
+        this.currentRate = currentRate;
+        this.permitCount = permitCount;
+        this.throttledCount = throttledCount;
+        this.decreaseCount = decreaseCount;
+        this.averageWaitMillis = averageWaitMillis;
+    }
+
+    /**
+     * Requests per second the limiter currently permits.
+     */
+    public double getCurrentRate() {
+        return currentRate;
+    }
+
+    /**
+     * Requests sent through the limiter, retries included.
+     */
+    public long getPermitCount() {
+        return permitCount;
+    }
+
+    /**
+     * Responses with status 429 or 503.
+     */
+    public long getThrottledCount() {
+        return throttledCount;
+    }
+
+    /**
+     * Times the rate was lowered. Throttled responses to requests sent before the last decrease do not lower it again.
+     */
+    public long getDecreaseCount() {
+        return decreaseCount;
+    }
+
+    /**
+     * Average time a request waited for a permit.
+     */
+    public double getAverageWaitMillis() {
+        return averageWaitMillis;
+    }
+
+    @Override
+    public String toString() {
+        Gson gson = new Gson().newBuilder().serializeNulls().create();
+        return gson.toJson(this);
+    }
+}
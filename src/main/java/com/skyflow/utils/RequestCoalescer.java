@@ -0,0 +1,62 @@
+package com.skyflow.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Lets concurrent identical requests share one call. The first request for a key starts the call; requests for the
+ * same key that arrive before it completes join it. Every caller, the first one included, gets its own copy of the
+ * result made by the copier, and the result itself is never handed out, so callers cannot see each other's changes.
+ * The key is dropped as soon as the call completes, so nothing is cached: the next request starts a new call.
+ *
+ * @param <K> the request key
+ * @param <V> the result type
+ */
+public final class RequestCoalescer<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder callCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final UnaryOperator<V> copier;
+
+    public RequestCoalescer(UnaryOperator<V> copier) {
+        this.copier = copier;
+    }
+
+    /**
+     * Joins the call in flight for {@code key}, or starts {@code call} on the calling thread, and returns a future for
+     * a copy of its result. Exceptions thrown by {@code call} complete the future exceptionally.
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> shared = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            coalescedCount.increment();
+            return existing.thenApply(copier);
+        }
+        callCount.increment();
+        CompletableFuture<V> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+        }
+        result.whenComplete((value, throwable) -> {
+            // Remove before completing, so callbacks that retry start a new call instead of joining this one.
+            inFlight.remove(key, shared);
+            if (throwable != null) {
+                shared.completeExceptionally(throwable);
+            } else {
+                shared.complete(value);
+            }
+        });
+        return shared.thenApply(copier);
+    }
+
+    public CoalescingStats getStats() {
+        return new CoalescingStats(callCount.sum(), coalescedCount.sum(), inFlight.size());
+    }
+}
@@ -0,0 +1,154 @@
+package com.skyflow.utils;
+
+import com.skyflow.config.RetryPolicy;
+import com.skyflow.logs.InfoLogs;
+import com.skyflow.utils.logger.LogUtil;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Retries failed calls according to a {@link RetryPolicy}. A policy attached to the request as a
+ * {@code RetryPolicy} tag takes precedence over the supplier. The policy is looked up on every call, so changes to
+ * the owning config take effect without rebuilding the HTTP client. Calls without a policy are sent once.
+ * <p>
+ * The backoff between attempts blocks the calling thread. For asynchronous calls that is an OkHttp dispatcher thread,
+ * which counts against the dispatcher's request limits while it waits.
+ */
+public final class RetryPolicyInterceptor implements Interceptor {
+    private static final Set<String> IDEMPOTENT_METHODS = new HashSet<>(
+            Arrays.asList("GET", "HEAD", "PUT", "DELETE", "OPTIONS", "TRACE"));
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    private final Supplier<RetryPolicy> policySupplier;
+    private final LongSupplier clock;
+    private final Sleeper sleeper;
+
+    public RetryPolicyInterceptor(Supplier<RetryPolicy> policySupplier) {
+        this(policySupplier, System::currentTimeMillis, Thread::sleep);
+    }
+
+    RetryPolicyInterceptor(Supplier<RetryPolicy> policySupplier, LongSupplier clock, Sleeper sleeper) {
+        this.policySupplier = policySupplier;
+        this.clock = clock;
+        this.sleeper = sleeper;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        RetryPolicy policy = request.tag(RetryPolicy.class);
+        if (policy == null) {
+            policy = policySupplier.get();
+        }
+        if (policy == null) {
+            return chain.proceed(request);
+        }
+        boolean replayable = request.body() == null || !request.body().isOneShot();
+        boolean idempotent = policy.getRetryNonIdempotentRequests() || IDEMPOTENT_METHODS.contains(request.method());
+        long start = clock.getAsLong();
+
+        for (int attempt = 1; ; attempt++) {
+            Response response = null;
+            IOException failure = null;
+            try {
+                response = chain.proceed(request);
+            } catch (IOException e) {
+                failure = e;
+            }
+
+            long delay = -1;
+            if (replayable && attempt < policy.getMaxAttempts()) {
+                if (failure != null) {
+                    if (idempotent || isNotSent(failure)) {
+                        delay = backoff(policy, attempt);
+                    }
+                } else if (isRetryableStatus(response.code(), idempotent)) {
+                    long retryAfter = policy.getRespectRetryAfter() ? retryAfterMillis(response) : -1;
+                    delay = retryAfter >= 0 ? retryAfter : backoff(policy, attempt);
+                }
+            }
+            if (delay < 0 || clock.getAsLong() - start + delay > policy.getRetryBudgetMillis()) {
+                if (failure != null) {
+                    throw failure;
+                }
+                return response;
+            }
+
+            LogUtil.printInfoLog(Utils.parameterizedString(InfoLogs.RETRYING_REQUEST.getLog(),
+                    failure != null ? failure.getClass().getSimpleName() : String.valueOf(response.code()),
+                    String.valueOf(delay), String.valueOf(attempt + 1), String.valueOf(policy.getMaxAttempts())));
+            if (response != null) {
+                response.close();
+            }
+            try {
+                sleeper.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to retry request");
+            }
+        }
+    }
+
+    private static boolean isRetryableStatus(int code, boolean idempotent) {
+        if (code == 429 || code == 503) {
+            return true;
+        }
+        return idempotent && (code == 408 || code == 500 || code == 502 || code == 504);
+    }
+
+    // Failures that happen before any bytes of the request reach the server.
+    private static boolean isNotSent(IOException e) {
+        return e instanceof ConnectException || e instanceof NoRouteToHostException
+                || e instanceof UnknownHostException;
+    }
+
+    private static long backoff(RetryPolicy policy, int attempt) {
+        long cap = policy.getBaseBackoffMillis() << Math.min(attempt - 1, 30);
+        if (cap < 0 || cap > policy.getMaxBackoffMillis()) {
+            cap = policy.getMaxBackoffMillis();
+        }
+        return cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private long retryAfterMillis(Response response) {
+        if (response.code() != 429 && response.code() != 503) {
+            return -1;
+        }
+        return retryAfterMillis(response, clock.getAsLong());
+    }
+
+    /**
+     * Returns the delay requested by the response's {@code Retry-After} header, in seconds or as an HTTP date, or -1
+     * when it has none.
+     */
+    static long retryAfterMillis(Response response, long nowMillis) {
+        String value = response.header(RETRY_AFTER_HEADER);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value.trim()) * 1000);
+        } catch (NumberFormatException e) {
+            Date date = response.headers().getDate(RETRY_AFTER_HEADER);
+            return date == null ? -1 : Math.max(0, date.getTime() - nowMillis);
+        }
+    }
+
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+}
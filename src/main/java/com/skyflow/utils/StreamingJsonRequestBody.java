@@ -0,0 +1,65 @@
+package com.skyflow.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.skyflow.generated.rest.core.ObjectMappers;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+import java.io.IOException;
+
+/**
+ * A JSON request body that is serialized straight into the connection's sink with Jackson's streaming generator, so
+ * memory use is bounded by the largest single value written rather than by the whole payload. The writer runs
+ * again on every {@link #writeTo(BufferedSink)}, which lets retries replay the body. The length is not known up
+ * front, so HTTP/1.1 sends it with chunked transfer encoding.
+ */
+public final class StreamingJsonRequestBody extends RequestBody {
+    private static final MediaType APPLICATION_JSON = MediaType.get("application/json");
+
+    /**
+     * Writes one complete JSON document to the generator.
+     */
+    @FunctionalInterface
+    public interface JsonWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    private final JsonWriter writer;
+
+    public StreamingJsonRequestBody(JsonWriter writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Writes {@code value} as field {@code name} with the generated client's object mapper, or nothing when
+     * {@code value} is {@code null}, matching how the generated request types omit absent fields.
+     */
+    public static void writeField(JsonGenerator generator, String name, Object value) throws IOException {
+        if (value != null) {
+            generator.writeObjectField(name, value);
+        }
+    }
+
+    @Override
+    public MediaType contentType() {
+        return APPLICATION_JSON;
+    }
+
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        JsonGenerator generator = ObjectMappers.JSON_MAPPER.getFactory().createGenerator(sink.outputStream());
+        // OkHttp owns the sink and closes it once the body is written.
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try {
+            writer.write(generator);
+        } finally {
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.skyflow.utils;
+
+import com.google.gson.Gson;
+import com.skyflow.config.Credentials;
+import com.skyflow.serviceaccount.util.TokenManager;
+
+import java.io.File;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide {@link TokenManager}s keyed by the identity the credentials authenticate as, so every vault and
+ * connection client using the same service account, roles, context and token store shares one bearer token.
+ *
+ * <p>Managers are held weakly and dropped once no client references them. A pooled manager keeps generating tokens
+ * with the first {@link Credentials} instance it was created for.
+ */
+public final class TokenManagerPool {
+    private static final Gson GSON = new Gson();
+    private static final Map<List<Object>, WeakReference<TokenManager>> MANAGERS = new ConcurrentHashMap<>();
+
+    private TokenManagerPool() {
+    }
+
+    public static TokenManager get(Credentials credentials) {
+        List<Object> key = getKey(credentials);
+        TokenManager[] manager = new TokenManager[1];
+        MANAGERS.compute(key, (k, reference) -> {
+            manager[0] = reference == null ? null : reference.get();
+            if (manager[0] != null) {
+                return reference;
+            }
+            manager[0] = Utils.createTokenManager(credentials);
+            return new WeakReference<>(manager[0]);
+        });
+        MANAGERS.values().removeIf(reference -> reference.get() == null);
+        return manager[0];
+    }
+
+    private static List<Object> getKey(Credentials credentials) {
+        List<String> roles = credentials.getRoles() == null
+                ? Collections.<String>emptyList() : new ArrayList<>(credentials.getRoles());
+        Collections.sort(roles);
+        String path = credentials.getPath() == null ? null : new File(credentials.getPath()).getAbsolutePath();
+        // Hashed so credential strings and static tokens are not kept as map keys. Token stores have no JSON form
+        // and are compared as objects.
+        String identity = Utils.sha256Hex(GSON.toJson(Arrays.asList(path, credentials.getCredentialsString(),
+                credentials.getToken(), roles, Utils.sortContext(credentials.getContext()),
+                credentials.getTokenRefreshMarginSeconds())));
+        return Arrays.asList(identity, credentials.getTokenStore());
+    }
+}
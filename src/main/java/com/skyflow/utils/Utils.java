@@ -10,6 +10,7 @@ import com.skyflow.errors.SkyflowException;
 import com.skyflow.logs.ErrorLogs;
 import com.skyflow.logs.InfoLogs;
 import com.skyflow.serviceaccount.util.BearerToken;
+import com.skyflow.serviceaccount.util.TokenManager;
 import com.skyflow.utils.logger.LogUtil;
 import com.skyflow.vault.connection.InvokeConnectionRequest;
 import java.util.Base64;
@@ -17,13 +18,16 @@ import java.util.Base64;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 public final class Utils {
     public static String getVaultURL(String clusterId, Env env) {
@@ -52,7 +56,8 @@ public final class Utils {
         if (credentials.getPath() != null) {
             BearerToken.BearerTokenBuilder builder = BearerToken.builder()
                     .setCredentials(new File(credentials.getPath()))
-                    .setRoles(credentials.getRoles());
+                    .setRoles(credentials.getRoles())
+                    .setTokenStore(credentials.getTokenStore());
             Object ctx = credentials.getContext();
             if (ctx instanceof String) {
                 builder.setCtx((String) ctx);
@@ -63,7 +68,8 @@ public final class Utils {
         } else if (credentials.getCredentialsString() != null) {
             BearerToken.BearerTokenBuilder builder = BearerToken.builder()
                     .setCredentials(credentials.getCredentialsString())
-                    .setRoles(credentials.getRoles());
+                    .setRoles(credentials.getRoles())
+                    .setTokenStore(credentials.getTokenStore());
             Object ctx = credentials.getContext();
             if (ctx instanceof String) {
                 builder.setCtx((String) ctx);
@@ -76,6 +82,13 @@ public final class Utils {
         }
     }
 
+    public static TokenManager createTokenManager(Credentials credentials) {
+        // Only credentials that can mint a new token are refreshed in the background.
+        boolean canRefresh = credentials.getPath() != null || credentials.getCredentialsString() != null;
+        long refreshMarginSeconds = canRefresh ? credentials.getTokenRefreshMarginSeconds() : 0;
+        return new TokenManager(() -> generateBearerToken(credentials), refreshMarginSeconds);
+    }
+
     public static PrivateKey getPrivateKeyFromPem(String pemKey) throws SkyflowException {
         @SuppressWarnings("checkstyle:LocalVariableName")
         String PKCS8PrivateHeader = Constants.PKCS8_PRIVATE_HEADER;
@@ -98,6 +111,27 @@ public final class Utils {
         return privateKey;
     }
 
+    /**
+     * Returns a context map with its keys in sorted order, so that equal contexts serialize to the same JSON when
+     * used in cache keys. Any other context is returned as is.
+     */
+    public static Object sortContext(Object context) {
+        return context instanceof Map ? new TreeMap<Object, Object>((Map<?, ?>) context) : context;
+    }
+
+    public static String sha256Hex(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public static String getBaseURL(String url) throws MalformedURLException {
         URL parsedUrl = new URL(url);
         String protocol = parsedUrl.getProtocol();
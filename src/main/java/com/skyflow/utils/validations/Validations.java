@@ -11,8 +11,16 @@ import java.util.regex.Pattern;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.skyflow.config.BatchConfig;
+import com.skyflow.config.CacheConfig;
+import com.skyflow.config.CompressionConfig;
 import com.skyflow.config.ConnectionConfig;
 import com.skyflow.config.Credentials;
+import com.skyflow.config.InsertBufferConfig;
+import com.skyflow.config.KeepAliveConfig;
+import com.skyflow.config.RateLimitConfig;
+import com.skyflow.config.RetryPolicy;
+import com.skyflow.config.TransportConfig;
 import com.skyflow.config.VaultConfig;
 import com.skyflow.enums.InterfaceName;
 import com.skyflow.enums.RedactionType;
@@ -64,6 +72,151 @@ public class Validations {
         } else if (credentials != null) {
             validateCredentials(credentials);
         }
+        if (vaultConfig.getDetokenizeCacheConfig() != null) {
+            validateCacheConfig(vaultConfig.getDetokenizeCacheConfig());
+        }
+        if (vaultConfig.getTokenizeCacheConfig() != null) {
+            validateCacheConfig(vaultConfig.getTokenizeCacheConfig());
+        }
+        if (vaultConfig.getRetryPolicy() != null) {
+            validateRetryPolicy(vaultConfig.getRetryPolicy());
+        }
+        if (vaultConfig.getTransportConfig() != null) {
+            validateTransportConfig(vaultConfig.getTransportConfig());
+        }
+        if (vaultConfig.getKeepAliveConfig() != null) {
+            validateKeepAliveConfig(vaultConfig.getKeepAliveConfig());
+        }
+        if (vaultConfig.getCompressionConfig() != null) {
+            validateCompressionConfig(vaultConfig.getCompressionConfig());
+        }
+        if (vaultConfig.getRateLimitConfig() != null) {
+            validateRateLimitConfig(vaultConfig.getRateLimitConfig());
+        }
+    }
+
+    public static void validateCacheConfig(CacheConfig cacheConfig) throws SkyflowException {
+        if (cacheConfig.getMaxEntries() <= 0) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_CACHE_MAX_ENTRIES.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidCacheMaxEntries.getMessage());
+        } else if (cacheConfig.getTtlSeconds() <= 0) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_CACHE_TTL.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidCacheTtl.getMessage());
+        }
+    }
+
+    public static void validateRetryPolicy(RetryPolicy retryPolicy) throws SkyflowException {
+        if (retryPolicy.getMaxAttempts() < 1) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_RETRY_MAX_ATTEMPTS.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidRetryMaxAttempts.getMessage());
+        } else if (retryPolicy.getBaseBackoffMillis() < 0
+                || retryPolicy.getMaxBackoffMillis() < retryPolicy.getBaseBackoffMillis()) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_RETRY_BACKOFF.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidRetryBackoff.getMessage());
+        } else if (retryPolicy.getRetryBudgetMillis() < 0) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_RETRY_BUDGET.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidRetryBudget.getMessage());
+        }
+    }
+
+    public static void validateRateLimitConfig(RateLimitConfig rateLimitConfig) throws SkyflowException {
+        double minRate = rateLimitConfig.getMinRate();
+        double initialRate = rateLimitConfig.getInitialRate();
+        double maxRate = rateLimitConfig.getMaxRate();
+        if (minRate <= 0 || initialRate < minRate || maxRate < initialRate) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_RATE_LIMIT_RATE.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidRateLimitRate.getMessage());
+        } else if (rateLimitConfig.getAdditiveIncrease() < 0) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_RATE_LIMIT_ADDITIVE_INCREASE.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(),
+                    ErrorMessage.InvalidRateLimitAdditiveIncrease.getMessage());
+        } else if (rateLimitConfig.getDecreaseFactor() <= 0 || rateLimitConfig.getDecreaseFactor() >= 1) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_RATE_LIMIT_DECREASE_FACTOR.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(),
+                    ErrorMessage.InvalidRateLimitDecreaseFactor.getMessage());
+        } else if (rateLimitConfig.getBurstSize() < 1) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_RATE_LIMIT_BURST_SIZE.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidRateLimitBurstSize.getMessage());
+        }
+    }
+
+    public static void validateTransportConfig(TransportConfig transportConfig) throws SkyflowException {
+        Integer maxIdle = transportConfig.getMaxIdleConnections();
+        Long keepAlive = transportConfig.getKeepAliveDurationSeconds();
+        Integer maxRequests = transportConfig.getMaxRequests();
+        Integer maxRequestsPerHost = transportConfig.getMaxRequestsPerHost();
+        if ((maxIdle != null && maxIdle < 0) || (keepAlive != null && keepAlive <= 0)) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_CONNECTION_POOL_SETTINGS.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidConnectionPoolSettings.getMessage());
+        } else if ((maxRequests != null && maxRequests < 1) || (maxRequestsPerHost != null && maxRequestsPerHost < 1)) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_MAX_REQUESTS.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidMaxRequests.getMessage());
+        } else if (isNegative(transportConfig.getConnectTimeoutMillis())
+                || isNegative(transportConfig.getReadTimeoutMillis())
+                || isNegative(transportConfig.getWriteTimeoutMillis())
+                || isNegative(transportConfig.getCallTimeoutMillis())
+                || isNegative(transportConfig.getPingIntervalMillis())) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_TRANSPORT_TIMEOUT.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidTransportTimeout.getMessage());
+        }
+    }
+
+    public static void validateKeepAliveConfig(KeepAliveConfig keepAliveConfig) throws SkyflowException {
+        if (keepAliveConfig.getMinWarmConnections() < 1) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_KEEP_ALIVE_MIN_WARM_CONNECTIONS.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidKeepAliveMinWarmConnections.getMessage());
+        } else if (keepAliveConfig.getProbeIntervalSeconds() <= 0) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_KEEP_ALIVE_PROBE_INTERVAL.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidKeepAliveProbeInterval.getMessage());
+        }
+    }
+
+    public static void validateCompressionConfig(CompressionConfig compressionConfig) throws SkyflowException {
+        if (compressionConfig.getMinSizeBytes() < 0) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_COMPRESSION_MIN_SIZE.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidCompressionMinSize.getMessage());
+        }
+    }
+
+    public static void validateBatchConfig(BatchConfig batchConfig) throws SkyflowException {
+        if (batchConfig.getWindowMillis() < 0) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_BATCH_WINDOW.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidBatchWindow.getMessage());
+        } else if (batchConfig.getMaxBatchSize() < 1) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_BATCH_MAX_SIZE.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidBatchMaxSize.getMessage());
+        }
+    }
+
+    public static void validateInsertBufferConfig(String table, InsertBufferConfig insertBufferConfig)
+            throws SkyflowException {
+        if (table == null) {
+            LogUtil.printErrorLog(Utils.parameterizedString(
+                    ErrorLogs.TABLE_IS_REQUIRED.getLog(), InterfaceName.INSERT.getName()
+            ));
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.TableKeyError.getMessage());
+        } else if (table.trim().isEmpty()) {
+            LogUtil.printErrorLog(Utils.parameterizedString(
+                    ErrorLogs.EMPTY_TABLE_NAME.getLog(), InterfaceName.INSERT.getName()
+            ));
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.EmptyTable.getMessage());
+        } else if (insertBufferConfig.getMaxBatchRecords() < 1) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_INSERT_BUFFER_MAX_BATCH_RECORDS.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(),
+                    ErrorMessage.InvalidInsertBufferMaxBatchRecords.getMessage());
+        } else if (insertBufferConfig.getMaxBatchBytes() < 1) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_INSERT_BUFFER_MAX_BATCH_BYTES.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(),
+                    ErrorMessage.InvalidInsertBufferMaxBatchBytes.getMessage());
+        } else if (insertBufferConfig.getFlushIntervalMillis() < 0) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_INSERT_BUFFER_FLUSH_INTERVAL.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(),
+                    ErrorMessage.InvalidInsertBufferFlushInterval.getMessage());
+        } else if (insertBufferConfig.getMaxBufferedBytes() < 1) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_INSERT_BUFFER_MAX_BUFFERED_BYTES.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(),
+                    ErrorMessage.InvalidInsertBufferMaxBufferedBytes.getMessage());
+        }
     }
 
     public static void validateConnectionConfig(ConnectionConfig connectionConfig) throws SkyflowException {
@@ -86,6 +239,9 @@ public class Validations {
             LogUtil.printErrorLog(ErrorLogs.INVALID_CONNECTION_URL.getLog());
             throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidConnectionUrlFormat.getMessage());
         }
+        if (connectionConfig.getRetryPolicy() != null) {
+            validateRetryPolicy(connectionConfig.getRetryPolicy());
+        }
     }
 
     public static void validateInvokeConnectionRequest(InvokeConnectionRequest invokeConnectionRequest) throws SkyflowException {
@@ -248,6 +404,10 @@ public class Validations {
                 throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidContextType.getMessage());
             }
         }
+        if (credentials.getTokenRefreshMarginSeconds() < 0) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_TOKEN_REFRESH_MARGIN.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidTokenRefreshMargin.getMessage());
+        }
     }
 
     public static void validateDetokenizeRequest(DetokenizeRequest detokenizeRequest) throws SkyflowException {
@@ -283,6 +443,8 @@ public class Validations {
         String upsert = insertRequest.getUpsert();
         Boolean homogeneous = insertRequest.getHomogeneous();
         TokenMode tokenMode = insertRequest.getTokenMode();
+        Integer chunkSize = insertRequest.getChunkSize();
+        Integer maxConcurrency = insertRequest.getMaxConcurrency();
 
         if (table == null) {
             LogUtil.printErrorLog(Utils.parameterizedString(
@@ -315,6 +477,24 @@ public class Validations {
             }
         }
 
+        if (chunkSize != null && chunkSize <= 0) {
+            LogUtil.printErrorLog(Utils.parameterizedString(
+                    ErrorLogs.INVALID_CHUNK_SIZE.getLog(), InterfaceName.INSERT.getName()
+            ));
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidChunkSize.getMessage());
+        } else if (chunkSize != null && !insertRequest.getContinueOnError()) {
+            LogUtil.printErrorLog(Utils.parameterizedString(
+                    ErrorLogs.CHUNK_SIZE_REQUIRES_CONTINUE_ON_ERROR.getLog(), InterfaceName.INSERT.getName()
+            ));
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(),
+                    ErrorMessage.ChunkSizeRequiresContinueOnError.getMessage());
+        } else if (maxConcurrency != null && maxConcurrency <= 0) {
+            LogUtil.printErrorLog(Utils.parameterizedString(
+                    ErrorLogs.INVALID_MAX_CONCURRENCY.getLog(), InterfaceName.INSERT.getName()
+            ));
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidMaxConcurrency.getMessage());
+        }
+
         for (HashMap<String, Object> valuesMap : values) {
             for (String key : valuesMap.keySet()) {
                 if (key == null || key.trim().isEmpty()) {
@@ -771,6 +951,10 @@ public class Validations {
         }
     }
 
+    private static boolean isNegative(Long value) {
+        return value != null && value < 0;
+    }
+
     private static boolean isNullOrEmpty(String str) {
         return str == null || str.trim().isEmpty();
     }
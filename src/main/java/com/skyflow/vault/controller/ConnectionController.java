@@ -14,6 +14,7 @@ import com.skyflow.errors.SkyflowException;
 import com.skyflow.logs.ErrorLogs;
 import com.skyflow.logs.InfoLogs;
 import com.skyflow.utils.Constants;
+import com.skyflow.utils.HttpResponse;
 import com.skyflow.utils.HttpUtility;
 import com.skyflow.utils.Utils;
 import com.skyflow.utils.logger.LogUtil;
@@ -63,7 +64,9 @@ public final class ConnectionController extends ConnectionClient {
                 }
             }
 
-            String response = HttpUtility.sendRequest(requestMethod.name(), new URL(filledURL), requestBody, headers);
+            HttpResponse httpResponse = HttpUtility.send(requestMethod.name(), new URL(filledURL), requestBody, headers,
+                    super.getConnectionConfig().getRetryPolicy());
+            String response = httpResponse.getBody();
             JsonObject data;
             try {
                 data = JsonParser.parseString(response).getAsJsonObject();
@@ -72,7 +75,7 @@ public final class ConnectionController extends ConnectionClient {
                 data.addProperty("response", response);
             }
             HashMap<String, String> metadata = new HashMap<>();
-            metadata.put("requestId", HttpUtility.getRequestID());
+            metadata.put("requestId", httpResponse.getRequestId());
             connectionResponse = new InvokeConnectionResponse(data, metadata, null);
             LogUtil.printInfoLog(InfoLogs.INVOKE_CONNECTION_REQUEST_RESOLVED.getLog());
         } catch (IOException e) {
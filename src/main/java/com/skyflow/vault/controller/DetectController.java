@@ -3,6 +3,7 @@ package com.skyflow.vault.controller;
 import com.google.gson.*;
 import com.skyflow.VaultClient;
 import com.skyflow.config.Credentials;
+import com.skyflow.config.RateLimitConfig;
 import com.skyflow.config.VaultConfig;
 import com.skyflow.enums.DeidentifyFileStatus;
 import com.skyflow.errors.ErrorCode;
@@ -17,6 +18,7 @@ import com.skyflow.generated.rest.types.*;
 import com.skyflow.logs.ErrorLogs;
 import com.skyflow.logs.InfoLogs;
 import com.skyflow.utils.Constants;
+import com.skyflow.utils.RateLimitStats;
 import com.skyflow.utils.Utils;
 import com.skyflow.utils.logger.LogUtil;
 import com.skyflow.utils.validations.Validations;
@@ -41,6 +43,15 @@ public final class DetectController extends VaultClient {
         super(vaultConfig, credentials);
     }
 
+    /**
+     * Returns the request rate currently permitted by the vault's adaptive rate limiter and its counters, or
+     * {@code null} when {@link VaultConfig#setRateLimitConfig(RateLimitConfig)} was not set for this vault. The
+     * limiter is shared with the vault's {@link VaultController}.
+     */
+    public RateLimitStats getRateLimitStats() {
+        return getRateLimiterStats();
+    }
+
     public DeidentifyTextResponse deidentifyText(DeidentifyTextRequest deidentifyTextRequest) throws SkyflowException {
         LogUtil.printInfoLog(InfoLogs.DEIDENTIFY_TEXT_TRIGGERED.getLog());
         DeidentifyStringResponse deidentifyStringResponse = null;
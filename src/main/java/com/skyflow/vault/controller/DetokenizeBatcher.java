@@ -0,0 +1,78 @@
+package com.skyflow.vault.controller;
+
+import com.skyflow.config.BatchConfig;
+import com.skyflow.errors.SkyflowException;
+import com.skyflow.logs.ErrorLogs;
+import com.skyflow.utils.BatchStats;
+import com.skyflow.utils.MicroBatcher;
+import com.skyflow.utils.Utils;
+import com.skyflow.utils.logger.LogUtil;
+import com.skyflow.utils.validations.Validations;
+import com.skyflow.vault.tokens.DetokenizeData;
+import com.skyflow.vault.tokens.DetokenizeRecordResponse;
+import com.skyflow.vault.tokens.DetokenizeRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Collects single-token detokenize lookups and sends them as one detokenize call with {@code continueOnError} set,
+ * so many callers detokenizing one token each share a vault call. Each lookup's future completes with its own record,
+ * which carries an error when the vault could not detokenize that token. When the whole call fails, every lookup in
+ * it fails with the same {@link SkyflowException}. Lookups go through the detokenize cache when it is enabled.
+ * Instances are thread-safe; create them with {@link VaultController#newDetokenizeBatcher(BatchConfig)}.
+ */
+public final class DetokenizeBatcher implements AutoCloseable {
+    private final MicroBatcher<DetokenizeData, DetokenizeRecordResponse> batcher;
+
+    DetokenizeBatcher(VaultController controller, BatchConfig batchConfig) {
+        this.batcher = new MicroBatcher<>(batchConfig, detokenizeData -> controller.detokenizeRecordsAsync(
+                DetokenizeRequest.builder()
+                        .detokenizeData(new ArrayList<>(detokenizeData))
+                        .continueOnError(true)
+                        .build(), null
+        ).whenComplete((records, throwable) -> {
+            if (throwable != null) {
+                LogUtil.printErrorLog(Utils.parameterizedString(ErrorLogs.BATCH_REQUEST_FAILED.getLog(),
+                        "detokenize", String.valueOf(detokenizeData.size()), String.valueOf(throwable.getMessage())));
+            }
+        }));
+    }
+
+    /**
+     * Queues {@code detokenizeData} for the next batch. Invalid lookups fail right away without joining a batch.
+     */
+    public CompletableFuture<DetokenizeRecordResponse> detokenize(DetokenizeData detokenizeData) {
+        try {
+            Validations.validateDetokenizeRequest(DetokenizeRequest.builder()
+                    .detokenizeData(detokenizeData == null
+                            ? new ArrayList<>() : new ArrayList<>(Collections.singletonList(detokenizeData)))
+                    .build());
+        } catch (SkyflowException e) {
+            CompletableFuture<DetokenizeRecordResponse> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        return batcher.submit(detokenizeData);
+    }
+
+    /**
+     * Sends the waiting lookups now instead of at the end of the batch window.
+     */
+    public void flush() {
+        batcher.flush();
+    }
+
+    /**
+     * Sends the waiting lookups; later calls to {@link #detokenize(DetokenizeData)} fail.
+     */
+    @Override
+    public void close() {
+        batcher.close();
+    }
+
+    public BatchStats getStats() {
+        return batcher.getStats();
+    }
+}
@@ -0,0 +1,244 @@
+package com.skyflow.vault.controller;
+
+import com.google.gson.Gson;
+import com.skyflow.config.InsertBufferConfig;
+import com.skyflow.errors.ErrorCode;
+import com.skyflow.errors.ErrorMessage;
+import com.skyflow.errors.SkyflowException;
+import com.skyflow.logs.ErrorLogs;
+import com.skyflow.utils.BatchStats;
+import com.skyflow.utils.MicroBatcher;
+import com.skyflow.utils.Utils;
+import com.skyflow.utils.logger.LogUtil;
+import com.skyflow.utils.validations.Validations;
+import com.skyflow.vault.data.InsertRequest;
+import com.skyflow.vault.data.InsertResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffers single records for one table and inserts them in batches with {@code continueOnError} set. Each record's
+ * future completes with its own inserted record, the skyflow ID and tokens, or fails with a {@link SkyflowException}
+ * carrying the vault's error for that record, matched through the {@code requestIndex} of the batch response. When
+ * the whole insert call fails, every record in it fails with the same exception. Batching is done by a
+ * {@link MicroBatcher} weighted by each record's JSON size, and batches are sent from
+ * {@link InsertBufferConfig#getExecutor()}.
+ * <p>
+ * Records count against {@link InsertBufferConfig#getMaxBufferedBytes()} from the time they are buffered until their
+ * batch completes. When the buffer is full, {@link #insert(HashMap)} blocks until a batch completes or rejects the
+ * record, depending on {@link InsertBufferConfig#getBlockWhenFull()}. Instances are thread-safe; create them with
+ * {@link VaultController#newInsertBuffer(String, InsertBufferConfig)}.
+ */
+public final class InsertBuffer implements AutoCloseable {
+    private static final Gson GSON = new Gson();
+
+    private final String table;
+    private final long maxBufferedBytes;
+    private final boolean blockWhenFull;
+    private final MicroBatcher<HashMap<String, Object>, RecordResult> batcher;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private long bufferedBytes;
+    private boolean closed;
+
+    InsertBuffer(VaultController controller, String table, InsertBufferConfig insertBufferConfig) {
+        this.table = table;
+        this.maxBufferedBytes = insertBufferConfig.getMaxBufferedBytes();
+        this.blockWhenFull = insertBufferConfig.getBlockWhenFull();
+        this.batcher = new MicroBatcher<>(insertBufferConfig.getMaxBatchRecords(),
+                insertBufferConfig.getMaxBatchBytes(), insertBufferConfig.getFlushIntervalMillis(),
+                insertBufferConfig.getExecutor(), records -> send(controller, table, records));
+    }
+
+    /**
+     * Buffers {@code record} for the next batch. Invalid records fail right away without joining a batch. A record
+     * larger than the whole buffer is accepted only when the buffer is empty.
+     */
+    public CompletableFuture<HashMap<String, Object>> insert(HashMap<String, Object> record) {
+        CompletableFuture<HashMap<String, Object>> future = new CompletableFuture<>();
+        try {
+            Validations.validateInsertRequest(InsertRequest.builder()
+                    .table(table)
+                    .values(record == null ? null : new ArrayList<>(Collections.singletonList(record)))
+                    .build());
+        } catch (SkyflowException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+        long bytes = GSON.toJson(record).getBytes(StandardCharsets.UTF_8).length;
+
+        lock.lock();
+        try {
+            while (!closed && bufferedBytes > 0 && bufferedBytes + bytes > maxBufferedBytes) {
+                if (!blockWhenFull) {
+                    LogUtil.printErrorLog(Utils.parameterizedString(
+                            ErrorLogs.INSERT_BUFFER_FULL.getLog(), table, String.valueOf(bytes)));
+                    future.completeExceptionally(new SkyflowException(
+                            ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InsertBufferFull.getMessage()));
+                    return future;
+                }
+                if (batcher.getPendingCount() > 0) {
+                    // Space only comes back when batches complete, so don't wait for the flush interval.
+                    lock.unlock();
+                    try {
+                        batcher.flush();
+                    } finally {
+                        lock.lock();
+                    }
+                    continue;
+                }
+                try {
+                    notFull.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    future.completeExceptionally(new SkyflowException(ErrorMessage.InsertBufferInterrupted.getMessage(), e));
+                    return future;
+                }
+            }
+            if (closed) {
+                future.completeExceptionally(new SkyflowException(
+                        ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.BatcherClosed.getMessage()));
+                return future;
+            }
+            bufferedBytes += bytes;
+        } finally {
+            lock.unlock();
+        }
+
+        batcher.submit(record, bytes).whenComplete((result, throwable) -> {
+            release(bytes);
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+            } else if (result.error != null) {
+                future.completeExceptionally(result.error);
+            } else {
+                future.complete(result.fields);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Sends the buffered records now instead of at the end of the flush interval.
+     */
+    public void flush() {
+        batcher.flush();
+    }
+
+    /**
+     * Sends the buffered records and rejects any further ones, including callers blocked on a full buffer. Records
+     * already sent still complete.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        batcher.close();
+    }
+
+    /**
+     * Returns the JSON size of the records that are buffered or in flight.
+     */
+    public long getBufferedBytes() {
+        lock.lock();
+        try {
+            return bufferedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns how many records went into each insert call and how long records waited before their call was sent.
+     */
+    public BatchStats getStats() {
+        return batcher.getStats();
+    }
+
+    private void release(long bytes) {
+        lock.lock();
+        try {
+            bufferedBytes -= bytes;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static CompletableFuture<List<RecordResult>> send(VaultController controller, String table,
+                                                              List<HashMap<String, Object>> records) {
+        InsertRequest insertRequest = InsertRequest.builder()
+                .table(table)
+                .values(new ArrayList<>(records))
+                .continueOnError(true)
+                .returnTokens(true)
+                .build();
+        return controller.insertAsync(insertRequest).whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause() : throwable;
+                LogUtil.printErrorLog(Utils.parameterizedString(ErrorLogs.BATCH_REQUEST_FAILED.getLog(),
+                        "insert", String.valueOf(records.size()), String.valueOf(cause.getMessage())));
+            }
+        }).thenApply(response -> getRecordResults(records.size(), response));
+    }
+
+    /**
+     * Places the inserted records and the per-record errors of a batch response at their {@code requestIndex}.
+     * Records the response says nothing about are left {@code null}.
+     */
+    private static List<RecordResult> getRecordResults(int size, InsertResponse response) {
+        List<RecordResult> results = new ArrayList<>(Collections.<RecordResult>nCopies(size, null));
+        routeByRequestIndex(results, response.getInsertedFields(), fields -> new RecordResult(fields, null));
+        routeByRequestIndex(results, response.getErrors(), error -> {
+            Object httpCode = error.get("httpCode");
+            return new RecordResult(null, new SkyflowException(
+                    httpCode instanceof Integer ? (Integer) httpCode : ErrorCode.INVALID_INPUT.getCode(),
+                    String.valueOf(error.get("error"))));
+        });
+        return results;
+    }
+
+    private static void routeByRequestIndex(List<RecordResult> results, List<HashMap<String, Object>> responses,
+                                            ResultMapper mapper) {
+        if (responses == null) {
+            return;
+        }
+        for (HashMap<String, Object> response : responses) {
+            Object requestIndex = response.get("requestIndex");
+            if (requestIndex instanceof Integer && (Integer) requestIndex >= 0 && (Integer) requestIndex < results.size()) {
+                HashMap<String, Object> fields = new HashMap<>(response);
+                fields.remove("requestIndex");
+                results.set((Integer) requestIndex, mapper.map(fields));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResultMapper {
+        RecordResult map(HashMap<String, Object> response);
+    }
+
+    private static final class RecordResult {
+        private final HashMap<String, Object> fields;
+        private final SkyflowException error;
+
+        private RecordResult(HashMap<String, Object> fields, SkyflowException error) {
+            this.fields = fields;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.skyflow.vault.controller;
+
+import com.skyflow.config.BatchConfig;
+import com.skyflow.errors.SkyflowException;
+import com.skyflow.logs.ErrorLogs;
+import com.skyflow.utils.BatchStats;
+import com.skyflow.utils.MicroBatcher;
+import com.skyflow.utils.Utils;
+import com.skyflow.utils.logger.LogUtil;
+import com.skyflow.utils.validations.Validations;
+import com.skyflow.vault.tokens.ColumnValue;
+import com.skyflow.vault.tokens.TokenizeRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Collects single values to tokenize and sends them as one tokenize call, so many callers tokenizing one value each
+ * share a vault call. Each value's future completes with its own token. The vault accepts or rejects a tokenize call
+ * as a whole, so when the call fails every value in it fails with the same {@link SkyflowException}. Values go
+ * through the tokenize cache when it is enabled, and repeated values in a batch are sent once. Each batch is
+ * planned and sent from {@link BatchConfig#getExecutor()}. Instances are thread-safe; create them with
+ * {@link VaultController#newTokenizeBatcher(BatchConfig)}.
+ */
+public final class TokenizeBatcher implements AutoCloseable {
+    private final MicroBatcher<ColumnValue, String> batcher;
+
+    TokenizeBatcher(VaultController controller, BatchConfig batchConfig) {
+        this.batcher = new MicroBatcher<>(batchConfig, columnValues -> controller.tokenizeValuesAsync(
+                TokenizeRequest.builder().values(new ArrayList<>(columnValues)).build(), null
+        ).whenComplete((tokens, throwable) -> {
+            if (throwable != null) {
+                LogUtil.printErrorLog(Utils.parameterizedString(ErrorLogs.BATCH_REQUEST_FAILED.getLog(),
+                        "tokenize", String.valueOf(columnValues.size()), String.valueOf(throwable.getMessage())));
+            }
+        }));
+    }
+
+    /**
+     * Queues {@code columnValue} for the next batch. Invalid values fail right away without joining a batch, so
+     * they can't fail the values of other callers.
+     */
+    public CompletableFuture<String> tokenize(ColumnValue columnValue) {
+        try {
+            Validations.validateTokenizeRequest(TokenizeRequest.builder()
+                    .values(columnValue == null ? new ArrayList<>() : Collections.singletonList(columnValue))
+                    .build());
+        } catch (SkyflowException e) {
+            CompletableFuture<String> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        return batcher.submit(columnValue);
+    }
+
+    /**
+     * Sends the waiting values now instead of at the end of the batch window.
+     */
+    public void flush() {
+        batcher.flush();
+    }
+
+    /**
+     * Sends the waiting values; later calls to {@link #tokenize(ColumnValue)} fail.
+     */
+    @Override
+    public void close() {
+        batcher.close();
+    }
+
+    /**
+     * Returns how many values went into each vault call and how long values waited before their call was sent.
+     */
+    public BatchStats getStats() {
+        return batcher.getStats();
+    }
+}
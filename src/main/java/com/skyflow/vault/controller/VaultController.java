@@ -3,11 +3,20 @@ package com.skyflow.vault.controller;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -17,13 +26,22 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.skyflow.VaultClient;
+import com.skyflow.config.BatchConfig;
+import com.skyflow.config.CacheConfig;
+import com.skyflow.config.CompressionConfig;
 import com.skyflow.config.Credentials;
+import com.skyflow.config.InsertBufferConfig;
+import com.skyflow.config.KeepAliveConfig;
+import com.skyflow.config.RateLimitConfig;
 import com.skyflow.config.VaultConfig;
 import com.skyflow.enums.RedactionType;
 import com.skyflow.errors.ErrorCode;
+import com.skyflow.errors.ErrorMessage;
 import com.skyflow.errors.SkyflowException;
 import com.skyflow.generated.rest.core.ApiClientApiException;
+import com.skyflow.generated.rest.core.ApiClientException;
 import com.skyflow.generated.rest.core.ApiClientHttpResponse;
+import com.skyflow.generated.rest.core.QueryStringMapper;
 import com.skyflow.generated.rest.core.RequestOptions;
 import com.skyflow.generated.rest.resources.query.requests.QueryServiceExecuteQueryBody;
 import com.skyflow.generated.rest.resources.records.requests.RecordServiceBatchOperationBody;
@@ -51,8 +69,16 @@ import com.skyflow.generated.rest.types.V1TokenizeResponse;
 import com.skyflow.generated.rest.types.V1UpdateRecordResponse;
 import com.skyflow.logs.ErrorLogs;
 import com.skyflow.logs.InfoLogs;
+import com.skyflow.utils.CoalescingStats;
+import com.skyflow.utils.CompressionStats;
 import com.skyflow.utils.Constants;
+import com.skyflow.utils.KeepAliveStats;
+import com.skyflow.utils.RateLimitStats;
+import com.skyflow.utils.RequestCoalescer;
+import com.skyflow.utils.StreamingJsonRequestBody;
 import com.skyflow.utils.Utils;
+import com.skyflow.utils.cache.CacheStats;
+import com.skyflow.utils.cache.LruCache;
 import com.skyflow.utils.logger.LogUtil;
 import com.skyflow.utils.validations.Validations;
 import com.skyflow.vault.data.DeleteRequest;
@@ -67,18 +93,138 @@ import com.skyflow.vault.data.QueryRequest;
 import com.skyflow.vault.data.QueryResponse;
 import com.skyflow.vault.data.UpdateRequest;
 import com.skyflow.vault.data.UpdateResponse;
+import com.skyflow.vault.data.WarmUpResponse;
+import com.skyflow.vault.tokens.ColumnValue;
+import com.skyflow.vault.tokens.DetokenizeData;
 import com.skyflow.vault.tokens.DetokenizeRecordResponse;
 import com.skyflow.vault.tokens.DetokenizeRequest;
 import com.skyflow.vault.tokens.DetokenizeResponse;
 import com.skyflow.vault.tokens.TokenizeRequest;
 import com.skyflow.vault.tokens.TokenizeResponse;
+import okhttp3.HttpUrl;
 
 public final class VaultController extends VaultClient {
     private static final Gson GSON = new GsonBuilder().serializeNulls().create();
     private static final JsonObject SKY_METADATA = Utils.getMetrics();
 
+    private final LruCache<String, DetokenizeRecordResponse> detokenizeCache;
+    private final LruCache<String, String> tokenizeCache;
+    private final RequestCoalescer<String, DetokenizeResponse> detokenizeCoalescer;
+    private final RequestCoalescer<String, GetResponse> getCoalescer;
+
     public VaultController(VaultConfig vaultConfig, Credentials credentials) {
         super(vaultConfig, credentials);
+        CacheConfig cacheConfig = vaultConfig.getDetokenizeCacheConfig();
+        this.detokenizeCache = cacheConfig == null ? null
+                : new LruCache<>(cacheConfig.getMaxEntries(), cacheConfig.getTtlSeconds(), TimeUnit.SECONDS);
+        cacheConfig = vaultConfig.getTokenizeCacheConfig();
+        this.tokenizeCache = cacheConfig == null ? null
+                : new LruCache<>(cacheConfig.getMaxEntries(), cacheConfig.getTtlSeconds(), TimeUnit.SECONDS);
+        boolean coalesceRequests = vaultConfig.getCoalesceRequests();
+        this.detokenizeCoalescer = coalesceRequests ? new RequestCoalescer<>(VaultController::copyOf) : null;
+        this.getCoalescer = coalesceRequests ? new RequestCoalescer<>(VaultController::copyOf) : null;
+    }
+
+    /**
+     * Fetches the bearer token and opens {@value Constants#DEFAULT_WARM_UP_CONNECTIONS} keep-alive connections to the
+     * vault before the first request. See {@link #warmUp(int)}.
+     */
+    public WarmUpResponse warmUp() throws SkyflowException {
+        return warmUp(Constants.DEFAULT_WARM_UP_CONNECTIONS);
+    }
+
+    /**
+     * Fetches the bearer token and, in parallel, opens {@code connections} keep-alive connections to the vault, so
+     * that the first requests do not pay for DNS, TLS handshakes and token generation. The connections are kept
+     * only up to the transport's max idle connections, and no more are opened at once than the transport's
+     * {@code maxRequestsPerHost}.
+     */
+    public WarmUpResponse warmUp(int connections) throws SkyflowException {
+        if (connections < 1) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_WARM_UP_CONNECTIONS.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidWarmUpConnections.getMessage());
+        }
+        return warmUpConnections(connections);
+    }
+
+    /**
+     * Returns how many request bodies were compressed, the bytes saved and the time spent compressing, or
+     * {@code null} when {@link VaultConfig#setCompressionConfig(CompressionConfig)} is not set for this vault.
+     */
+    public CompressionStats getCompressionStats() {
+        return getVaultConfig().getCompressionConfig() == null ? null : super.getCompressionStats();
+    }
+
+    /**
+     * Returns probe counters and round-trip times of the background connection keeper, or {@code null} when
+     * {@link VaultConfig#setKeepAliveConfig(KeepAliveConfig)} was not set for this vault.
+     */
+    public KeepAliveStats getKeepAliveStats() {
+        return getConnectionKeeperStats();
+    }
+
+    /**
+     * Returns the request rate currently permitted by the vault's adaptive rate limiter and its counters, or
+     * {@code null} when {@link VaultConfig#setRateLimitConfig(RateLimitConfig)} was not set for this vault.
+     */
+    public RateLimitStats getRateLimitStats() {
+        return getRateLimiterStats();
+    }
+
+    /**
+     * Returns how many detokenize and get calls were made and how many requests shared a call already in flight, or
+     * {@code null} when {@link VaultConfig#setCoalesceRequests(Boolean)} was not enabled for this vault.
+     */
+    public CoalescingStats getCoalescingStats() {
+        if (detokenizeCoalescer == null) {
+            return null;
+        }
+        CoalescingStats detokenizeStats = detokenizeCoalescer.getStats();
+        CoalescingStats getStats = getCoalescer.getStats();
+        return new CoalescingStats(detokenizeStats.getCallCount() + getStats.getCallCount(),
+                detokenizeStats.getCoalescedCount() + getStats.getCoalescedCount(),
+                detokenizeStats.getInFlightCount() + getStats.getInFlightCount());
+    }
+
+    /**
+     * Returns hit, miss and eviction counters of the detokenize cache, or {@code null} when
+     * {@link VaultConfig#setDetokenizeCacheConfig(CacheConfig)} was not set for this vault.
+     */
+    public CacheStats getDetokenizeCacheStats() {
+        return detokenizeCache == null ? null : detokenizeCache.getStats();
+    }
+
+    /**
+     * Returns hit, miss and eviction counters of the tokenize cache, or {@code null} when
+     * {@link VaultConfig#setTokenizeCacheConfig(CacheConfig)} was not set for this vault.
+     */
+    public CacheStats getTokenizeCacheStats() {
+        return tokenizeCache == null ? null : tokenizeCache.getStats();
+    }
+
+    // Gives each caller of a coalesced detokenize call its own lists. The record responses are immutable.
+    private static DetokenizeResponse copyOf(DetokenizeResponse response) {
+        return new DetokenizeResponse(copyOfList(response.getDetokenizedFields()), copyOfList(response.getErrors()));
+    }
+
+    // Gives each caller of a coalesced get call its own lists and record maps.
+    private static GetResponse copyOf(GetResponse response) {
+        return new GetResponse(copyOfRecords(response.getData()), copyOfRecords(response.getErrors()));
+    }
+
+    private static <T> ArrayList<T> copyOfList(ArrayList<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    private static ArrayList<HashMap<String, Object>> copyOfRecords(ArrayList<HashMap<String, Object>> records) {
+        if (records == null) {
+            return null;
+        }
+        ArrayList<HashMap<String, Object>> copy = new ArrayList<>(records.size());
+        for (HashMap<String, Object> record : records) {
+            copy.add(record == null ? null : new HashMap<>(record));
+        }
+        return copy;
     }
 
     private static String extractUpdateSkyflowId(HashMap<String, Object> data) {
@@ -183,50 +329,17 @@ public final class VaultController extends VaultClient {
 
     public InsertResponse insert(InsertRequest insertRequest) throws SkyflowException {
         LogUtil.printInfoLog(InfoLogs.INSERT_TRIGGERED.getLog());
-        V1InsertRecordResponse bulkInsertResult = null;
-        ApiClientHttpResponse<V1BatchOperationResponse> batchInsertResult = null;
-        ArrayList<HashMap<String, Object>> insertedFields = new ArrayList<>();
-        ArrayList<HashMap<String, Object>> errorFields = new ArrayList<>();
-        Boolean continueOnError = insertRequest.getContinueOnError();
+        InsertResponse insertResponse;
         try {
             LogUtil.printInfoLog(InfoLogs.VALIDATE_INSERT_REQUEST.getLog());
             Validations.validateInsertRequest(insertRequest);
             setBearerToken();
-            if (continueOnError) {
-                RecordServiceBatchOperationBody insertBody = super.getBatchInsertRequestBody(insertRequest);
-                RequestOptions requestOptions = RequestOptions.builder().addHeader(Constants.SDK_METRICS_HEADER_KEY, SKY_METADATA.toString()).build();
-                batchInsertResult = super.getRecordsApi().withRawResponse().recordServiceBatchOperation(super.getVaultConfig().getVaultId(), insertBody, requestOptions);
-                LogUtil.printInfoLog(InfoLogs.INSERT_REQUEST_RESOLVED.getLog());
-                Optional<List<Map<String, Object>>> records = batchInsertResult.body().getResponses();
-
-                if (records.isPresent()) {
-                    List<Map<String, Object>> recordList = records.get();
-
-                    for (Integer index = (Integer) 0; index < recordList.size(); index++) {
-                        Map<String, Object> record = recordList.get(index);
-                        HashMap<String, Object> insertRecord = getFormattedBatchInsertRecord(record, index);
-
-                        if (insertRecord.containsKey("skyflowId")) {
-                            insertedFields.add(insertRecord);
-                        } else {
-                            insertRecord.put("requestId", batchInsertResult.headers().get(Constants.REQUEST_ID_HEADER_KEY).get(0));
-                            insertRecord.put("httpCode", ErrorCode.INVALID_INPUT.getCode());
-                            errorFields.add(insertRecord);
-                        }
-                    }
-                }
+            if (isChunkedInsert(insertRequest)) {
+                insertResponse = await(insertInChunks(insertRequest, null));
+            } else if (insertRequest.getContinueOnError()) {
+                insertResponse = getBatchInsertResponse(sendBatchInsert(insertRequest));
             } else {
-                RecordServiceInsertRecordBody insertBody = super.getBulkInsertRequestBody(insertRequest);
-                bulkInsertResult = super.getRecordsApi().recordServiceInsertRecord(
-                        super.getVaultConfig().getVaultId(), insertRequest.getTable(), insertBody);
-                LogUtil.printInfoLog(InfoLogs.INSERT_REQUEST_RESOLVED.getLog());
-                Optional<List<V1RecordMetaProperties>> records = bulkInsertResult.getRecords();
-                if (records.isPresent()) {
-                    for (V1RecordMetaProperties record : records.get()) {
-                        HashMap<String, Object> insertRecord = getFormattedBulkInsertRecord(record);
-                        insertedFields.add(insertRecord);
-                    }
-                }
+                insertResponse = getBulkInsertResponse(sendBulkInsert(insertRequest));
             }
         } catch (ApiClientApiException e) {
             String bodyString = GSON.toJson(e.body());
@@ -234,139 +347,300 @@ public final class VaultController extends VaultClient {
             throw new SkyflowException(e.statusCode(), e, e.headers(), bodyString);
         }
         LogUtil.printInfoLog(InfoLogs.INSERT_SUCCESS.getLog());
-        if (insertedFields.isEmpty()) {
-            return new InsertResponse(null, errorFields.isEmpty() ? null : errorFields);
+        return insertResponse;
+    }
+
+    public CompletableFuture<InsertResponse> insertAsync(InsertRequest insertRequest) {
+        return insertAsync(insertRequest, null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #insert(InsertRequest)}. Validation, authentication and the request
+     * body are prepared on {@code executor} (or the calling thread when {@code null}); the response is mapped
+     * on {@code executor} (or the HTTP callback thread when {@code null}). The returned future completes
+     * exceptionally with a {@link SkyflowException} on failure.
+     */
+    public CompletableFuture<InsertResponse> insertAsync(InsertRequest insertRequest, Executor executor) {
+        LogUtil.printInfoLog(InfoLogs.INSERT_TRIGGERED.getLog());
+        if (insertRequest != null && isChunkedInsert(insertRequest)) {
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    LogUtil.printInfoLog(InfoLogs.VALIDATE_INSERT_REQUEST.getLog());
+                    Validations.validateInsertRequest(insertRequest);
+                    setBearerToken();
+                } catch (SkyflowException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor != null ? executor : Runnable::run).thenCompose(ignored -> insertInChunks(insertRequest, executor));
         }
-        if (errorFields.isEmpty()) {
-            return new InsertResponse(insertedFields, null);
+        if (insertRequest != null && insertRequest.getContinueOnError()) {
+            return sendAsync(executor, ErrorLogs.INSERT_RECORDS_REJECTED, () -> {
+                LogUtil.printInfoLog(InfoLogs.VALIDATE_INSERT_REQUEST.getLog());
+                Validations.validateInsertRequest(insertRequest);
+                setBearerToken();
+                return sendBatchInsertAsync(insertRequest);
+            }, result -> {
+                InsertResponse insertResponse = getBatchInsertResponse(result);
+                LogUtil.printInfoLog(InfoLogs.INSERT_SUCCESS.getLog());
+                return insertResponse;
+            });
         }
-        return new InsertResponse(insertedFields, errorFields);
+        return sendAsync(executor, ErrorLogs.INSERT_RECORDS_REJECTED, () -> {
+            LogUtil.printInfoLog(InfoLogs.VALIDATE_INSERT_REQUEST.getLog());
+            Validations.validateInsertRequest(insertRequest);
+            setBearerToken();
+            return sendBulkInsertAsync(insertRequest);
+        }, result -> {
+            InsertResponse insertResponse = getBulkInsertResponse(result);
+            LogUtil.printInfoLog(InfoLogs.INSERT_SUCCESS.getLog());
+            return insertResponse;
+        });
+    }
+
+    /**
+     * Returns a buffer that collects single records for {@code table} and inserts them in batches with
+     * {@code continueOnError} set. Close it to send the records still buffered.
+     */
+    public InsertBuffer newInsertBuffer(String table, InsertBufferConfig insertBufferConfig) throws SkyflowException {
+        Validations.validateInsertBufferConfig(table, insertBufferConfig);
+        return new InsertBuffer(this, table, insertBufferConfig);
+    }
+
+    public InsertBuffer newInsertBuffer(String table) throws SkyflowException {
+        return newInsertBuffer(table, new InsertBufferConfig());
     }
 
     public DetokenizeResponse detokenize(DetokenizeRequest detokenizeRequest) throws SkyflowException {
+        String key = detokenizeCoalescer == null ? null : getDetokenizeCoalescingKey(detokenizeRequest);
+        if (key == null) {
+            return detokenizeOnce(detokenizeRequest);
+        }
+        return await(detokenizeCoalescer.execute(key, () -> callSync(() -> detokenizeOnce(detokenizeRequest))));
+    }
+
+    private DetokenizeResponse detokenizeOnce(DetokenizeRequest detokenizeRequest) throws SkyflowException {
         LogUtil.printInfoLog(InfoLogs.DETOKENIZE_TRIGGERED.getLog());
-        ApiClientHttpResponse<V1DetokenizeResponse> result = null;
-        ArrayList<DetokenizeRecordResponse> detokenizedFields = new ArrayList<>();
-        ArrayList<DetokenizeRecordResponse> errorRecords = new ArrayList<>();
+        DetokenizeResponse detokenizeResponse;
         try {
             LogUtil.printInfoLog(InfoLogs.VALIDATE_DETOKENIZE_REQUEST.getLog());
             Validations.validateDetokenizeRequest(detokenizeRequest);
-            setBearerToken();
-            V1DetokenizePayload payload = super.getDetokenizePayload(detokenizeRequest);
-            RequestOptions requestOptions = RequestOptions.builder().addHeader(Constants.SDK_METRICS_HEADER_KEY, SKY_METADATA.toString()).build();
-            result = super.getTokensApi().withRawResponse().recordServiceDetokenize(super.getVaultConfig().getVaultId(), payload, requestOptions);
-            LogUtil.printInfoLog(InfoLogs.DETOKENIZE_REQUEST_RESOLVED.getLog());
-            Map<String, List<String>> responseHeaders = result.headers();
-            String requestId = responseHeaders.get(Constants.REQUEST_ID_HEADER_KEY).get(0);
-            Optional<List<V1DetokenizeRecordResponse>> records = result.body().getRecords();
-
-            if (records.isPresent()) {
-                List<V1DetokenizeRecordResponse> recordList = records.get();
-
-                for (V1DetokenizeRecordResponse record : recordList) {
-                    if (record.getError().isPresent()) {
-                        DetokenizeRecordResponse recordResponse = new DetokenizeRecordResponse(record, requestId);
-                        errorRecords.add(recordResponse);
-                    } else {
-                        DetokenizeRecordResponse recordResponse = new DetokenizeRecordResponse(record);
-                        detokenizedFields.add(recordResponse);
-                    }
-                }
+            DetokenizeCacheLookup cacheLookup = lookupDetokenizeCache(detokenizeRequest);
+            if (cacheLookup != null && cacheLookup.isComplete()) {
+                return getCachedDetokenizeResponse(cacheLookup, null);
             }
+            setBearerToken();
+            ApiClientHttpResponse<V1DetokenizeResponse> result = sendDetokenize(
+                    cacheLookup != null ? cacheLookup.missRequest : detokenizeRequest);
+            detokenizeResponse = cacheLookup != null
+                    ? getCachedDetokenizeResponse(cacheLookup, result) : getDetokenizeResponse(result);
         } catch (ApiClientApiException e) {
             String bodyString = GSON.toJson(e.body());
             LogUtil.printErrorLog(ErrorLogs.DETOKENIZE_REQUEST_REJECTED.getLog());
             throw new SkyflowException(e.statusCode(), e, e.headers(), bodyString);
         }
+        return detokenizeResponse;
+    }
 
-        if (!errorRecords.isEmpty()) {
-            LogUtil.printInfoLog(InfoLogs.DETOKENIZE_PARTIAL_SUCCESS.getLog());
-        } else {
-            LogUtil.printInfoLog(InfoLogs.DETOKENIZE_SUCCESS.getLog());
-        }
-        if (detokenizedFields.isEmpty()) {
-            return new DetokenizeResponse(null, errorRecords.isEmpty() ? null : errorRecords);
+    public CompletableFuture<DetokenizeResponse> detokenizeAsync(DetokenizeRequest detokenizeRequest) {
+        return detokenizeAsync(detokenizeRequest, null);
+    }
+
+    /**
+     * With request coalescing enabled, a call that joins an identical call already in flight completes on the
+     * thread that completes that call, not on {@code executor}.
+     */
+    public CompletableFuture<DetokenizeResponse> detokenizeAsync(DetokenizeRequest detokenizeRequest, Executor executor) {
+        String key = detokenizeCoalescer == null ? null : getDetokenizeCoalescingKey(detokenizeRequest);
+        if (key == null) {
+            return detokenizeOnceAsync(detokenizeRequest, executor);
         }
-        if (errorRecords.isEmpty()) {
-            return new DetokenizeResponse(detokenizedFields, null);
+        return detokenizeCoalescer.execute(key, () -> detokenizeOnceAsync(detokenizeRequest, executor));
+    }
+
+    private CompletableFuture<DetokenizeResponse> detokenizeOnceAsync(DetokenizeRequest detokenizeRequest, Executor executor) {
+        LogUtil.printInfoLog(InfoLogs.DETOKENIZE_TRIGGERED.getLog());
+        return detokenizeRecordsAsync(detokenizeRequest, executor).thenApply(VaultController::getDetokenizeResponse);
+    }
+
+    /**
+     * Returns a batcher that collects single-token lookups from any number of callers and sends them together as
+     * one detokenize call with {@code continueOnError} set. Close it to send the lookups still waiting.
+     */
+    public DetokenizeBatcher newDetokenizeBatcher(BatchConfig batchConfig) throws SkyflowException {
+        Validations.validateBatchConfig(batchConfig);
+        return new DetokenizeBatcher(this, batchConfig);
+    }
+
+    public DetokenizeBatcher newDetokenizeBatcher() throws SkyflowException {
+        return newDetokenizeBatcher(new BatchConfig());
+    }
+
+    /**
+     * Streaming variant of {@link #detokenize(DetokenizeRequest)}. The response is parsed one record at a time and
+     * each record, detokenized or failed, is passed to {@code consumer} as soon as it is read, so large results are
+     * processed with constant memory. The detokenize cache is not used. Exceptions thrown by {@code consumer} stop
+     * the call and are rethrown as they are. Returns the number of records passed to {@code consumer}.
+     */
+    public long detokenize(DetokenizeRequest detokenizeRequest, Consumer<DetokenizeRecordResponse> consumer)
+            throws SkyflowException {
+        LogUtil.printInfoLog(InfoLogs.DETOKENIZE_TRIGGERED.getLog());
+        try {
+            LogUtil.printInfoLog(InfoLogs.VALIDATE_DETOKENIZE_REQUEST.getLog());
+            Validations.validateDetokenizeRequest(detokenizeRequest);
+            validateRecordConsumer(consumer);
+            setBearerToken();
+            long count = super.receiveRecords(super.getVaultUrl("detokenize").build(),
+                    super.getStreamingDetokenizeBody(detokenizeRequest), getRequestOptions().getHeaders(),
+                    V1DetokenizeRecordResponse.class, (record, requestId) -> consumer.accept(record.getError().isPresent()
+                            ? new DetokenizeRecordResponse(record, requestId) : new DetokenizeRecordResponse(record)));
+            LogUtil.printInfoLog(InfoLogs.DETOKENIZE_SUCCESS.getLog());
+            return count;
+        } catch (ApiClientException e) {
+            throw toStreamingSkyflowException(e, ErrorLogs.DETOKENIZE_REQUEST_REJECTED);
         }
-        return new DetokenizeResponse(detokenizedFields, errorRecords);
     }
 
     public GetResponse get(GetRequest getRequest) throws SkyflowException {
+        String key = getCoalescer == null ? null : getGetCoalescingKey(getRequest);
+        if (key == null) {
+            return getOnce(getRequest);
+        }
+        return await(getCoalescer.execute(key, () -> callSync(() -> getOnce(getRequest))));
+    }
+
+    private GetResponse getOnce(GetRequest getRequest) throws SkyflowException {
         LogUtil.printInfoLog(InfoLogs.GET_TRIGGERED.getLog());
-        V1BulkGetRecordResponse result = null;
-        ArrayList<HashMap<String, Object>> data = new ArrayList<>();
-        ArrayList<HashMap<String, Object>> errors = new ArrayList<>();
+        GetResponse getResponse;
         try {
             LogUtil.printInfoLog(InfoLogs.VALIDATE_GET_REQUEST.getLog());
             Validations.validateGetRequest(getRequest);
             setBearerToken();
-            RedactionType redactionType = getRequest.getRedactionType();
-            RecordServiceBulkGetRecordRequest recordServiceBulkGetRecordRequest = RecordServiceBulkGetRecordRequest.builder()
-                    .skyflowIds(getRequest.getIds())
-                    .redaction(redactionType != null ? RecordServiceBulkGetRecordRequestRedaction.valueOf(redactionType.toString()) : null)
-                    .tokenization(getRequest.getReturnTokens())
-                    .offset(getRequest.getOffset())
-                    .limit(getRequest.getLimit())
-                    .downloadUrl(getRequest.getDownloadUrl())
-                    .columnName(getRequest.getColumnName())
-                    .columnValues(getRequest.getColumnValues())
-                    .fields(getRequest.getFields())
-                    .orderBy(RecordServiceBulkGetRecordRequestOrderBy.valueOf(getRequest.getOrderBy()))
-                    .build();
-
-            RequestOptions requestOptions = RequestOptions.builder().addHeader(Constants.SDK_METRICS_HEADER_KEY, SKY_METADATA.toString()).build();
-            result = super.getRecordsApi().recordServiceBulkGetRecord(
+            V1BulkGetRecordResponse result = super.getRecordsApi().recordServiceBulkGetRecord(
                     super.getVaultConfig().getVaultId(),
                     getRequest.getTable(),
-                    recordServiceBulkGetRecordRequest,
-                    requestOptions
+                    getBulkGetRecordRequest(getRequest),
+                    getRequestOptions()
             );
-            LogUtil.printInfoLog(InfoLogs.GET_REQUEST_RESOLVED.getLog());
-            List<V1FieldRecords> records = result.getRecords().get();
-            if (records != null) {
-                for (V1FieldRecords record : records) {
-                    data.add(getFormattedGetRecord(record));
-                }
-            }
+            getResponse = getGetResponse(result);
         } catch (ApiClientApiException e) {
             String bodyString = GSON.toJson(e.body());
             LogUtil.printErrorLog(ErrorLogs.GET_REQUEST_REJECTED.getLog());
             throw new SkyflowException(e.statusCode(), e, e.headers(), bodyString);
         }
         LogUtil.printInfoLog(InfoLogs.GET_SUCCESS.getLog());
-        return new GetResponse(data, null);
+        return getResponse;
+    }
+
+    public CompletableFuture<GetResponse> getAsync(GetRequest getRequest) {
+        return getAsync(getRequest, null);
+    }
+
+    /**
+     * With request coalescing enabled, a call that joins an identical call already in flight completes on the
+     * thread that completes that call, not on {@code executor}.
+     */
+    public CompletableFuture<GetResponse> getAsync(GetRequest getRequest, Executor executor) {
+        String key = getCoalescer == null ? null : getGetCoalescingKey(getRequest);
+        if (key == null) {
+            return getOnceAsync(getRequest, executor);
+        }
+        return getCoalescer.execute(key, () -> getOnceAsync(getRequest, executor));
+    }
+
+    private CompletableFuture<GetResponse> getOnceAsync(GetRequest getRequest, Executor executor) {
+        LogUtil.printInfoLog(InfoLogs.GET_TRIGGERED.getLog());
+        return sendAsync(executor, ErrorLogs.GET_REQUEST_REJECTED, () -> {
+            LogUtil.printInfoLog(InfoLogs.VALIDATE_GET_REQUEST.getLog());
+            Validations.validateGetRequest(getRequest);
+            setBearerToken();
+            return super.getAsyncRecordsApi().recordServiceBulkGetRecord(
+                    super.getVaultConfig().getVaultId(),
+                    getRequest.getTable(),
+                    getBulkGetRecordRequest(getRequest),
+                    getRequestOptions()
+            );
+        }, result -> {
+            GetResponse getResponse = getGetResponse(result);
+            LogUtil.printInfoLog(InfoLogs.GET_SUCCESS.getLog());
+            return getResponse;
+        });
+    }
+
+    /**
+     * Streaming variant of {@link #get(GetRequest)}. Each record is passed to {@code consumer}, in the same format
+     * as {@link GetResponse#getData()} entries, as soon as it is read from the response. Exceptions thrown by
+     * {@code consumer} stop the call and are rethrown as they are. Returns the number of records passed to
+     * {@code consumer}.
+     */
+    public long get(GetRequest getRequest, Consumer<HashMap<String, Object>> consumer) throws SkyflowException {
+        LogUtil.printInfoLog(InfoLogs.GET_TRIGGERED.getLog());
+        try {
+            LogUtil.printInfoLog(InfoLogs.VALIDATE_GET_REQUEST.getLog());
+            Validations.validateGetRequest(getRequest);
+            validateRecordConsumer(consumer);
+            setBearerToken();
+            long count = super.receiveRecords(getBulkGetRecordUrl(getRequest), null, getRequestOptions().getHeaders(),
+                    V1FieldRecords.class, (record, requestId) -> consumer.accept(getFormattedGetRecord(record)));
+            LogUtil.printInfoLog(InfoLogs.GET_SUCCESS.getLog());
+            return count;
+        } catch (ApiClientException e) {
+            throw toStreamingSkyflowException(e, ErrorLogs.GET_REQUEST_REJECTED);
+        }
     }
 
     public UpdateResponse update(UpdateRequest updateRequest) throws SkyflowException {
         LogUtil.printInfoLog(InfoLogs.UPDATE_TRIGGERED.getLog());
-        V1UpdateRecordResponse result;
-        String skyflowId;
-        HashMap<String, Object> tokensMap;
+        UpdateResponse updateResponse;
         try {
             LogUtil.printInfoLog(InfoLogs.VALIDATE_UPDATE_REQUEST.getLog());
             Validations.validateUpdateRequest(updateRequest);
             setBearerToken();
             RecordServiceUpdateRecordBody updateBody = super.getUpdateRequestBody(updateRequest);
-            RequestOptions requestOptions = RequestOptions.builder().addHeader(Constants.SDK_METRICS_HEADER_KEY, SKY_METADATA.toString()).build();
-            result = super.getRecordsApi().recordServiceUpdateRecord(
-                    super.getVaultConfig().getVaultId(),
-                    updateRequest.getTable(),
-                    extractUpdateSkyflowId(updateRequest.getData()),
-                    updateBody,
-                    requestOptions
-            );
-            LogUtil.printInfoLog(InfoLogs.UPDATE_REQUEST_RESOLVED.getLog());
-            skyflowId = String.valueOf(result.getSkyflowId());
-            tokensMap = getFormattedUpdateRecord(result);
+            V1UpdateRecordResponse result;
+            try {
+                result = super.getRecordsApi().recordServiceUpdateRecord(
+                        super.getVaultConfig().getVaultId(),
+                        updateRequest.getTable(),
+                        extractUpdateSkyflowId(updateRequest.getData()),
+                        updateBody,
+                        getRequestOptions()
+                );
+            } finally {
+                invalidateDetokenizeCache();
+            }
+            updateResponse = getUpdateResponse(result);
         } catch (ApiClientApiException e) {
             String bodyString = GSON.toJson(e.body());
             LogUtil.printErrorLog(ErrorLogs.UPDATE_REQUEST_REJECTED.getLog());
             throw new SkyflowException(e.statusCode(), e, e.headers(), bodyString);
         }
         LogUtil.printInfoLog(InfoLogs.UPDATE_SUCCESS.getLog());
-        return new UpdateResponse(skyflowId, tokensMap);
+        return updateResponse;
+    }
+
+    public CompletableFuture<UpdateResponse> updateAsync(UpdateRequest updateRequest) {
+        return updateAsync(updateRequest, null);
+    }
+
+    public CompletableFuture<UpdateResponse> updateAsync(UpdateRequest updateRequest, Executor executor) {
+        LogUtil.printInfoLog(InfoLogs.UPDATE_TRIGGERED.getLog());
+        return sendAsync(executor, ErrorLogs.UPDATE_REQUEST_REJECTED, () -> {
+            LogUtil.printInfoLog(InfoLogs.VALIDATE_UPDATE_REQUEST.getLog());
+            Validations.validateUpdateRequest(updateRequest);
+            setBearerToken();
+            RecordServiceUpdateRecordBody updateBody = super.getUpdateRequestBody(updateRequest);
+            return super.getAsyncRecordsApi().recordServiceUpdateRecord(
+                    super.getVaultConfig().getVaultId(),
+                    updateRequest.getTable(),
+                    extractUpdateSkyflowId(updateRequest.getData()),
+                    updateBody,
+                    getRequestOptions()
+            ).whenComplete((result, throwable) -> invalidateDetokenizeCache());
+        }, result -> {
+            UpdateResponse updateResponse = getUpdateResponse(result);
+            LogUtil.printInfoLog(InfoLogs.UPDATE_SUCCESS.getLog());
+            return updateResponse;
+        });
     }
 
     public DeleteResponse delete(DeleteRequest deleteRequest) throws SkyflowException {
@@ -376,12 +650,13 @@ public final class VaultController extends VaultClient {
             LogUtil.printInfoLog(InfoLogs.VALIDATING_DELETE_REQUEST.getLog());
             Validations.validateDeleteRequest(deleteRequest);
             setBearerToken();
-            RecordServiceBulkDeleteRecordBody deleteBody = RecordServiceBulkDeleteRecordBody.builder().skyflowIds(deleteRequest.getIds())
-                    .build();
-
-            RequestOptions requestOptions = RequestOptions.builder().addHeader(Constants.SDK_METRICS_HEADER_KEY, SKY_METADATA.toString()).build();
-            result = super.getRecordsApi().recordServiceBulkDeleteRecord(
-                    super.getVaultConfig().getVaultId(), deleteRequest.getTable(), deleteBody, requestOptions);
+            try {
+                result = super.getRecordsApi().recordServiceBulkDeleteRecord(
+                        super.getVaultConfig().getVaultId(), deleteRequest.getTable(), getBulkDeleteRecordBody(deleteRequest),
+                        getRequestOptions());
+            } finally {
+                invalidateDetokenizeCache();
+            }
             LogUtil.printInfoLog(InfoLogs.DELETE_REQUEST_RESOLVED.getLog());
         } catch (ApiClientApiException e) {
             String bodyString = GSON.toJson(e.body());
@@ -392,62 +667,146 @@ public final class VaultController extends VaultClient {
         return new DeleteResponse(result.getRecordIdResponse().orElse(Collections.emptyList()));
     }
 
+    public CompletableFuture<DeleteResponse> deleteAsync(DeleteRequest deleteRequest) {
+        return deleteAsync(deleteRequest, null);
+    }
+
+    public CompletableFuture<DeleteResponse> deleteAsync(DeleteRequest deleteRequest, Executor executor) {
+        LogUtil.printInfoLog(InfoLogs.DELETE_TRIGGERED.getLog());
+        return sendAsync(executor, ErrorLogs.DELETE_REQUEST_REJECTED, () -> {
+            LogUtil.printInfoLog(InfoLogs.VALIDATING_DELETE_REQUEST.getLog());
+            Validations.validateDeleteRequest(deleteRequest);
+            setBearerToken();
+            return super.getAsyncRecordsApi().recordServiceBulkDeleteRecord(
+                    super.getVaultConfig().getVaultId(), deleteRequest.getTable(), getBulkDeleteRecordBody(deleteRequest),
+                    getRequestOptions()).whenComplete((result, throwable) -> invalidateDetokenizeCache());
+        }, result -> {
+            LogUtil.printInfoLog(InfoLogs.DELETE_REQUEST_RESOLVED.getLog());
+            LogUtil.printInfoLog(InfoLogs.DELETE_SUCCESS.getLog());
+            return new DeleteResponse(result.getRecordIdResponse().orElse(Collections.emptyList()));
+        });
+    }
+
     public QueryResponse query(QueryRequest queryRequest) throws SkyflowException {
         LogUtil.printInfoLog(InfoLogs.QUERY_TRIGGERED.getLog());
-        V1GetQueryResponse result;
-        ArrayList<HashMap<String, Object>> fields = new ArrayList<>();
+        QueryResponse queryResponse;
         try {
             LogUtil.printInfoLog(InfoLogs.VALIDATING_QUERY_REQUEST.getLog());
             Validations.validateQueryRequest(queryRequest);
             setBearerToken();
-            RequestOptions requestOptions = RequestOptions.builder().addHeader(Constants.SDK_METRICS_HEADER_KEY, SKY_METADATA.toString()).build();
-            result = super.getQueryApi().queryServiceExecuteQuery(
+            V1GetQueryResponse result = super.getQueryApi().queryServiceExecuteQuery(
                     super.getVaultConfig().getVaultId(),
                     QueryServiceExecuteQueryBody.builder().query(queryRequest.getQuery()).build(),
-                    requestOptions
+                    getRequestOptions()
             );
-            LogUtil.printInfoLog(InfoLogs.QUERY_REQUEST_RESOLVED.getLog());
-            if (result.getRecords().isPresent()) {
-                List<V1FieldRecords> records = result.getRecords().get(); // Extract the List from Optional
-                for (V1FieldRecords record : records) {
-                    fields.add(getFormattedQueryRecord(record));
-                }
-            }
+            queryResponse = getQueryResponse(result);
         } catch (ApiClientApiException e) {
             String bodyString = GSON.toJson(e.body());
             LogUtil.printErrorLog(ErrorLogs.QUERY_REQUEST_REJECTED.getLog());
             throw new SkyflowException(e.statusCode(), e, e.headers(), bodyString);
         }
         LogUtil.printInfoLog(InfoLogs.QUERY_SUCCESS.getLog());
-        return new QueryResponse(fields);
+        return queryResponse;
+    }
+
+    public CompletableFuture<QueryResponse> queryAsync(QueryRequest queryRequest) {
+        return queryAsync(queryRequest, null);
+    }
+
+    public CompletableFuture<QueryResponse> queryAsync(QueryRequest queryRequest, Executor executor) {
+        LogUtil.printInfoLog(InfoLogs.QUERY_TRIGGERED.getLog());
+        return sendAsync(executor, ErrorLogs.QUERY_REQUEST_REJECTED, () -> {
+            LogUtil.printInfoLog(InfoLogs.VALIDATING_QUERY_REQUEST.getLog());
+            Validations.validateQueryRequest(queryRequest);
+            setBearerToken();
+            return super.getAsyncQueryApi().queryServiceExecuteQuery(
+                    super.getVaultConfig().getVaultId(),
+                    QueryServiceExecuteQueryBody.builder().query(queryRequest.getQuery()).build(),
+                    getRequestOptions()
+            );
+        }, result -> {
+            QueryResponse queryResponse = getQueryResponse(result);
+            LogUtil.printInfoLog(InfoLogs.QUERY_SUCCESS.getLog());
+            return queryResponse;
+        });
+    }
+
+    /**
+     * Streaming variant of {@link #query(QueryRequest)}. Each record is passed to {@code consumer}, in the same
+     * format as {@link QueryResponse#getFields()} entries, as soon as it is read from the response. Exceptions thrown
+     * by {@code consumer} stop the call and are rethrown as they are. Returns the number of records passed to
+     * {@code consumer}.
+     */
+    public long query(QueryRequest queryRequest, Consumer<HashMap<String, Object>> consumer) throws SkyflowException {
+        LogUtil.printInfoLog(InfoLogs.QUERY_TRIGGERED.getLog());
+        try {
+            LogUtil.printInfoLog(InfoLogs.VALIDATING_QUERY_REQUEST.getLog());
+            Validations.validateQueryRequest(queryRequest);
+            validateRecordConsumer(consumer);
+            setBearerToken();
+            StreamingJsonRequestBody body = new StreamingJsonRequestBody(generator -> {
+                generator.writeStartObject();
+                StreamingJsonRequestBody.writeField(generator, "query", queryRequest.getQuery());
+                generator.writeEndObject();
+            });
+            long count = super.receiveRecords(super.getVaultUrl("query").build(), body,
+                    getRequestOptions().getHeaders(), V1FieldRecords.class,
+                    (record, requestId) -> consumer.accept(getFormattedQueryRecord(record)));
+            LogUtil.printInfoLog(InfoLogs.QUERY_SUCCESS.getLog());
+            return count;
+        } catch (ApiClientException e) {
+            throw toStreamingSkyflowException(e, ErrorLogs.QUERY_REQUEST_REJECTED);
+        }
     }
 
     public TokenizeResponse tokenize(TokenizeRequest tokenizeRequest) throws SkyflowException {
         LogUtil.printInfoLog(InfoLogs.TOKENIZE_TRIGGERED.getLog());
-        V1TokenizeResponse result = null;
-        List<String> list = new ArrayList<>();
+        TokenizeResponse tokenizeResponse;
         try {
             LogUtil.printInfoLog(InfoLogs.VALIDATING_TOKENIZE_REQUEST.getLog());
             Validations.validateTokenizeRequest(tokenizeRequest);
-            setBearerToken();
-            V1TokenizePayload payload = super.getTokenizePayload(tokenizeRequest);
-            RequestOptions requestOptions = RequestOptions.builder().addHeader(Constants.SDK_METRICS_HEADER_KEY, SKY_METADATA.toString()).build();
-            result = super.getTokensApi().recordServiceTokenize(super.getVaultConfig().getVaultId(), payload, requestOptions);
-            LogUtil.printInfoLog(InfoLogs.TOKENIZE_REQUEST_RESOLVED.getLog());
-            if (result != null && result.getRecords().isPresent() && !result.getRecords().get().isEmpty()) {
-                for (V1TokenizeRecordResponse response : result.getRecords().get()) {
-                    if (response.getToken().isPresent()) {
-                        list.add(response.getToken().get());
-                    }
-                }
+            TokenizePlan plan = planTokenize(tokenizeRequest);
+            V1TokenizeResponse result = null;
+            if (!plan.isComplete()) {
+                setBearerToken();
+                V1TokenizePayload payload = super.getTokenizePayload(plan.getMissValues());
+                result = super.getTokensApi()
+                        .recordServiceTokenize(super.getVaultConfig().getVaultId(), payload, getRequestOptions());
             }
+            tokenizeResponse = getTokenizeResponse(resolveTokenizePlan(plan, result));
         } catch (ApiClientApiException e) {
             String bodyString = GSON.toJson(e.body());
             LogUtil.printErrorLog(ErrorLogs.TOKENIZE_REQUEST_REJECTED.getLog());
             throw new SkyflowException(e.statusCode(), e, e.headers(), bodyString);
         }
         LogUtil.printInfoLog(InfoLogs.TOKENIZE_SUCCESS.getLog());
-        return new TokenizeResponse(list);
+        return tokenizeResponse;
+    }
+
+    public CompletableFuture<TokenizeResponse> tokenizeAsync(TokenizeRequest tokenizeRequest) {
+        return tokenizeAsync(tokenizeRequest, null);
+    }
+
+    public CompletableFuture<TokenizeResponse> tokenizeAsync(TokenizeRequest tokenizeRequest, Executor executor) {
+        LogUtil.printInfoLog(InfoLogs.TOKENIZE_TRIGGERED.getLog());
+        return tokenizeValuesAsync(tokenizeRequest, executor).thenApply(tokens -> {
+            TokenizeResponse tokenizeResponse = getTokenizeResponse(tokens);
+            LogUtil.printInfoLog(InfoLogs.TOKENIZE_SUCCESS.getLog());
+            return tokenizeResponse;
+        });
+    }
+
+    /**
+     * Returns a batcher that collects single values from any number of callers and tokenizes them together in one
+     * vault call. Close it to send the values still waiting.
+     */
+    public TokenizeBatcher newTokenizeBatcher(BatchConfig batchConfig) throws SkyflowException {
+        Validations.validateBatchConfig(batchConfig);
+        return new TokenizeBatcher(this, batchConfig);
+    }
+
+    public TokenizeBatcher newTokenizeBatcher() throws SkyflowException {
+        return newTokenizeBatcher(new BatchConfig());
     }
 
     public FileUploadResponse uploadFile(FileUploadRequest fileUploadRequest) throws SkyflowException {
@@ -459,20 +818,11 @@ public final class VaultController extends VaultClient {
             Validations.validateFileUploadRequest(fileUploadRequest);
             setBearerToken();
             File file = super.getFileForFileUpload(fileUploadRequest);
-
-            UploadFileV2Request uploadFileV2Request = UploadFileV2Request.builder()
-                    .tableName(fileUploadRequest.getTable())
-                    .columnName(fileUploadRequest.getColumnName())
-                    .skyflowId(fileUploadRequest.getSkyflowId())
-                    .returnFileMetadata(false)
-                    .build();
-
-            RequestOptions requestOptions = RequestOptions.builder().addHeader(Constants.SDK_METRICS_HEADER_KEY, SKY_METADATA.toString()).build();
             UploadFileV2Response uploadFileV2Response = super.getRecordsApi().uploadFileV2(
                     super.getVaultConfig().getVaultId(),
                     file,
-                    uploadFileV2Request,
-                    requestOptions
+                    getUploadFileV2Request(fileUploadRequest),
+                    getRequestOptions()
             );
 
             fileUploadResponse = new FileUploadResponse(
@@ -491,4 +841,804 @@ public final class VaultController extends VaultClient {
         LogUtil.printInfoLog(InfoLogs.FILE_UPLOAD_SUCCESS.getLog());
         return fileUploadResponse;
     }
+
+    public CompletableFuture<FileUploadResponse> uploadFileAsync(FileUploadRequest fileUploadRequest) {
+        return uploadFileAsync(fileUploadRequest, null);
+    }
+
+    public CompletableFuture<FileUploadResponse> uploadFileAsync(FileUploadRequest fileUploadRequest, Executor executor) {
+        LogUtil.printInfoLog(InfoLogs.FILE_UPLOAD_TRIGGERED.getLog());
+        return sendAsync(executor, ErrorLogs.UPLOAD_FILE_REQUEST_REJECTED, () -> {
+            LogUtil.printInfoLog(InfoLogs.VALIDATING_FILE_UPLOAD_REQUEST.getLog());
+            Validations.validateFileUploadRequest(fileUploadRequest);
+            setBearerToken();
+            File file = super.getFileForFileUpload(fileUploadRequest);
+            return super.getAsyncRecordsApi().uploadFileV2(
+                    super.getVaultConfig().getVaultId(),
+                    file,
+                    getUploadFileV2Request(fileUploadRequest),
+                    getRequestOptions()
+            );
+        }, result -> {
+            LogUtil.printInfoLog(InfoLogs.FILE_UPLOAD_SUCCESS.getLog());
+            return new FileUploadResponse(result.getSkyflowId().orElse(null), null);
+        });
+    }
+
+    private static RequestOptions getRequestOptions() {
+        return RequestOptions.builder().addHeader(Constants.SDK_METRICS_HEADER_KEY, SKY_METADATA.toString()).build();
+    }
+
+    private static RecordServiceBulkGetRecordRequest getBulkGetRecordRequest(GetRequest getRequest) {
+        RedactionType redactionType = getRequest.getRedactionType();
+        return RecordServiceBulkGetRecordRequest.builder()
+                .skyflowIds(getRequest.getIds())
+                .redaction(redactionType != null ? RecordServiceBulkGetRecordRequestRedaction.valueOf(redactionType.toString()) : null)
+                .tokenization(getRequest.getReturnTokens())
+                .offset(getRequest.getOffset())
+                .limit(getRequest.getLimit())
+                .downloadUrl(getRequest.getDownloadUrl())
+                .columnName(getRequest.getColumnName())
+                .columnValues(getRequest.getColumnValues())
+                .fields(getRequest.getFields())
+                .orderBy(RecordServiceBulkGetRecordRequestOrderBy.valueOf(getRequest.getOrderBy()))
+                .build();
+    }
+
+    private HttpUrl getBulkGetRecordUrl(GetRequest getRequest) {
+        RecordServiceBulkGetRecordRequest request = getBulkGetRecordRequest(getRequest);
+        HttpUrl.Builder url = super.getVaultUrl(getRequest.getTable());
+        // Same query parameters, in the same order, as the generated records client.
+        request.getRedaction().ifPresent(value -> QueryStringMapper.addQueryParameter(url, "redaction", value, false));
+        request.getTokenization().ifPresent(
+                value -> QueryStringMapper.addQueryParameter(url, "tokenization", value, false));
+        request.getOffset().ifPresent(value -> QueryStringMapper.addQueryParameter(url, "offset", value, false));
+        request.getLimit().ifPresent(value -> QueryStringMapper.addQueryParameter(url, "limit", value, false));
+        request.getDownloadUrl().ifPresent(
+                value -> QueryStringMapper.addQueryParameter(url, "downloadURL", value, false));
+        request.getColumnName().ifPresent(
+                value -> QueryStringMapper.addQueryParameter(url, "column_name", value, false));
+        request.getOrderBy().ifPresent(value -> QueryStringMapper.addQueryParameter(url, "order_by", value, false));
+        request.getSkyflowIds().ifPresent(
+                value -> QueryStringMapper.addQueryParameter(url, "skyflow_ids", value, true));
+        request.getFields().ifPresent(value -> QueryStringMapper.addQueryParameter(url, "fields", value, true));
+        request.getColumnValues().ifPresent(
+                value -> QueryStringMapper.addQueryParameter(url, "column_values", value, true));
+        return url.build();
+    }
+
+    private static void validateRecordConsumer(Consumer<?> consumer) throws SkyflowException {
+        if (consumer == null) {
+            LogUtil.printErrorLog(ErrorLogs.INVALID_RECORD_CONSUMER.getLog());
+            throw new SkyflowException(ErrorCode.INVALID_INPUT.getCode(), ErrorMessage.InvalidRecordConsumer.getMessage());
+        }
+    }
+
+    private static SkyflowException toStreamingSkyflowException(ApiClientException e, ErrorLogs rejectedLog) {
+        LogUtil.printErrorLog(rejectedLog.getLog());
+        if (e instanceof ApiClientApiException) {
+            ApiClientApiException apiException = (ApiClientApiException) e;
+            return new SkyflowException(apiException.statusCode(), apiException, apiException.headers(),
+                    GSON.toJson(apiException.body()));
+        }
+        // The connection failed, possibly after some records were already passed to the consumer.
+        return new SkyflowException(e.getMessage(), e);
+    }
+
+    private static RecordServiceBulkDeleteRecordBody getBulkDeleteRecordBody(DeleteRequest deleteRequest) {
+        return RecordServiceBulkDeleteRecordBody.builder().skyflowIds(deleteRequest.getIds()).build();
+    }
+
+    private static UploadFileV2Request getUploadFileV2Request(FileUploadRequest fileUploadRequest) {
+        return UploadFileV2Request.builder()
+                .tableName(fileUploadRequest.getTable())
+                .columnName(fileUploadRequest.getColumnName())
+                .skyflowId(fileUploadRequest.getSkyflowId())
+                .returnFileMetadata(false)
+                .build();
+    }
+
+    private static InsertResponse getBatchInsertResponse(ApiClientHttpResponse<V1BatchOperationResponse> batchInsertResult) {
+        LogUtil.printInfoLog(InfoLogs.INSERT_REQUEST_RESOLVED.getLog());
+        ArrayList<HashMap<String, Object>> insertedFields = new ArrayList<>();
+        ArrayList<HashMap<String, Object>> errorFields = new ArrayList<>();
+        Optional<List<Map<String, Object>>> records = batchInsertResult.body().getResponses();
+
+        if (records.isPresent()) {
+            List<Map<String, Object>> recordList = records.get();
+
+            for (Integer index = (Integer) 0; index < recordList.size(); index++) {
+                Map<String, Object> record = recordList.get(index);
+                HashMap<String, Object> insertRecord = getFormattedBatchInsertRecord(record, index);
+
+                if (insertRecord.containsKey("skyflowId")) {
+                    insertedFields.add(insertRecord);
+                } else {
+                    insertRecord.put("requestId", batchInsertResult.headers().get(Constants.REQUEST_ID_HEADER_KEY).get(0));
+                    insertRecord.put("httpCode", ErrorCode.INVALID_INPUT.getCode());
+                    errorFields.add(insertRecord);
+                }
+            }
+        }
+        return getInsertResponse(insertedFields, errorFields);
+    }
+
+    private static InsertResponse getBulkInsertResponse(V1InsertRecordResponse bulkInsertResult) {
+        LogUtil.printInfoLog(InfoLogs.INSERT_REQUEST_RESOLVED.getLog());
+        ArrayList<HashMap<String, Object>> insertedFields = new ArrayList<>();
+        Optional<List<V1RecordMetaProperties>> records = bulkInsertResult.getRecords();
+        if (records.isPresent()) {
+            for (V1RecordMetaProperties record : records.get()) {
+                insertedFields.add(getFormattedBulkInsertRecord(record));
+            }
+        }
+        return getInsertResponse(insertedFields, new ArrayList<>());
+    }
+
+    private static InsertResponse getInsertResponse(
+            ArrayList<HashMap<String, Object>> insertedFields, ArrayList<HashMap<String, Object>> errorFields
+    ) {
+        if (insertedFields.isEmpty()) {
+            return new InsertResponse(null, errorFields.isEmpty() ? null : errorFields);
+        }
+        if (errorFields.isEmpty()) {
+            return new InsertResponse(insertedFields, null);
+        }
+        return new InsertResponse(insertedFields, errorFields);
+    }
+
+    private static InsertRequest getInsertRequestChunk(InsertRequest insertRequest, int from, int to) {
+        ArrayList<HashMap<String, Object>> tokens = insertRequest.getTokens();
+        ArrayList<HashMap<String, Object>> chunkTokens = null;
+        if (tokens != null) {
+            chunkTokens = new ArrayList<>(tokens.subList(Math.min(from, tokens.size()), Math.min(to, tokens.size())));
+        }
+        return InsertRequest.builder()
+                .table(insertRequest.getTable())
+                .values(new ArrayList<>(insertRequest.getValues().subList(from, to)))
+                .tokens(chunkTokens)
+                .returnTokens(insertRequest.getReturnTokens())
+                .upsert(insertRequest.getUpsert())
+                .homogeneous(insertRequest.getHomogeneous())
+                .continueOnError(insertRequest.getContinueOnError())
+                .tokenMode(insertRequest.getTokenMode())
+                .build();
+    }
+
+    private static InsertResponse getFailedInsertChunkResponse(Throwable cause, int size) {
+        SkyflowException exception = cause instanceof SkyflowException
+                ? (SkyflowException) cause : new SkyflowException(cause.getMessage(), cause);
+        ArrayList<HashMap<String, Object>> errorFields = new ArrayList<>();
+        for (int index = 0; index < size; index++) {
+            HashMap<String, Object> errorRecord = new HashMap<>();
+            errorRecord.put("error", exception.getMessage());
+            errorRecord.put("requestIndex", index);
+            errorRecord.put("requestId", exception.getRequestId());
+            errorRecord.put("httpCode", exception.getHttpCode());
+            errorFields.add(errorRecord);
+        }
+        return getInsertResponse(new ArrayList<>(), errorFields);
+    }
+
+    private static InsertResponse offsetRequestIndexes(InsertResponse response, int offset) {
+        for (ArrayList<HashMap<String, Object>> records : Arrays.asList(response.getInsertedFields(), response.getErrors())) {
+            if (records == null) {
+                continue;
+            }
+            for (HashMap<String, Object> record : records) {
+                Object requestIndex = record.get("requestIndex");
+                if (requestIndex instanceof Integer) {
+                    record.put("requestIndex", (Integer) requestIndex + offset);
+                }
+            }
+        }
+        return response;
+    }
+
+    private static InsertResponse mergeInsertResponses(InsertResponse[] responses) {
+        ArrayList<HashMap<String, Object>> insertedFields = new ArrayList<>();
+        ArrayList<HashMap<String, Object>> errorFields = new ArrayList<>();
+        for (InsertResponse response : responses) {
+            if (response.getInsertedFields() != null) {
+                insertedFields.addAll(response.getInsertedFields());
+            }
+            if (response.getErrors() != null) {
+                errorFields.addAll(response.getErrors());
+            }
+        }
+        return getInsertResponse(insertedFields, errorFields);
+    }
+
+    /**
+     * Runs {@code call} on the calling thread and returns its outcome as a completed future.
+     */
+    private static <T> CompletableFuture<T> callSync(SyncCall<T> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            future.complete(call.call());
+        } catch (SkyflowException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Returns the key under which identical detokenize requests share a call, or {@code null} for requests that
+     * fail validation.
+     */
+    private static String getDetokenizeCoalescingKey(DetokenizeRequest request) {
+        if (request == null || request.getDetokenizeData() == null) {
+            return null;
+        }
+        List<String> tokens = new ArrayList<>();
+        for (DetokenizeData data : request.getDetokenizeData()) {
+            if (data == null || data.getToken() == null) {
+                return null;
+            }
+            tokens.add(data.getRedactionType() + ":" + data.getToken());
+        }
+        return getCoalescingKey(request.getContinueOnError(), request.getDownloadUrl(), tokens);
+    }
+
+    private static String getGetCoalescingKey(GetRequest request) {
+        if (request == null) {
+            return null;
+        }
+        return getCoalescingKey(request.getTable(), request.getIds(), request.getRedactionType(),
+                request.getReturnTokens(), request.getFields(), request.getOffset(), request.getLimit(),
+                request.getDownloadUrl(), request.getColumnName(), request.getColumnValues(), request.getOrderBy());
+    }
+
+    private static String getCoalescingKey(Object... parts) {
+        StringBuilder key = new StringBuilder();
+        for (Object part : parts) {
+            if (part instanceof List) {
+                for (Object item : (List<?>) part) {
+                    key.append(item).append('\u0001');
+                }
+            } else {
+                key.append(part);
+            }
+            key.append('\u0000');
+        }
+        return key.toString();
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws SkyflowException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SkyflowException) {
+                throw (SkyflowException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new SkyflowException(cause.getMessage(), cause);
+        }
+    }
+
+    private static DetokenizeResponse getDetokenizeResponse(ApiClientHttpResponse<V1DetokenizeResponse> result) {
+        LogUtil.printInfoLog(InfoLogs.DETOKENIZE_REQUEST_RESOLVED.getLog());
+        return getDetokenizeResponse(getDetokenizeRecords(result));
+    }
+
+    private static ArrayList<DetokenizeRecordResponse> getDetokenizeRecords(
+            ApiClientHttpResponse<V1DetokenizeResponse> result
+    ) {
+        ArrayList<DetokenizeRecordResponse> detokenizeRecords = new ArrayList<>();
+        Map<String, List<String>> responseHeaders = result.headers();
+        String requestId = responseHeaders.get(Constants.REQUEST_ID_HEADER_KEY).get(0);
+        Optional<List<V1DetokenizeRecordResponse>> records = result.body().getRecords();
+
+        if (records.isPresent()) {
+            for (V1DetokenizeRecordResponse record : records.get()) {
+                if (record.getError().isPresent()) {
+                    detokenizeRecords.add(new DetokenizeRecordResponse(record, requestId));
+                } else {
+                    detokenizeRecords.add(new DetokenizeRecordResponse(record));
+                }
+            }
+        }
+        return detokenizeRecords;
+    }
+
+    private static DetokenizeResponse getDetokenizeResponse(List<DetokenizeRecordResponse> records) {
+        ArrayList<DetokenizeRecordResponse> detokenizedFields = new ArrayList<>();
+        ArrayList<DetokenizeRecordResponse> errorRecords = new ArrayList<>();
+        for (DetokenizeRecordResponse record : records) {
+            if (record == null) {
+                continue;
+            }
+            if (record.getError() != null) {
+                errorRecords.add(record);
+            } else {
+                detokenizedFields.add(record);
+            }
+        }
+
+        if (!errorRecords.isEmpty()) {
+            LogUtil.printInfoLog(InfoLogs.DETOKENIZE_PARTIAL_SUCCESS.getLog());
+        } else {
+            LogUtil.printInfoLog(InfoLogs.DETOKENIZE_SUCCESS.getLog());
+        }
+        if (detokenizedFields.isEmpty()) {
+            return new DetokenizeResponse(null, errorRecords.isEmpty() ? null : errorRecords);
+        }
+        if (errorRecords.isEmpty()) {
+            return new DetokenizeResponse(detokenizedFields, null);
+        }
+        return new DetokenizeResponse(detokenizedFields, errorRecords);
+    }
+
+    /**
+     * Resolves what it can of {@code request} from the detokenize cache. Returns {@code null} when the cache is
+     * disabled or the request asks for download URLs, which are short-lived and never cached.
+     */
+    private DetokenizeCacheLookup lookupDetokenizeCache(DetokenizeRequest request) {
+        if (detokenizeCache == null || Boolean.TRUE.equals(request.getDownloadUrl())) {
+            return null;
+        }
+        ArrayList<DetokenizeData> detokenizeData = request.getDetokenizeData();
+        DetokenizeCacheLookup lookup = new DetokenizeCacheLookup(detokenizeData.size(), detokenizeCache.generation());
+        ArrayList<DetokenizeData> misses = new ArrayList<>();
+        for (int index = 0; index < detokenizeData.size(); index++) {
+            DetokenizeData data = detokenizeData.get(index);
+            lookup.keys[index] = getVaultConfig().getVaultId() + ":" + data.getRedactionType() + ":" + data.getToken();
+            lookup.records[index] = detokenizeCache.get(lookup.keys[index]);
+            if (lookup.records[index] == null) {
+                lookup.missIndexes.add(index);
+                misses.add(data);
+            }
+        }
+        LogUtil.printInfoLog(Utils.parameterizedString(InfoLogs.DETOKENIZE_CACHE_HITS.getLog(),
+                String.valueOf(detokenizeData.size() - misses.size()), String.valueOf(detokenizeData.size())));
+        if (!misses.isEmpty()) {
+            lookup.missRequest = DetokenizeRequest.builder()
+                    .detokenizeData(misses)
+                    .continueOnError(request.getContinueOnError())
+                    .downloadUrl(request.getDownloadUrl())
+                    .build();
+        }
+        return lookup;
+    }
+
+    /**
+     * Detokenizes {@code detokenizeRequest}, through the cache when it is enabled, and returns one record per
+     * token in request order. A position is {@code null} when the vault response has no record for it.
+     */
+    CompletableFuture<List<DetokenizeRecordResponse>> detokenizeRecordsAsync(
+            DetokenizeRequest detokenizeRequest, Executor executor
+    ) {
+        AtomicReference<DetokenizeCacheLookup> cacheLookup = new AtomicReference<>();
+        return sendAsync(executor, ErrorLogs.DETOKENIZE_REQUEST_REJECTED, () -> {
+            LogUtil.printInfoLog(InfoLogs.VALIDATE_DETOKENIZE_REQUEST.getLog());
+            Validations.validateDetokenizeRequest(detokenizeRequest);
+            cacheLookup.set(lookupDetokenizeCache(detokenizeRequest));
+            if (cacheLookup.get() != null && cacheLookup.get().isComplete()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            setBearerToken();
+            return sendDetokenizeAsync(cacheLookup.get() != null ? cacheLookup.get().missRequest : detokenizeRequest);
+        }, result -> {
+            if (cacheLookup.get() != null) {
+                return resolveDetokenizeCacheLookup(cacheLookup.get(), result);
+            }
+            LogUtil.printInfoLog(InfoLogs.DETOKENIZE_REQUEST_RESOLVED.getLog());
+            return getDetokenizeRecords(result);
+        });
+    }
+
+    /**
+     * Merges the vault response for the cache misses (if any were sent) with the cached records in request
+     * order, and caches the newly detokenized values.
+     */
+    private DetokenizeResponse getCachedDetokenizeResponse(
+            DetokenizeCacheLookup lookup, ApiClientHttpResponse<V1DetokenizeResponse> result
+    ) {
+        return getDetokenizeResponse(resolveDetokenizeCacheLookup(lookup, result));
+    }
+
+    private List<DetokenizeRecordResponse> resolveDetokenizeCacheLookup(
+            DetokenizeCacheLookup lookup, ApiClientHttpResponse<V1DetokenizeResponse> result
+    ) {
+        if (result != null) {
+            LogUtil.printInfoLog(InfoLogs.DETOKENIZE_REQUEST_RESOLVED.getLog());
+            List<DetokenizeRecordResponse> fetched = getDetokenizeRecords(result);
+            for (int i = 0; i < fetched.size() && i < lookup.missIndexes.size(); i++) {
+                int index = lookup.missIndexes.get(i);
+                DetokenizeRecordResponse record = fetched.get(i);
+                lookup.records[index] = record;
+                if (record.getError() == null) {
+                    detokenizeCache.putIfGeneration(lookup.keys[index], record, lookup.generation);
+                }
+            }
+        }
+        return Arrays.asList(lookup.records);
+    }
+
+    /**
+     * Detokenize responses don't carry the skyflow ID of the underlying record, so any write through this
+     * controller drops the whole cache. Bumping the cache generation also stops detokenize calls already in
+     * flight from caching values read before the write.
+     */
+    private void invalidateDetokenizeCache() {
+        if (detokenizeCache != null) {
+            detokenizeCache.invalidateAll();
+            LogUtil.printInfoLog(InfoLogs.DETOKENIZE_CACHE_INVALIDATED.getLog());
+        }
+    }
+
+    private static GetResponse getGetResponse(V1BulkGetRecordResponse result) {
+        LogUtil.printInfoLog(InfoLogs.GET_REQUEST_RESOLVED.getLog());
+        ArrayList<HashMap<String, Object>> data = new ArrayList<>();
+        List<V1FieldRecords> records = result.getRecords().get();
+        if (records != null) {
+            for (V1FieldRecords record : records) {
+                data.add(getFormattedGetRecord(record));
+            }
+        }
+        return new GetResponse(data, null);
+    }
+
+    private static UpdateResponse getUpdateResponse(V1UpdateRecordResponse result) {
+        LogUtil.printInfoLog(InfoLogs.UPDATE_REQUEST_RESOLVED.getLog());
+        String skyflowId = String.valueOf(result.getSkyflowId());
+        HashMap<String, Object> tokensMap = getFormattedUpdateRecord(result);
+        return new UpdateResponse(skyflowId, tokensMap);
+    }
+
+    private static QueryResponse getQueryResponse(V1GetQueryResponse result) {
+        LogUtil.printInfoLog(InfoLogs.QUERY_REQUEST_RESOLVED.getLog());
+        ArrayList<HashMap<String, Object>> fields = new ArrayList<>();
+        if (result.getRecords().isPresent()) {
+            for (V1FieldRecords record : result.getRecords().get()) {
+                fields.add(getFormattedQueryRecord(record));
+            }
+        }
+        return new QueryResponse(fields);
+    }
+
+    /**
+     * Collapses identical (value, column group) pairs in {@code request} and resolves what it can from the tokenize
+     * cache, leaving the remaining unique values to be sent to the vault.
+     */
+    private TokenizePlan planTokenize(TokenizeRequest request) {
+        List<ColumnValue> columnValues = request.getColumnValues();
+        TokenizePlan plan = new TokenizePlan(columnValues.size());
+        Map<String, Integer> uniqueIndexes = new HashMap<>();
+        for (int index = 0; index < columnValues.size(); index++) {
+            ColumnValue columnValue = columnValues.get(index);
+            String key = columnValue.getColumnGroup() + "\u0000" + columnValue.getValue();
+            Integer uniqueIndex = uniqueIndexes.get(key);
+            if (uniqueIndex == null) {
+                uniqueIndex = plan.uniqueValues.size();
+                uniqueIndexes.put(key, uniqueIndex);
+                plan.uniqueValues.add(columnValue);
+            }
+            plan.positions[index] = uniqueIndex;
+        }
+
+        plan.tokens = new String[plan.uniqueValues.size()];
+        plan.cacheKeys = new String[plan.uniqueValues.size()];
+        for (int uniqueIndex = 0; uniqueIndex < plan.uniqueValues.size(); uniqueIndex++) {
+            ColumnValue columnValue = plan.uniqueValues.get(uniqueIndex);
+            if (tokenizeCache != null) {
+                plan.cacheKeys[uniqueIndex] = getVaultConfig().getVaultId() + ":" + columnValue.getColumnGroup()
+                        + ":" + Utils.sha256Hex(columnValue.getValue());
+                plan.tokens[uniqueIndex] = tokenizeCache.get(plan.cacheKeys[uniqueIndex]);
+            }
+            if (plan.tokens[uniqueIndex] == null) {
+                plan.missIndexes.add(uniqueIndex);
+            }
+        }
+        LogUtil.printInfoLog(Utils.parameterizedString(InfoLogs.TOKENIZE_VALUES_DEDUPLICATED.getLog(),
+                String.valueOf(plan.uniqueValues.size()), String.valueOf(columnValues.size()),
+                String.valueOf(plan.uniqueValues.size() - plan.missIndexes.size())));
+        return plan;
+    }
+
+    /**
+     * Tokenizes {@code tokenizeRequest}, through the cache when it is enabled, and returns one token per value in
+     * request order. A position is {@code null} when the vault response has no token for it.
+     */
+    CompletableFuture<List<String>> tokenizeValuesAsync(TokenizeRequest tokenizeRequest, Executor executor) {
+        AtomicReference<TokenizePlan> plan = new AtomicReference<>();
+        return sendAsync(executor, ErrorLogs.TOKENIZE_REQUEST_REJECTED, () -> {
+            LogUtil.printInfoLog(InfoLogs.VALIDATING_TOKENIZE_REQUEST.getLog());
+            Validations.validateTokenizeRequest(tokenizeRequest);
+            plan.set(planTokenize(tokenizeRequest));
+            if (plan.get().isComplete()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            setBearerToken();
+            V1TokenizePayload payload = super.getTokenizePayload(plan.get().getMissValues());
+            return super.getAsyncTokensApi()
+                    .recordServiceTokenize(super.getVaultConfig().getVaultId(), payload, getRequestOptions());
+        }, result -> resolveTokenizePlan(plan.get(), result));
+    }
+
+    /**
+     * Fans the tokens returned for the unique values sent (if any) back out to every requested position, and
+     * caches them.
+     */
+    private List<String> resolveTokenizePlan(TokenizePlan plan, V1TokenizeResponse result) {
+        LogUtil.printInfoLog(InfoLogs.TOKENIZE_REQUEST_RESOLVED.getLog());
+        if (result != null && result.getRecords().isPresent()) {
+            List<V1TokenizeRecordResponse> records = result.getRecords().get();
+            for (int i = 0; i < records.size() && i < plan.missIndexes.size(); i++) {
+                int uniqueIndex = plan.missIndexes.get(i);
+                String token = records.get(i).getToken().orElse(null);
+                plan.tokens[uniqueIndex] = token;
+                if (token != null && tokenizeCache != null) {
+                    tokenizeCache.put(plan.cacheKeys[uniqueIndex], token);
+                }
+            }
+        }
+        List<String> tokens = new ArrayList<>(plan.positions.length);
+        for (int uniqueIndex : plan.positions) {
+            tokens.add(plan.tokens[uniqueIndex]);
+        }
+        return tokens;
+    }
+
+    private static TokenizeResponse getTokenizeResponse(List<String> tokens) {
+        List<String> list = new ArrayList<>();
+        for (String token : tokens) {
+            if (token != null) {
+                list.add(token);
+            }
+        }
+        return new TokenizeResponse(list);
+    }
+
+    private static boolean isChunkedInsert(InsertRequest insertRequest) {
+        Integer chunkSize = insertRequest.getChunkSize();
+        ArrayList<HashMap<String, Object>> values = insertRequest.getValues();
+        return chunkSize != null && values != null && values.size() > Math.max(chunkSize, 0);
+    }
+
+    /**
+     * Sends an already validated insert request as consecutive chunks of {@code chunkSize} records, keeping at
+     * most {@code maxConcurrency} chunk requests in flight. Chunk results are merged in request order and
+     * {@code requestIndex} values are offset so they refer to the original {@code values} list. Chunked requests
+     * always set {@code continueOnError}, so a failed chunk is reported as one error record per value in that chunk
+     * and the chunks that were committed are never dropped from the response.
+     */
+    private CompletableFuture<InsertResponse> insertInChunks(InsertRequest insertRequest, Executor executor) {
+        int total = insertRequest.getValues().size();
+        int chunkSize = insertRequest.getChunkSize();
+        int chunkCount = (total + chunkSize - 1) / chunkSize;
+        Integer maxConcurrency = insertRequest.getMaxConcurrency();
+        int concurrency = Math.min(
+                maxConcurrency != null ? maxConcurrency : Constants.DEFAULT_INSERT_MAX_CONCURRENCY, chunkCount);
+        LogUtil.printInfoLog(Utils.parameterizedString(InfoLogs.INSERT_IN_CHUNKS.getLog(),
+                String.valueOf(total), String.valueOf(chunkCount), String.valueOf(concurrency)));
+
+        InsertResponse[] chunkResponses = new InsertResponse[chunkCount];
+        AtomicInteger nextChunk = new AtomicInteger();
+        AtomicInteger pendingChunks = new AtomicInteger(chunkCount);
+        CompletableFuture<InsertResponse> merged = new CompletableFuture<>();
+        for (int i = 0; i < concurrency; i++) {
+            sendNextInsertChunk(insertRequest, executor, chunkResponses, nextChunk, pendingChunks, merged);
+        }
+        return merged;
+    }
+
+    private void sendNextInsertChunk(
+            InsertRequest insertRequest, Executor executor, InsertResponse[] chunkResponses,
+            AtomicInteger nextChunk, AtomicInteger pendingChunks, CompletableFuture<InsertResponse> merged
+    ) {
+        int chunkIndex = nextChunk.getAndIncrement();
+        if (chunkIndex >= chunkResponses.length || merged.isDone()) {
+            return;
+        }
+        int chunkSize = insertRequest.getChunkSize();
+        int from = chunkIndex * chunkSize;
+        int to = Math.min(from + chunkSize, insertRequest.getValues().size());
+        InsertRequest chunk = getInsertRequestChunk(insertRequest, from, to);
+
+        CompletableFuture<InsertResponse> response = sendAsync(executor, ErrorLogs.INSERT_RECORDS_REJECTED,
+                () -> sendBatchInsertAsync(chunk), VaultController::getBatchInsertResponse);
+
+        response.whenComplete((result, throwable) -> {
+            try {
+                InsertResponse chunkResponse = result;
+                if (throwable != null) {
+                    Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                    chunkResponse = getFailedInsertChunkResponse(cause, to - from);
+                }
+                chunkResponses[chunkIndex] = offsetRequestIndexes(chunkResponse, from);
+                if (pendingChunks.decrementAndGet() == 0) {
+                    merged.complete(mergeInsertResponses(chunkResponses));
+                    LogUtil.printInfoLog(InfoLogs.INSERT_SUCCESS.getLog());
+                } else {
+                    sendNextInsertChunk(insertRequest, executor, chunkResponses, nextChunk, pendingChunks, merged);
+                }
+            } catch (RuntimeException e) {
+                merged.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * Requests with at least {@link Constants#STREAMING_REQUEST_MIN_RECORDS} records are serialized straight to the
+     * connection instead of being built as generated request objects and byte arrays first.
+     */
+    private static boolean isStreamedRequest(int records) {
+        if (records < Constants.STREAMING_REQUEST_MIN_RECORDS) {
+            return false;
+        }
+        LogUtil.printInfoLog(Utils.parameterizedString(
+                InfoLogs.STREAMING_REQUEST_BODY.getLog(), String.valueOf(records)));
+        return true;
+    }
+
+    private ApiClientHttpResponse<V1BatchOperationResponse> sendBatchInsert(InsertRequest insertRequest) {
+        if (isStreamedRequest(insertRequest.getValues().size())) {
+            return super.sendStreamingRequest(super.getStreamingBatchInsertBody(insertRequest),
+                    V1BatchOperationResponse.class, getRequestOptions().getHeaders());
+        }
+        RecordServiceBatchOperationBody insertBody = super.getBatchInsertRequestBody(insertRequest);
+        return super.getRecordsApi().withRawResponse()
+                .recordServiceBatchOperation(super.getVaultConfig().getVaultId(), insertBody, getRequestOptions());
+    }
+
+    private CompletableFuture<ApiClientHttpResponse<V1BatchOperationResponse>> sendBatchInsertAsync(
+            InsertRequest insertRequest) {
+        if (isStreamedRequest(insertRequest.getValues().size())) {
+            return super.sendStreamingRequestAsync(super.getStreamingBatchInsertBody(insertRequest),
+                    V1BatchOperationResponse.class, getRequestOptions().getHeaders());
+        }
+        RecordServiceBatchOperationBody insertBody = super.getBatchInsertRequestBody(insertRequest);
+        return super.getAsyncRecordsApi().withRawResponse()
+                .recordServiceBatchOperation(super.getVaultConfig().getVaultId(), insertBody, getRequestOptions());
+    }
+
+    private V1InsertRecordResponse sendBulkInsert(InsertRequest insertRequest) {
+        if (isStreamedRequest(insertRequest.getValues().size())) {
+            return super.sendStreamingRequest(super.getStreamingBulkInsertBody(insertRequest),
+                    V1InsertRecordResponse.class, getRequestOptions().getHeaders(), insertRequest.getTable()).body();
+        }
+        RecordServiceInsertRecordBody insertBody = super.getBulkInsertRequestBody(insertRequest);
+        return super.getRecordsApi().recordServiceInsertRecord(
+                super.getVaultConfig().getVaultId(), insertRequest.getTable(), insertBody);
+    }
+
+    private CompletableFuture<V1InsertRecordResponse> sendBulkInsertAsync(InsertRequest insertRequest) {
+        if (isStreamedRequest(insertRequest.getValues().size())) {
+            return super.sendStreamingRequestAsync(super.getStreamingBulkInsertBody(insertRequest),
+                    V1InsertRecordResponse.class, getRequestOptions().getHeaders(), insertRequest.getTable())
+                    .thenApply(ApiClientHttpResponse::body);
+        }
+        RecordServiceInsertRecordBody insertBody = super.getBulkInsertRequestBody(insertRequest);
+        return super.getAsyncRecordsApi().recordServiceInsertRecord(
+                super.getVaultConfig().getVaultId(), insertRequest.getTable(), insertBody);
+    }
+
+    private ApiClientHttpResponse<V1DetokenizeResponse> sendDetokenize(DetokenizeRequest detokenizeRequest) {
+        if (isStreamedRequest(detokenizeRequest.getDetokenizeData().size())) {
+            return super.sendStreamingRequest(super.getStreamingDetokenizeBody(detokenizeRequest),
+                    V1DetokenizeResponse.class, getRequestOptions().getHeaders(), "detokenize");
+        }
+        V1DetokenizePayload payload = super.getDetokenizePayload(detokenizeRequest);
+        return super.getTokensApi().withRawResponse()
+                .recordServiceDetokenize(super.getVaultConfig().getVaultId(), payload, getRequestOptions());
+    }
+
+    private CompletableFuture<ApiClientHttpResponse<V1DetokenizeResponse>> sendDetokenizeAsync(
+            DetokenizeRequest detokenizeRequest) {
+        if (isStreamedRequest(detokenizeRequest.getDetokenizeData().size())) {
+            return super.sendStreamingRequestAsync(super.getStreamingDetokenizeBody(detokenizeRequest),
+                    V1DetokenizeResponse.class, getRequestOptions().getHeaders(), "detokenize");
+        }
+        V1DetokenizePayload payload = super.getDetokenizePayload(detokenizeRequest);
+        return super.getAsyncTokensApi().withRawResponse()
+                .recordServiceDetokenize(super.getVaultConfig().getVaultId(), payload, getRequestOptions());
+    }
+
+    /**
+     * Runs {@code call} on {@code executor} (inline when {@code null}), then maps its result on
+     * {@code executor} (on the completing thread when {@code null}). Any failure surfaces as a
+     * {@link SkyflowException} through the returned future, mirroring the sync error handling.
+     */
+    private <T, R> CompletableFuture<R> sendAsync(
+            Executor executor, ErrorLogs rejectedLog, AsyncCall<T> call, ResponseMapper<T, R> mapper
+    ) {
+        CompletableFuture<CompletableFuture<T>> dispatched = CompletableFuture.supplyAsync(() -> {
+            try {
+                return call.call();
+            } catch (SkyflowException | IOException | RuntimeException e) {
+                throw new CompletionException(e);
+            }
+        }, executor != null ? executor : Runnable::run);
+        CompletableFuture<T> response = dispatched.thenCompose(future -> future);
+        BiFunction<T, Throwable, R> completion = (result, throwable) -> {
+            if (throwable != null) {
+                throw new CompletionException(toSkyflowException(throwable, rejectedLog));
+            }
+            try {
+                return mapper.map(result);
+            } catch (SkyflowException e) {
+                throw new CompletionException(e);
+            }
+        };
+        return executor != null ? response.handleAsync(completion, executor) : response.handle(completion);
+    }
+
+    private static Throwable toSkyflowException(Throwable throwable, ErrorLogs rejectedLog) {
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof ApiClientApiException) {
+            ApiClientApiException e = (ApiClientApiException) cause;
+            LogUtil.printErrorLog(rejectedLog.getLog());
+            return new SkyflowException(e.statusCode(), e, e.headers(), GSON.toJson(e.body()));
+        } else if (cause instanceof ApiClientException || cause instanceof IOException) {
+            LogUtil.printErrorLog(rejectedLog.getLog());
+            return new SkyflowException(cause.getMessage(), cause);
+        }
+        return cause;
+    }
+
+    private static final class DetokenizeCacheLookup {
+        private final DetokenizeRecordResponse[] records;
+        private final String[] keys;
+        private final List<Integer> missIndexes;
+        private final long generation;
+        private DetokenizeRequest missRequest;
+
+        private DetokenizeCacheLookup(int size, long generation) {
+            this.records = new DetokenizeRecordResponse[size];
+            this.keys = new String[size];
+            this.missIndexes = new ArrayList<>();
+            this.generation = generation;
+        }
+
+        private boolean isComplete() {
+            return missRequest == null;
+        }
+    }
+
+    private static final class TokenizePlan {
+        private final List<ColumnValue> uniqueValues;
+        private final int[] positions;
+        private final List<Integer> missIndexes;
+        private String[] tokens;
+        private String[] cacheKeys;
+
+        private TokenizePlan(int size) {
+            this.uniqueValues = new ArrayList<>();
+            this.positions = new int[size];
+            this.missIndexes = new ArrayList<>();
+        }
+
+        private boolean isComplete() {
+            return missIndexes.isEmpty();
+        }
+
+        private List<ColumnValue> getMissValues() {
+            List<ColumnValue> missValues = new ArrayList<>(missIndexes.size());
+            for (int uniqueIndex : missIndexes) {
+                missValues.add(uniqueValues.get(uniqueIndex));
+            }
+            return missValues;
+        }
+    }
+
+    @FunctionalInterface
+    private interface SyncCall<T> {
+        T call() throws SkyflowException;
+    }
+
+    @FunctionalInterface
+    private interface AsyncCall<T> {
+        CompletableFuture<T> call() throws SkyflowException, IOException;
+    }
+
+    @FunctionalInterface
+    private interface ResponseMapper<T, R> {
+        R map(T result) throws SkyflowException;
+    }
 }
@@ -48,6 +48,14 @@ public class InsertRequest {
         return this.builder.tokenMode;
     }
 
+    public Integer getChunkSize() {
+        return this.builder.chunkSize;
+    }
+
+    public Integer getMaxConcurrency() {
+        return this.builder.maxConcurrency;
+    }
+
     public static final class InsertRequestBuilder {
         private String table;
         private ArrayList<HashMap<String, Object>> values;
@@ -57,6 +65,8 @@ public class InsertRequest {
         private Boolean homogeneous;
         private Boolean continueOnError;
         private TokenMode tokenMode;
+        private Integer chunkSize;
+        private Integer maxConcurrency;
 
         private InsertRequestBuilder() {
             this.returnTokens = false;
@@ -104,6 +114,28 @@ public class InsertRequest {
             return this;
         }
 
+        /**
+         * Splits {@code values} (and {@code tokens}) into chunks of at most {@code chunkSize} records, each sent
+         * as a separate request. Chunking is disabled when unset.
+         * <p>
+         * Chunks are committed independently, so a chunked insert is not all-or-nothing: when one chunk fails, the
+         * others may already be written. Chunking therefore requires {@link #continueOnError(Boolean)}; the response
+         * then reports every record, with a failed chunk reported as one error per record in it.
+         */
+        public InsertRequestBuilder chunkSize(Integer chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Maximum number of chunk requests in flight at once when {@link #chunkSize(Integer)} is set.
+         * Defaults to {@link com.skyflow.utils.Constants#DEFAULT_INSERT_MAX_CONCURRENCY}.
+         */
+        public InsertRequestBuilder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
         public InsertRequest build() {
             return new InsertRequest(this);
         }
@@ -0,0 +1,55 @@
+package com.skyflow.vault.data;
+
+import com.google.gson.Gson;
+
+/**
+ * Timings of a {@code warmUp()} call for one vault. The bearer token and the connections are fetched in parallel, so
+ * the total can be shorter than the sum of the phases.
+ */
+public class WarmUpResponse {
+    private final String vaultId;
+    private final long bearerTokenMillis;
+    private final long connectionsMillis;
+    private final int connectionsRequested;
+    private final int connectionsOpened;
+    private final long totalMillis;
+
+    public WarmUpResponse(String vaultId, long bearerTokenMillis, long connectionsMillis,
+                          int connectionsRequested, int connectionsOpened, long totalMillis) {
+        this.vaultId = vaultId;
+        this.bearerTokenMillis = bearerTokenMillis;
+        this.connectionsMillis = connectionsMillis;
+        this.connectionsRequested = connectionsRequested;
+        this.connectionsOpened = connectionsOpened;
+        this.totalMillis = totalMillis;
+    }
+
+    public String getVaultId() {
+        return vaultId;
+    }
+
+    public long getBearerTokenMillis() {
+        return bearerTokenMillis;
+    }
+
+    public long getConnectionsMillis() {
+        return connectionsMillis;
+    }
+
+    public int getConnectionsRequested() {
+        return connectionsRequested;
+    }
+
+    public int getConnectionsOpened() {
+        return connectionsOpened;
+    }
+
+    public long getTotalMillis() {
+        return totalMillis;
+    }
+
+    @Override
+    public String toString() {
+        return new Gson().toJson(this);
+    }
+}
@@ -1,19 +1,27 @@
 package com.skyflow;
 
+import com.skyflow.config.CompressionConfig;
 import com.skyflow.config.ConnectionConfig;
 import com.skyflow.config.Credentials;
+import com.skyflow.config.RateLimitConfig;
+import com.skyflow.config.RetryPolicy;
+import com.skyflow.config.TransportConfig;
 import com.skyflow.config.VaultConfig;
 import com.skyflow.enums.Env;
+import com.skyflow.enums.HttpClientScope;
 import com.skyflow.enums.LogLevel;
 import com.skyflow.errors.ErrorCode;
 import com.skyflow.errors.ErrorMessage;
 import com.skyflow.errors.SkyflowException;
 import com.skyflow.logs.InfoLogs;
+import com.skyflow.utils.HttpUtility;
 import com.skyflow.utils.logger.LogUtil;
+import okhttp3.OkHttpClient;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Handler;
@@ -198,6 +206,67 @@ public class SkyflowTests {
         }
     }
 
+    @Test
+    public void testUpdateVaultConfigClearsUnsetOptionalSettings() {
+        try {
+            VaultConfig config = new VaultConfig();
+            config.setVaultId(vaultID);
+            config.setClusterId(clusterID);
+            config.setEnv(Env.SANDBOX);
+            Credentials creds = new Credentials();
+            creds.setToken(token);
+            config.setCredentials(creds);
+            config.setRetryPolicy(new RetryPolicy());
+            config.setTransportConfig(new TransportConfig());
+            config.setCompressionConfig(new CompressionConfig());
+            Skyflow skyflowClient = Skyflow.builder().addVaultConfig(config).build();
+
+            VaultConfig update = new VaultConfig();
+            update.setVaultId(vaultID);
+            update.setClusterId(clusterID);
+            skyflowClient.updateVaultConfig(update);
+            VaultConfig updated = skyflowClient.getVaultConfig(vaultID);
+            Assert.assertNull(updated.getRetryPolicy());
+            Assert.assertNull(updated.getTransportConfig());
+            Assert.assertNull(updated.getCompressionConfig());
+        } catch (SkyflowException e) {
+            Assert.fail(INVALID_EXCEPTION_THROWN);
+        }
+    }
+
+    @Test
+    public void testUpdateVaultConfigReplacesTheSharedRateLimiter() {
+        try {
+            VaultConfig config = new VaultConfig();
+            config.setVaultId(vaultID);
+            config.setClusterId(clusterID);
+            Credentials creds = new Credentials();
+            creds.setToken(token);
+            config.setCredentials(creds);
+            Skyflow skyflowClient = Skyflow.builder().addVaultConfig(config).build();
+            Assert.assertNull(skyflowClient.vault().getRateLimitStats());
+
+            RateLimitConfig rateLimitConfig = new RateLimitConfig();
+            rateLimitConfig.setInitialRate(7.0);
+            VaultConfig update = new VaultConfig();
+            update.setVaultId(vaultID);
+            update.setClusterId(clusterID);
+            update.setRateLimitConfig(rateLimitConfig);
+            skyflowClient.updateVaultConfig(update);
+            Assert.assertEquals(7.0, skyflowClient.vault().getRateLimitStats().getCurrentRate(), 0.0);
+            Assert.assertEquals(7.0, skyflowClient.detect().getRateLimitStats().getCurrentRate(), 0.0);
+
+            VaultConfig removal = new VaultConfig();
+            removal.setVaultId(vaultID);
+            removal.setClusterId(clusterID);
+            skyflowClient.updateVaultConfig(removal);
+            Assert.assertNull(skyflowClient.vault().getRateLimitStats());
+            Assert.assertNull(skyflowClient.detect().getRateLimitStats());
+        } catch (SkyflowException e) {
+            Assert.fail(INVALID_EXCEPTION_THROWN);
+        }
+    }
+
     @Test
     public void testRemovingNonExistentVaultConfigInSkyflowBuilder() {
         try {
@@ -844,4 +913,47 @@ public class SkyflowTests {
             Assert.fail("Reflection failed: " + e.getMessage());
         }
     }
+
+    @Test
+    public void testHttpClientScopeSkyflowInstanceSharesPoolWithinInstanceOnly() {
+        try {
+            Credentials credentials = new Credentials();
+            credentials.setToken("x.eyJleHAiOjk5OTk5OTk5OTl9.y");
+            OkHttpClient[][] clients = new OkHttpClient[2][];
+            for (int i = 0; i < clients.length; i++) {
+                VaultConfig firstConfig = new VaultConfig();
+                firstConfig.setVaultId(vaultID);
+                firstConfig.setClusterId(clusterID);
+                firstConfig.setCredentials(credentials);
+                VaultConfig secondConfig = new VaultConfig();
+                secondConfig.setVaultId(vaultID + "_2");
+                secondConfig.setClusterId(clusterID);
+                secondConfig.setCredentials(credentials);
+                Skyflow skyflowClient = Skyflow.builder()
+                        .setHttpClientScope(HttpClientScope.SKYFLOW_INSTANCE)
+                        .addVaultConfig(firstConfig)
+                        .addVaultConfig(secondConfig)
+                        .build();
+                clients[i] = new OkHttpClient[]{
+                        httpClientOf(skyflowClient.vault(vaultID)),
+                        httpClientOf(skyflowClient.vault(vaultID + "_2")),
+                        httpClientOf(skyflowClient.detect(vaultID))
+                };
+            }
+            Assert.assertSame(clients[0][0].connectionPool(), clients[0][1].connectionPool());
+            Assert.assertSame(clients[0][0].connectionPool(), clients[0][2].connectionPool());
+            Assert.assertSame(clients[0][0].dispatcher(), clients[0][1].dispatcher());
+            Assert.assertNotSame(clients[0][0].connectionPool(), clients[1][0].connectionPool());
+            Assert.assertNotSame(HttpUtility.getSharedHttpClient().connectionPool(), clients[0][0].connectionPool());
+        } catch (Exception e) {
+            Assert.fail(INVALID_EXCEPTION_THROWN);
+        }
+    }
+
+    private static OkHttpClient httpClientOf(VaultClient client) throws Exception {
+        client.setBearerToken();
+        Field field = VaultClient.class.getDeclaredField("sharedHttpClient");
+        field.setAccessible(true);
+        return (OkHttpClient) field.get(client);
+    }
 }
@@ -1,10 +1,13 @@
 package com.skyflow;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.skyflow.config.Credentials;
+import com.skyflow.config.TransportConfig;
 import com.skyflow.config.VaultConfig;
 import com.skyflow.enums.*;
 import com.skyflow.errors.ErrorCode;
 import com.skyflow.errors.SkyflowException;
+import com.skyflow.generated.rest.core.ObjectMappers;
 import com.skyflow.generated.rest.resources.files.FilesClient;
 import com.skyflow.generated.rest.resources.files.requests.*;
 import com.skyflow.generated.rest.resources.query.QueryClient;
@@ -19,6 +22,8 @@ import com.skyflow.generated.rest.resources.tokens.TokensClient;
 import com.skyflow.generated.rest.resources.tokens.requests.V1DetokenizePayload;
 import com.skyflow.generated.rest.resources.tokens.requests.V1TokenizePayload;
 import com.skyflow.generated.rest.types.*;
+import com.skyflow.utils.HttpUtility;
+import com.skyflow.utils.StreamingJsonRequestBody;
 import com.skyflow.vault.data.InsertRequest;
 import com.skyflow.vault.data.UpdateRequest;
 import com.skyflow.vault.detect.*;
@@ -37,6 +42,7 @@ import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.Buffer;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -246,6 +252,52 @@ public class VaultClientTests {
         }
     }
 
+    @Test
+    public void testStreamingRequestBodiesMatchGeneratedPayloads() throws Exception {
+        HashMap<String, Object> first = new HashMap<>();
+        first.put("card_number", "4111111111111111");
+        first.put("expiry", null);
+        HashMap<String, Object> second = new HashMap<>();
+        second.put("card_number", "5555555555554444");
+        HashMap<String, Object> firstTokens = new HashMap<>();
+        firstTokens.put("card_number", "token-1");
+        InsertRequest insertRequest = InsertRequest.builder()
+                .table(table)
+                .values(new ArrayList<>(Arrays.asList(first, second)))
+                .tokens(new ArrayList<>(Collections.singletonList(firstTokens)))
+                .tokenMode(TokenMode.ENABLE)
+                .returnTokens(true)
+                .upsert("card_number")
+                .build();
+        DetokenizeRequest detokenizeRequest = DetokenizeRequest.builder()
+                .detokenizeData(new ArrayList<>(Arrays.asList(
+                        new DetokenizeData("token-1"), new DetokenizeData("token-2", RedactionType.MASKED))))
+                .continueOnError(true)
+                .build();
+
+        Assert.assertEquals(toJsonTree(vaultClient.getBulkInsertRequestBody(insertRequest)),
+                toJsonTree(vaultClient.getStreamingBulkInsertBody(insertRequest)));
+        Assert.assertEquals(toJsonTree(vaultClient.getBatchInsertRequestBody(insertRequest)),
+                toJsonTree(vaultClient.getStreamingBatchInsertBody(insertRequest)));
+        Assert.assertEquals(toJsonTree(vaultClient.getDetokenizePayload(detokenizeRequest)),
+                toJsonTree(vaultClient.getStreamingDetokenizeBody(detokenizeRequest)));
+
+        StreamingJsonRequestBody body = vaultClient.getStreamingDetokenizeBody(detokenizeRequest);
+        Assert.assertEquals(-1, body.contentLength());
+        Assert.assertFalse(body.isOneShot());
+        Assert.assertEquals(toJsonTree(body), toJsonTree(body));
+    }
+
+    private static JsonNode toJsonTree(Object payload) {
+        return ObjectMappers.JSON_MAPPER.valueToTree(payload);
+    }
+
+    private static JsonNode toJsonTree(StreamingJsonRequestBody body) throws Exception {
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        return ObjectMappers.JSON_MAPPER.readTree(buffer.readUtf8());
+    }
+
     @Test
     public void testGetUpdateRequestBodyWithTokens() {
         try {
@@ -1042,6 +1094,28 @@ public class VaultClientTests {
         Assert.assertEquals(0.95, result.getEntities().get(0).getScores().get("EMAIL_ADDRESS"), 0.001);
     }
 
+    @Test
+    public void testSetBearerToken_sameIdentity_sharesTokenManager() {
+        try {
+            VaultClient[] clients = new VaultClient[2];
+            for (int i = 0; i < clients.length; i++) {
+                Credentials creds = new Credentials();
+                creds.setToken("x.eyJleHAiOjk5OTk5OTk5OTl9.y");
+                VaultConfig config = new VaultConfig();
+                config.setVaultId(vaultID + i);
+                config.setClusterId(clusterID);
+                config.setEnv(com.skyflow.enums.Env.DEV);
+                config.setCredentials(creds);
+                clients[i] = new VaultClient(config, null);
+                clients[i].setBearerToken();
+            }
+            Assert.assertNotNull(getPrivateField(clients[0], "tokenManager"));
+            Assert.assertSame(getPrivateField(clients[0], "tokenManager"), getPrivateField(clients[1], "tokenManager"));
+        } catch (Exception e) {
+            Assert.fail("Should not have thrown: " + e.getMessage());
+        }
+    }
+
     @Test
     public void testPrioritiseCredentials_credentialChange_resetsTokenAndApiKey() {
         try {
@@ -1140,6 +1214,140 @@ public class VaultClientTests {
         }
     }
 
+    @Test
+    public void testUpdateExecutorInHTTP_appliesTransportConfigOnSuppliedClient() {
+        try {
+            okhttp3.Interceptor userInterceptor = chain -> chain.proceed(chain.request());
+            OkHttpClient userClient = new OkHttpClient.Builder().addInterceptor(userInterceptor).build();
+            TransportConfig transportConfig = new TransportConfig();
+            transportConfig.setHttpClient(userClient);
+            transportConfig.setMaxRequestsPerHost(200);
+            transportConfig.setReadTimeoutMillis(45000L);
+            transportConfig.setCallTimeoutMillis(120000L);
+
+            Credentials creds = new Credentials();
+            creds.setToken("x.eyJleHAiOjk5OTk5OTk5OTl9.y");
+            VaultConfig config = new VaultConfig();
+            config.setVaultId("isolated-vault-transport");
+            config.setClusterId(clusterID);
+            config.setCredentials(creds);
+            config.setTransportConfig(transportConfig);
+            VaultClient freshClient = new VaultClient(config, null);
+            freshClient.setBearerToken();
+
+            java.lang.reflect.Field field = VaultClient.class.getDeclaredField("sharedHttpClient");
+            field.setAccessible(true);
+            OkHttpClient httpClient = (OkHttpClient) field.get(freshClient);
+            Assert.assertEquals(200, httpClient.dispatcher().getMaxRequestsPerHost());
+            Assert.assertEquals(45000, httpClient.readTimeoutMillis());
+            Assert.assertEquals(120000, httpClient.callTimeoutMillis());
+            Assert.assertSame(userClient.connectionPool(), httpClient.connectionPool());
+            Assert.assertSame(userInterceptor, httpClient.interceptors().get(0));
+            Assert.assertEquals(5, httpClient.interceptors().size());
+            // The supplied client is left as it was.
+            Assert.assertEquals(1, userClient.interceptors().size());
+            Assert.assertEquals(5, userClient.dispatcher().getMaxRequestsPerHost());
+        } catch (Exception e) {
+            Assert.fail("Should not have thrown: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testUpdateExecutorInHTTP_http2MultiplexesStreamsPerHost() {
+        try {
+            TransportConfig transportConfig = new TransportConfig();
+            transportConfig.setHttpProtocol(HttpProtocol.HTTP_2);
+            transportConfig.setPingIntervalMillis(15000L);
+
+            Credentials creds = new Credentials();
+            creds.setToken("x.eyJleHAiOjk5OTk5OTk5OTl9.y");
+            VaultConfig config = new VaultConfig();
+            config.setVaultId("isolated-vault-http2");
+            config.setClusterId(clusterID);
+            config.setCredentials(creds);
+            config.setTransportConfig(transportConfig);
+            VaultClient freshClient = new VaultClient(config, null);
+            freshClient.setBearerToken();
+
+            java.lang.reflect.Field field = VaultClient.class.getDeclaredField("sharedHttpClient");
+            field.setAccessible(true);
+            OkHttpClient httpClient = (OkHttpClient) field.get(freshClient);
+            Assert.assertEquals(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1), httpClient.protocols());
+            Assert.assertEquals(15000, httpClient.pingIntervalMillis());
+            Assert.assertEquals(httpClient.dispatcher().getMaxRequests(), httpClient.dispatcher().getMaxRequestsPerHost());
+            Assert.assertNotSame(HttpUtility.getSharedHttpClient().dispatcher(), httpClient.dispatcher());
+            Assert.assertSame(HttpUtility.getSharedHttpClient().connectionPool(), httpClient.connectionPool());
+
+            transportConfig = new TransportConfig();
+            transportConfig.setHttpProtocol(HttpProtocol.HTTP_2_PRIOR_KNOWLEDGE);
+            transportConfig.setMaxRequestsPerHost(16);
+            config.setTransportConfig(transportConfig);
+            freshClient.updateVaultConfig();
+            freshClient.setBearerToken();
+            httpClient = (OkHttpClient) field.get(freshClient);
+            Assert.assertEquals(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE), httpClient.protocols());
+            Assert.assertEquals(16, httpClient.dispatcher().getMaxRequestsPerHost());
+        } catch (Exception e) {
+            Assert.fail("Should not have thrown: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testUpdateExecutorInHTTP_clientsShareRootPoolAndDispatcher() {
+        try {
+            Credentials creds = new Credentials();
+            creds.setToken("x.eyJleHAiOjk5OTk5OTk5OTl9.y");
+            java.lang.reflect.Field field = VaultClient.class.getDeclaredField("sharedHttpClient");
+            field.setAccessible(true);
+            OkHttpClient[] clients = new OkHttpClient[2];
+            for (int i = 0; i < clients.length; i++) {
+                VaultConfig config = new VaultConfig();
+                config.setVaultId("isolated-vault-shared-" + i);
+                config.setClusterId(clusterID);
+                config.setCredentials(creds);
+                VaultClient freshClient = new VaultClient(config, null);
+                freshClient.setBearerToken();
+                clients[i] = (OkHttpClient) field.get(freshClient);
+            }
+            Assert.assertNotSame(clients[0], clients[1]);
+            Assert.assertSame(clients[0].connectionPool(), clients[1].connectionPool());
+            Assert.assertSame(clients[0].dispatcher(), clients[1].dispatcher());
+            Assert.assertSame(HttpUtility.getSharedHttpClient().connectionPool(), clients[0].connectionPool());
+        } catch (Exception e) {
+            Assert.fail("Should not have thrown: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSetCommonTransportConfig_vaultConfigTakesPrecedence() {
+        try {
+            Credentials creds = new Credentials();
+            creds.setToken("x.eyJleHAiOjk5OTk5OTk5OTl9.y");
+            VaultConfig config = new VaultConfig();
+            config.setVaultId("isolated-vault-common-transport");
+            config.setClusterId(clusterID);
+            config.setCredentials(creds);
+            VaultClient freshClient = new VaultClient(config, null);
+            java.lang.reflect.Field field = VaultClient.class.getDeclaredField("sharedHttpClient");
+            field.setAccessible(true);
+
+            TransportConfig common = new TransportConfig();
+            common.setConnectTimeoutMillis(1000L);
+            freshClient.setCommonTransportConfig(common);
+            freshClient.setBearerToken();
+            Assert.assertEquals(1000, ((OkHttpClient) field.get(freshClient)).connectTimeoutMillis());
+
+            TransportConfig own = new TransportConfig();
+            own.setConnectTimeoutMillis(2000L);
+            config.setTransportConfig(own);
+            freshClient.updateVaultConfig();
+            freshClient.setBearerToken();
+            Assert.assertEquals(2000, ((OkHttpClient) field.get(freshClient)).connectTimeoutMillis());
+        } catch (Exception e) {
+            Assert.fail("Should not have thrown: " + e.getMessage());
+        }
+    }
+
     @Test
     public void testGetFileForFileUpload_withNoFileInput_returnsNull() {
         try {
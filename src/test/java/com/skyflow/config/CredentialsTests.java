@@ -13,6 +13,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.skyflow.utils.Constants;
 import com.skyflow.utils.Utils;
 
 public class CredentialsTests {
@@ -352,4 +353,26 @@ public class CredentialsTests {
         }
     }
 
+    @Test
+    public void testNegativeTokenRefreshMarginInCredentials() {
+        try {
+            Credentials credentials = new Credentials();
+            credentials.setPath(path);
+            credentials.setTokenRefreshMarginSeconds(-1L);
+            Validations.validateCredentials(credentials);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(ErrorCode.INVALID_INPUT.getCode(), e.getHttpCode());
+            Assert.assertEquals(ErrorMessage.InvalidTokenRefreshMargin.getMessage(), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testNullTokenRefreshMarginDefaultsInCredentials() {
+        Credentials credentials = new Credentials();
+        credentials.setTokenRefreshMarginSeconds(null);
+        Assert.assertEquals(Long.valueOf(Constants.DEFAULT_TOKEN_REFRESH_MARGIN_SECONDS),
+                credentials.getTokenRefreshMarginSeconds());
+    }
+
 }
@@ -157,4 +157,132 @@ public class VaultConfigTests {
             Assert.assertEquals(ErrorMessage.EmptyClusterId.getMessage(), e.getMessage());
         }
     }
+
+    @Test
+    public void testInvalidDetokenizeCacheMaxEntriesInVaultConfigInValidations() {
+        try {
+            CacheConfig cacheConfig = new CacheConfig();
+            cacheConfig.setMaxEntries(0);
+            VaultConfig vaultConfig = new VaultConfig();
+            vaultConfig.setVaultId(vaultID);
+            vaultConfig.setClusterId(clusterID);
+            vaultConfig.setDetokenizeCacheConfig(cacheConfig);
+            Validations.validateVaultConfig(vaultConfig);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(ErrorCode.INVALID_INPUT.getCode(), e.getHttpCode());
+            Assert.assertEquals(ErrorMessage.InvalidCacheMaxEntries.getMessage(), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testInvalidDetokenizeCacheTtlInVaultConfigInValidations() {
+        try {
+            CacheConfig cacheConfig = new CacheConfig();
+            cacheConfig.setTtlSeconds(-1L);
+            VaultConfig vaultConfig = new VaultConfig();
+            vaultConfig.setVaultId(vaultID);
+            vaultConfig.setClusterId(clusterID);
+            vaultConfig.setDetokenizeCacheConfig(cacheConfig);
+            Validations.validateVaultConfig(vaultConfig);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(ErrorCode.INVALID_INPUT.getCode(), e.getHttpCode());
+            Assert.assertEquals(ErrorMessage.InvalidCacheTtl.getMessage(), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testInvalidRetryMaxAttemptsInVaultConfigInValidations() {
+        try {
+            RetryPolicy retryPolicy = new RetryPolicy();
+            retryPolicy.setMaxAttempts(0);
+            VaultConfig vaultConfig = new VaultConfig();
+            vaultConfig.setVaultId(vaultID);
+            vaultConfig.setClusterId(clusterID);
+            vaultConfig.setRetryPolicy(retryPolicy);
+            Validations.validateVaultConfig(vaultConfig);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(ErrorCode.INVALID_INPUT.getCode(), e.getHttpCode());
+            Assert.assertEquals(ErrorMessage.InvalidRetryMaxAttempts.getMessage(), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testInvalidRetryBackoffInVaultConfigInValidations() {
+        try {
+            RetryPolicy retryPolicy = new RetryPolicy();
+            retryPolicy.setBaseBackoffMillis(500L);
+            retryPolicy.setMaxBackoffMillis(100L);
+            VaultConfig vaultConfig = new VaultConfig();
+            vaultConfig.setVaultId(vaultID);
+            vaultConfig.setClusterId(clusterID);
+            vaultConfig.setRetryPolicy(retryPolicy);
+            Validations.validateVaultConfig(vaultConfig);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(ErrorCode.INVALID_INPUT.getCode(), e.getHttpCode());
+            Assert.assertEquals(ErrorMessage.InvalidRetryBackoff.getMessage(), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testInvalidTransportTimeoutInVaultConfigInValidations() {
+        try {
+            TransportConfig transportConfig = new TransportConfig();
+            transportConfig.setReadTimeoutMillis(-1L);
+            VaultConfig vaultConfig = new VaultConfig();
+            vaultConfig.setVaultId(vaultID);
+            vaultConfig.setClusterId(clusterID);
+            vaultConfig.setTransportConfig(transportConfig);
+            Validations.validateVaultConfig(vaultConfig);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(ErrorCode.INVALID_INPUT.getCode(), e.getHttpCode());
+            Assert.assertEquals(ErrorMessage.InvalidTransportTimeout.getMessage(), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testInvalidKeepAliveProbeIntervalInVaultConfigInValidations() {
+        try {
+            KeepAliveConfig keepAliveConfig = new KeepAliveConfig();
+            keepAliveConfig.setProbeIntervalSeconds(0L);
+            VaultConfig vaultConfig = new VaultConfig();
+            vaultConfig.setVaultId(vaultID);
+            vaultConfig.setClusterId(clusterID);
+            vaultConfig.setKeepAliveConfig(keepAliveConfig);
+            Validations.validateVaultConfig(vaultConfig);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(ErrorCode.INVALID_INPUT.getCode(), e.getHttpCode());
+            Assert.assertEquals(ErrorMessage.InvalidKeepAliveProbeInterval.getMessage(), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testInvalidRateLimitConfigInVaultConfigInValidations() {
+        RateLimitConfig rateLimitConfig = new RateLimitConfig();
+        VaultConfig vaultConfig = new VaultConfig();
+        vaultConfig.setVaultId(vaultID);
+        vaultConfig.setClusterId(clusterID);
+        vaultConfig.setRateLimitConfig(rateLimitConfig);
+        try {
+            rateLimitConfig.setMinRate(100.0);
+            Validations.validateVaultConfig(vaultConfig);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(ErrorCode.INVALID_INPUT.getCode(), e.getHttpCode());
+            Assert.assertEquals(ErrorMessage.InvalidRateLimitRate.getMessage(), e.getMessage());
+        }
+        try {
+            rateLimitConfig.setMinRate(null);
+            rateLimitConfig.setDecreaseFactor(1.0);
+            Validations.validateVaultConfig(vaultConfig);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(ErrorMessage.InvalidRateLimitDecreaseFactor.getMessage(), e.getMessage());
+        }
+    }
 }
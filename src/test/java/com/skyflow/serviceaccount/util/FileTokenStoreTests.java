@@ -0,0 +1,62 @@
+package com.skyflow.serviceaccount.util;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+public class FileTokenStoreTests {
+    private static final String KEY = "[\"client_id\",\"key_id\",\"https://manage.skyflowapis.com/v1/auth/sa/oauth/token\",[],null]";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testPutAndGetToken() throws Exception {
+        FileTokenStore tokenStore = new FileTokenStore(new File(temporaryFolder.getRoot(), "tokens"));
+        Assert.assertNull(tokenStore.get(KEY));
+
+        tokenStore.put(KEY, "first-token");
+        tokenStore.put(KEY, "second-token");
+        Assert.assertEquals("second-token", tokenStore.get(KEY));
+        Assert.assertNull(tokenStore.get(KEY + "-other"));
+    }
+
+    @Test
+    public void testTokenFileNameDoesNotContainKey() throws Exception {
+        File directory = new File(temporaryFolder.getRoot(), "tokens");
+        new FileTokenStore(directory).put(KEY, "token");
+
+        String[] files = directory.list();
+        Assert.assertNotNull(files);
+        Assert.assertEquals(1, files.length);
+        Assert.assertFalse(files[0].contains("client_id"));
+    }
+
+    @Test
+    public void testTokenFilesAreOwnerOnly() throws Exception {
+        Path root = temporaryFolder.getRoot().toPath();
+        Assume.assumeTrue(Files.getFileStore(root).supportsFileAttributeView("posix"));
+        File directory = new File(temporaryFolder.getRoot(), "tokens");
+        new FileTokenStore(directory).put(KEY, "token");
+
+        Path file = directory.toPath().resolve(directory.list()[0]);
+        Assert.assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(directory.toPath())));
+        Assert.assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(file)));
+    }
+
+    @Test
+    public void testRemoveToken() {
+        FileTokenStore tokenStore = new FileTokenStore(new File(temporaryFolder.getRoot(), "tokens"));
+        tokenStore.put(KEY, "token");
+        tokenStore.remove(KEY);
+        Assert.assertNull(tokenStore.get(KEY));
+        tokenStore.remove(KEY);
+    }
+}
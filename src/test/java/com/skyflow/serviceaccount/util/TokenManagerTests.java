@@ -0,0 +1,288 @@
+package com.skyflow.serviceaccount.util;
+
+import com.skyflow.Skyflow;
+import com.skyflow.enums.LogLevel;
+import com.skyflow.errors.ErrorCode;
+import com.skyflow.errors.SkyflowException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class TokenManagerTests {
+    private static final String INVALID_EXCEPTION_THROWN = "Should not have thrown any exception";
+    private static final String EXCEPTION_NOT_THROWN = "Should have thrown an exception";
+    private static final long NOW_MILLIS = 1_000_000_000L;
+    private static final int THREADS = 16;
+
+    private AtomicLong clock;
+    private AtomicInteger fetches;
+    private List<String> tokens;
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> scheduledFuture;
+
+    @BeforeClass
+    public static void setupClass() {
+        Skyflow skyflowClient = Skyflow.builder().setLogLevel(LogLevel.DEBUG).build();
+    }
+
+    @Before
+    public void setup() {
+        clock = new AtomicLong(NOW_MILLIS);
+        fetches = new AtomicInteger();
+        tokens = new ArrayList<>();
+        scheduler = mock(ScheduledExecutorService.class);
+        scheduledFuture = mock(ScheduledFuture.class);
+        doReturn(scheduledFuture).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void testReusesTokenUntilExpiry() {
+        try {
+            tokens.add(jwt(NOW_MILLIS / 1000 + 3600));
+            TokenManager manager = new TokenManager(this::fetch, 0, null, clock::get);
+
+            Assert.assertEquals(tokens.get(0), manager.getToken());
+            clock.addAndGet(TimeUnit.MINUTES.toMillis(59));
+            Assert.assertEquals(tokens.get(0), manager.getToken());
+            Assert.assertEquals(1, fetches.get());
+        } catch (Exception e) {
+            Assert.fail(INVALID_EXCEPTION_THROWN);
+        }
+    }
+
+    @Test
+    public void testFetchesNewTokenAfterExpiry() {
+        try {
+            tokens.add(jwt(NOW_MILLIS / 1000 + 60));
+            tokens.add(jwt(NOW_MILLIS / 1000 + 3600));
+            TokenManager manager = new TokenManager(this::fetch, 0, null, clock::get);
+
+            Assert.assertEquals(tokens.get(0), manager.getToken());
+            clock.addAndGet(TimeUnit.SECONDS.toMillis(61));
+            Assert.assertEquals(tokens.get(1), manager.getToken());
+            Assert.assertEquals(2, fetches.get());
+        } catch (Exception e) {
+            Assert.fail(INVALID_EXCEPTION_THROWN);
+        }
+    }
+
+    @Test
+    public void testUnparseableTokenIsFetchedOnEveryCall() {
+        try {
+            tokens.add("not-a-jwt");
+            tokens.add("not-a-jwt");
+            TokenManager manager = new TokenManager(this::fetch, 300, scheduler, clock::get);
+
+            Assert.assertEquals("not-a-jwt", manager.getToken());
+            Assert.assertEquals("not-a-jwt", manager.getToken());
+            Assert.assertEquals(2, fetches.get());
+            verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        } catch (Exception e) {
+            Assert.fail(INVALID_EXCEPTION_THROWN);
+        }
+    }
+
+    @Test
+    public void testRefreshesInBackgroundBeforeExpiry() {
+        try {
+            tokens.add(jwt(NOW_MILLIS / 1000 + 3600));
+            tokens.add(jwt(NOW_MILLIS / 1000 + 7200));
+            TokenManager manager = new TokenManager(this::fetch, 300, scheduler, clock::get);
+
+            Assert.assertEquals(tokens.get(0), manager.getToken());
+            ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduler).schedule(refresh.capture(), eq(TimeUnit.SECONDS.toMillis(3300)), eq(TimeUnit.MILLISECONDS));
+
+            clock.addAndGet(TimeUnit.SECONDS.toMillis(3300));
+            refresh.getValue().run();
+            Assert.assertEquals(2, fetches.get());
+            Assert.assertEquals(tokens.get(1), manager.getToken());
+            Assert.assertEquals(2, fetches.get());
+            verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        } catch (Exception e) {
+            Assert.fail(INVALID_EXCEPTION_THROWN);
+        }
+    }
+
+    @Test
+    public void testMarginIsCappedAtHalfTheTokenLifetime() {
+        try {
+            tokens.add(jwt(NOW_MILLIS / 1000 + 120));
+            TokenManager manager = new TokenManager(this::fetch, 300, scheduler, clock::get);
+
+            manager.getToken();
+            verify(scheduler).schedule(any(Runnable.class), eq(TimeUnit.SECONDS.toMillis(60)), eq(TimeUnit.MILLISECONDS));
+        } catch (Exception e) {
+            Assert.fail(INVALID_EXCEPTION_THROWN);
+        }
+    }
+
+    @Test
+    public void testStopsRefreshingWhenTokenIsNotUsed() {
+        try {
+            tokens.add(jwt(NOW_MILLIS / 1000 + 3600));
+            tokens.add(jwt(NOW_MILLIS / 1000 + 7200));
+            TokenManager manager = new TokenManager(this::fetch, 300, scheduler, clock::get);
+
+            manager.getToken();
+            ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduler).schedule(refresh.capture(), anyLong(), any(TimeUnit.class));
+            refresh.getValue().run();
+            verify(scheduler, times(2)).schedule(refresh.capture(), anyLong(), any(TimeUnit.class));
+
+            // No getToken() call since the previous refresh, so this one is skipped and nothing is rescheduled.
+            refresh.getValue().run();
+            Assert.assertEquals(2, fetches.get());
+            verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        } catch (Exception e) {
+            Assert.fail(INVALID_EXCEPTION_THROWN);
+        }
+    }
+
+    @Test
+    public void testRetriesFailedRefreshWhileTokenIsValid() {
+        try {
+            tokens.add(jwt(NOW_MILLIS / 1000 + 3600));
+            TokenManager manager = new TokenManager(this::fetch, 300, scheduler, clock::get);
+
+            manager.getToken();
+            ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduler).schedule(refresh.capture(), anyLong(), any(TimeUnit.class));
+
+            clock.addAndGet(TimeUnit.SECONDS.toMillis(3300));
+            refresh.getValue().run();
+            verify(scheduler).schedule(any(Runnable.class), eq(30L), eq(TimeUnit.SECONDS));
+            Assert.assertEquals(tokens.get(0), manager.getToken());
+        } catch (Exception e) {
+            Assert.fail(INVALID_EXCEPTION_THROWN);
+        }
+    }
+
+    @Test
+    public void testCloseCancelsScheduledRefresh() {
+        try {
+            tokens.add(jwt(NOW_MILLIS / 1000 + 3600));
+            TokenManager manager = new TokenManager(this::fetch, 300, scheduler, clock::get);
+
+            manager.getToken();
+            manager.close();
+            verify(scheduledFuture).cancel(false);
+        } catch (Exception e) {
+            Assert.fail(INVALID_EXCEPTION_THROWN);
+        }
+    }
+
+    @Test
+    public void testConcurrentCallersShareOneFetchPerExpiry() throws Exception {
+        tokens.add(jwt(NOW_MILLIS / 1000 + 60));
+        tokens.add(jwt(NOW_MILLIS / 1000 + 3600));
+        CountDownLatch[] fetchStarted = {new CountDownLatch(1), new CountDownLatch(1)};
+        CountDownLatch[] releaseFetch = {new CountDownLatch(1), new CountDownLatch(1)};
+        TokenManager manager = new TokenManager(() -> {
+            int round = Math.min(fetches.get(), 1);
+            fetchStarted[round].countDown();
+            awaitQuietly(releaseFetch[round]);
+            return fetch();
+        }, 0, null, clock::get);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < 2; round++) {
+                List<Future<String>> results = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    results.add(executor.submit(manager::getToken));
+                }
+                Assert.assertTrue(fetchStarted[round].await(5, TimeUnit.SECONDS));
+                // Give the remaining callers time to find the token expired and join the fetch in flight.
+                Thread.sleep(200);
+                releaseFetch[round].countDown();
+                for (Future<String> result : results) {
+                    Assert.assertEquals(tokens.get(round), result.get(5, TimeUnit.SECONDS));
+                }
+                Assert.assertEquals(round + 1, fetches.get());
+                clock.addAndGet(TimeUnit.SECONDS.toMillis(61));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentCallersShareFetchFailure() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        TokenManager manager = new TokenManager(() -> {
+            fetchStarted.countDown();
+            awaitQuietly(releaseFetch);
+            return fetch();
+        }, 0, null, clock::get);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(manager::getToken));
+            }
+            Assert.assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+            Thread.sleep(200);
+            releaseFetch.countDown();
+            for (Future<String> result : results) {
+                try {
+                    result.get(5, TimeUnit.SECONDS);
+                    Assert.fail(EXCEPTION_NOT_THROWN);
+                } catch (ExecutionException e) {
+                    Assert.assertTrue(e.getCause() instanceof SkyflowException);
+                }
+            }
+            Assert.assertEquals(1, fetches.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String fetch() throws SkyflowException {
+        int index = fetches.getAndIncrement();
+        if (index >= tokens.size()) {
+            throw new SkyflowException(ErrorCode.SERVER_ERROR.getCode(), "auth unavailable");
+        }
+        return tokens.get(index);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String jwt(long expSeconds) {
+        String payload = "{\"exp\":" + expSeconds + "}";
+        return "x." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".y";
+    }
+}
@@ -0,0 +1,138 @@
+package com.skyflow.utils;
+
+import com.skyflow.config.RateLimitConfig;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AdaptiveRateLimiterTests {
+    private static final String URL = "https://vault.example.com/v1/vaults";
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private RateLimitConfig config;
+    private AtomicLong clock;
+    private List<Long> sleeps;
+
+    @Before
+    public void setup() {
+        config = new RateLimitConfig();
+        config.setInitialRate(10.0);
+        config.setBurstSize(2);
+        config.setDecreaseFactor(0.5);
+        config.setAdditiveIncrease(1.0);
+        clock = new AtomicLong(5_000_000_000L);
+        sleeps = new ArrayList<>();
+    }
+
+    @Test
+    public void testSpacesPermitsAtTheRateOnceTheBurstIsUsed() throws Exception {
+        AdaptiveRateLimiter limiter = limiter();
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire();
+        }
+        Assert.assertEquals(2, sleeps.size());
+        Assert.assertEquals(100 * MILLIS, (long) sleeps.get(0));
+        Assert.assertEquals(100 * MILLIS, (long) sleeps.get(1));
+
+        // An idle limiter saves up no more than the burst size.
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        sleeps.clear();
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire();
+        }
+        Assert.assertEquals(1, sleeps.size());
+        Assert.assertEquals(7, limiter.getStats().getPermitCount());
+    }
+
+    @Test
+    public void testDecreasesOncePerRoundAndIncreasesAdditively() throws Exception {
+        AdaptiveRateLimiter limiter = limiter();
+        long first = limiter.acquire();
+        long second = limiter.acquire();
+        limiter.onThrottled(first, -1, 429);
+        limiter.onThrottled(second, -1, 429);
+        Assert.assertEquals(5.0, limiter.getCurrentRate(), 0.0);
+
+        long third = limiter.acquire();
+        limiter.onThrottled(third, -1, 429);
+        Assert.assertEquals(2.5, limiter.getCurrentRate(), 0.0);
+        RateLimitStats stats = limiter.getStats();
+        Assert.assertEquals(3, stats.getThrottledCount());
+        Assert.assertEquals(2, stats.getDecreaseCount());
+
+        for (int i = 0; i < 5; i++) {
+            limiter.onSuccess();
+        }
+        // Each success adds additiveIncrease / rate, about additiveIncrease per second at full use.
+        Assert.assertTrue(limiter.getCurrentRate() > 4.0 && limiter.getCurrentRate() < 4.5);
+
+        config.setInitialRate(4.0);
+        config.setMaxRate(4.5);
+        AdaptiveRateLimiter capped = limiter();
+        for (int i = 0; i < 100; i++) {
+            capped.onSuccess();
+        }
+        Assert.assertEquals(4.5, capped.getCurrentRate(), 0.0);
+    }
+
+    @Test
+    public void testRetryAfterHoldsBackEveryPermit() throws Exception {
+        AdaptiveRateLimiter limiter = limiter();
+        long granted = limiter.acquire();
+        limiter.onThrottled(granted, 2000, 503);
+
+        limiter.acquire();
+        Assert.assertEquals(1, sleeps.size());
+        // The pause, then the spacing of the lowered rate because the bucket was emptied.
+        Assert.assertEquals(2000 * MILLIS + 200 * MILLIS, (long) sleeps.get(0));
+    }
+
+    @Test
+    public void testInterceptorReportsThrottledAndSuccessfulResponses() throws Exception {
+        AdaptiveRateLimiter limiter = limiter();
+        LinkedList<Integer> codes = new LinkedList<>();
+        codes.add(429);
+        codes.add(200);
+        codes.add(500);
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new RateLimitInterceptor(() -> limiter))
+                .addInterceptor(chain -> new Response.Builder()
+                        .request(chain.request())
+                        .protocol(Protocol.HTTP_1_1)
+                        .code(codes.removeFirst())
+                        .message("")
+                        .header("Retry-After", "1")
+                        .body(ResponseBody.create("{}", MediaType.parse("application/json")))
+                        .build())
+                .build();
+
+        client.newCall(new Request.Builder().url(URL).get().build()).execute().close();
+        Assert.assertEquals(5.0, limiter.getCurrentRate(), 0.0);
+        client.newCall(new Request.Builder().url(URL).get().build()).execute().close();
+        Assert.assertEquals(5.2, limiter.getCurrentRate(), 1e-9);
+        // A Retry-After header on another error is not a throttling signal.
+        client.newCall(new Request.Builder().url(URL).get().build()).execute().close();
+        Assert.assertEquals(5.2, limiter.getCurrentRate(), 1e-9);
+        Assert.assertEquals(3, limiter.getStats().getPermitCount());
+        Assert.assertEquals(1, limiter.getStats().getThrottledCount());
+    }
+
+    private AdaptiveRateLimiter limiter() {
+        return new AdaptiveRateLimiter(config, clock::get, nanos -> {
+            sleeps.add(nanos);
+            clock.addAndGet(nanos);
+        });
+    }
+}
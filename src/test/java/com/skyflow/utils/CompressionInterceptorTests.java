@@ -0,0 +1,148 @@
+package com.skyflow.utils;
+
+import com.skyflow.config.CompressionConfig;
+import com.skyflow.enums.CompressionAlgorithm;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.GzipSource;
+import okio.InflaterSource;
+import okio.Okio;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Inflater;
+
+public class CompressionInterceptorTests {
+    private static final String URL = "https://vault.example.com/v1/vaults/id/detokenize";
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    private CompressionConfig config;
+    private List<Request> sent;
+
+    @Before
+    public void setup() {
+        config = new CompressionConfig();
+        config.setMinSizeBytes(1024L);
+        sent = new ArrayList<>();
+    }
+
+    @Test
+    public void testCompressesLargeBodyWithGzip() throws Exception {
+        CompressionInterceptor interceptor = new CompressionInterceptor(() -> config);
+        String json = repetitiveJson(200);
+
+        client(interceptor).newCall(post(json)).execute().close();
+        Request request = sent.get(0);
+        Assert.assertEquals("gzip", request.header("Content-Encoding"));
+        Assert.assertEquals(post(json).body().contentType(), request.body().contentType());
+        Buffer body = new Buffer();
+        request.body().writeTo(body);
+        long compressedSize = body.size();
+        Assert.assertTrue(compressedSize < json.length());
+        Assert.assertEquals(json, Okio.buffer(new GzipSource(body)).readUtf8());
+
+        CompressionStats stats = interceptor.getStats();
+        Assert.assertEquals(1, stats.getCompressedCount());
+        Assert.assertEquals(json.length(), stats.getOriginalBytes());
+        Assert.assertEquals(compressedSize, stats.getCompressedBytes());
+        Assert.assertTrue(stats.getCompressionRatio() < 0.2);
+        Assert.assertTrue(stats.getCompressionMillis() >= 0);
+    }
+
+    @Test
+    public void testCompressesWithDeflate() throws Exception {
+        config.setAlgorithm(CompressionAlgorithm.DEFLATE);
+        CompressionInterceptor interceptor = new CompressionInterceptor(() -> config);
+        String json = repetitiveJson(200);
+
+        client(interceptor).newCall(post(json)).execute().close();
+        Request request = sent.get(0);
+        Assert.assertEquals("deflate", request.header("Content-Encoding"));
+        Buffer body = new Buffer();
+        request.body().writeTo(body);
+        Assert.assertEquals(json, Okio.buffer(new InflaterSource(body, new Inflater())).readUtf8());
+    }
+
+    @Test
+    public void testCompressesStreamedBodyWhileWriting() throws Exception {
+        CompressionInterceptor interceptor = new CompressionInterceptor(() -> config);
+        String json = repetitiveJson(5);
+        RequestBody streamed = new StreamingJsonRequestBody(generator -> generator.writeRawValue(json));
+
+        client(interceptor).newCall(new Request.Builder().url(URL).post(streamed).build()).execute().close();
+        Request request = sent.get(0);
+        Assert.assertEquals("gzip", request.header("Content-Encoding"));
+        Assert.assertEquals(-1, request.body().contentLength());
+        // Retries write the body again, so it must replay the same bytes.
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            Buffer body = new Buffer();
+            request.body().writeTo(body);
+            long compressedSize = body.size();
+            Assert.assertEquals(json, Okio.buffer(new GzipSource(body)).readUtf8());
+
+            CompressionStats stats = interceptor.getStats();
+            Assert.assertEquals(attempt, stats.getCompressedCount());
+            Assert.assertEquals(attempt * (long) json.length(), stats.getOriginalBytes());
+            Assert.assertEquals(attempt * compressedSize, stats.getCompressedBytes());
+        }
+    }
+
+    @Test
+    public void testSkipsBodiesBelowThreshold() throws Exception {
+        CompressionInterceptor interceptor = new CompressionInterceptor(() -> config);
+
+        client(interceptor).newCall(post(repetitiveJson(2))).execute().close();
+        Assert.assertNull(sent.get(0).header("Content-Encoding"));
+        Assert.assertEquals(0, interceptor.getStats().getCompressedCount());
+        Assert.assertEquals(1, interceptor.getStats().getSkippedCount());
+        Assert.assertEquals(1.0, interceptor.getStats().getCompressionRatio(), 0.0);
+    }
+
+    @Test
+    public void testLeavesRequestsUntouchedWhenDisabled() throws Exception {
+        CompressionInterceptor interceptor = new CompressionInterceptor(() -> null);
+        String json = repetitiveJson(200);
+
+        client(interceptor).newCall(post(json)).execute().close();
+        Assert.assertNull(sent.get(0).header("Content-Encoding"));
+        Assert.assertEquals(json.length(), sent.get(0).body().contentLength());
+        Assert.assertEquals(0, interceptor.getStats().getSkippedCount());
+    }
+
+    private OkHttpClient client(CompressionInterceptor interceptor) {
+        return new OkHttpClient.Builder()
+                .addInterceptor(interceptor)
+                .addInterceptor(chain -> {
+                    sent.add(chain.request());
+                    return new Response.Builder()
+                            .request(chain.request())
+                            .protocol(Protocol.HTTP_1_1)
+                            .code(200)
+                            .message("OK")
+                            .body(ResponseBody.create("{}", JSON))
+                            .build();
+                })
+                .build();
+    }
+
+    private static Request post(String json) {
+        return new Request.Builder().url(URL).post(RequestBody.create(json, JSON)).build();
+    }
+
+    private static String repetitiveJson(int records) {
+        StringBuilder json = new StringBuilder("{\"detokenizationParameters\":[");
+        for (int i = 0; i < records; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"token\":\"token-").append(i).append("\",\"redaction\":\"PLAIN_TEXT\"}");
+        }
+        return json.append("]}").toString();
+    }
+}
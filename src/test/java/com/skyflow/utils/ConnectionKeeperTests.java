@@ -0,0 +1,142 @@
+package com.skyflow.utils;
+
+import com.skyflow.Skyflow;
+import com.skyflow.config.KeepAliveConfig;
+import com.skyflow.enums.LogLevel;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ConnectionKeeperTests {
+    private static final Executor DIRECT = Runnable::run;
+
+    private KeepAliveConfig keepAliveConfig;
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> scheduledFuture;
+    private AtomicInteger probes;
+
+    @BeforeClass
+    public static void setupClass() {
+        Skyflow skyflowClient = Skyflow.builder().setLogLevel(LogLevel.DEBUG).build();
+    }
+
+    @Before
+    public void setup() {
+        keepAliveConfig = new KeepAliveConfig();
+        keepAliveConfig.setMinWarmConnections(3);
+        keepAliveConfig.setProbeIntervalSeconds(20L);
+        scheduler = mock(ScheduledExecutorService.class);
+        scheduledFuture = mock(ScheduledFuture.class);
+        doReturn(scheduledFuture).when(scheduler)
+                .scheduleWithFixedDelay(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class));
+        probes = new AtomicInteger();
+    }
+
+    @Test
+    public void testStartSchedulesProbesAtInterval() {
+        ConnectionKeeper keeper = new ConnectionKeeper(keepAliveConfig, () -> () -> 10L, scheduler, DIRECT);
+        keeper.start();
+        keeper.start();
+        verify(scheduler, times(1))
+                .scheduleWithFixedDelay(any(Runnable.class), eq(0L), eq(20L), eq(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRunProbesRecordsRoundTripTimes() {
+        long[] roundTrips = {10L, 20L, 30L};
+        ConnectionKeeper keeper = new ConnectionKeeper(keepAliveConfig,
+                () -> () -> roundTrips[probes.getAndIncrement()], scheduler, DIRECT);
+
+        KeepAliveStats stats = keeper.getStats();
+        Assert.assertEquals(0, stats.getProbeCount());
+        Assert.assertEquals(-1L, stats.getLastRoundTripMillis());
+
+        keeper.runProbes();
+        stats = keeper.getStats();
+        Assert.assertEquals(3, probes.get());
+        Assert.assertEquals(3, stats.getProbeCount());
+        Assert.assertEquals(0, stats.getFailedProbeCount());
+        Assert.assertEquals(3, stats.getWarmConnections());
+        Assert.assertEquals(30L, stats.getLastRoundTripMillis());
+        // 10, then 10 + 0.2 * (20 - 10) = 12, then 12 + 0.2 * (30 - 12) = 15.6
+        Assert.assertEquals(15.6, stats.getAverageRoundTripMillis(), 0.0001);
+    }
+
+    @Test
+    public void testFailedProbesAreCountedAndKeepSchedule() {
+        ConnectionKeeper keeper = new ConnectionKeeper(keepAliveConfig, () -> () -> {
+            if (probes.getAndIncrement() == 0) {
+                throw new IOException("connection reset");
+            }
+            return 5L;
+        }, scheduler, DIRECT);
+        keeper.start();
+
+        keeper.runProbes();
+        KeepAliveStats stats = keeper.getStats();
+        Assert.assertEquals(3, stats.getProbeCount());
+        Assert.assertEquals(1, stats.getFailedProbeCount());
+        Assert.assertEquals(2, stats.getWarmConnections());
+        Assert.assertEquals(5L, stats.getLastRoundTripMillis());
+        verify(scheduledFuture, times(0)).cancel(false);
+    }
+
+    @Test
+    public void testRoundIsSkippedWhileThePreviousOneIsRunning() {
+        List<Runnable> pending = new ArrayList<>();
+        ConnectionKeeper keeper = new ConnectionKeeper(keepAliveConfig,
+                () -> () -> 10L + probes.getAndIncrement(), scheduler, pending::add);
+
+        keeper.runProbes();
+        keeper.runProbes();
+        Assert.assertEquals(3, pending.size());
+        Assert.assertEquals(0, keeper.getStats().getProbeCount());
+
+        for (Runnable runnable : pending) {
+            runnable.run();
+        }
+        pending.clear();
+        Assert.assertEquals(3, keeper.getStats().getProbeCount());
+
+        keeper.runProbes();
+        Assert.assertEquals(3, pending.size());
+    }
+
+    @Test
+    public void testStopsWhenProbeIsNoLongerAvailable() {
+        ConnectionKeeper keeper = new ConnectionKeeper(keepAliveConfig, () -> null, scheduler, DIRECT);
+        keeper.start();
+        keeper.runProbes();
+        verify(scheduledFuture).cancel(false);
+
+        keeper.start();
+        verify(scheduler, times(1))
+                .scheduleWithFixedDelay(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void testCloseCancelsScheduledProbes() {
+        ConnectionKeeper keeper = new ConnectionKeeper(keepAliveConfig, () -> () -> 10L, scheduler, DIRECT);
+        keeper.start();
+        keeper.close();
+        verify(scheduledFuture).cancel(false);
+    }
+}
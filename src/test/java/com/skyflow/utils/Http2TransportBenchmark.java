@@ -0,0 +1,120 @@
+package com.skyflow.utils;
+
+import com.skyflow.config.TransportConfig;
+import com.skyflow.enums.HttpProtocol;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares throughput and socket count of the HTTP/1.1 pool and HTTP/2 multiplexing for concurrent vault-sized
+ * calls against a local {@link MockWebServer} that answers after a fixed delay. It opens sockets, so it is not part
+ * of the test suite. Run it after {@code mvn test-compile} with:
+ * <pre>
+ * java -cp target/classes:target/test-classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.skyflow.utils.Http2TransportBenchmark [calls] [concurrency] [serverDelayMillis]
+ * </pre>
+ */
+public final class Http2TransportBenchmark {
+    private static final MediaType JSON = MediaType.get("application/json");
+    private static final String REQUEST_BODY = "{\"detokenizationParameters\":[{\"token\":\"4531-1523-7862-2049\"}]}";
+    private static final String RESPONSE_BODY =
+            "{\"records\":[{\"token\":\"4531-1523-7862-2049\",\"value\":\"4111111111111111\"}]}";
+
+    private Http2TransportBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int calls = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        long delayMillis = args.length > 2 ? Long.parseLong(args[2]) : 20L;
+
+        // The first round of each protocol warms up the JIT and is not reported.
+        for (boolean report : new boolean[]{false, true}) {
+            for (HttpProtocol protocol : Arrays.asList(HttpProtocol.HTTP_1_1, HttpProtocol.HTTP_2_PRIOR_KNOWLEDGE)) {
+                run(protocol, calls, concurrency, delayMillis, report);
+            }
+        }
+    }
+
+    private static void run(HttpProtocol protocol, int calls, int concurrency, long delayMillis, boolean report)
+            throws IOException, InterruptedException {
+        // A request that is the first on its connection marks a new socket.
+        AtomicInteger socketCount = new AtomicInteger();
+        try (MockWebServer server = new MockWebServer()) {
+            if (protocol == HttpProtocol.HTTP_2_PRIOR_KNOWLEDGE) {
+                server.setProtocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+            }
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    if (request.getSequenceNumber() == 0) {
+                        socketCount.incrementAndGet();
+                    }
+                    return new MockResponse()
+                            .setHeader("Content-Type", "application/json")
+                            .setBody(RESPONSE_BODY)
+                            .setHeadersDelay(delayMillis, TimeUnit.MILLISECONDS);
+                }
+            });
+            server.start();
+            String url = server.url("/v1/vaults/benchmark/detokenize").toString();
+
+            TransportConfig transportConfig = new TransportConfig();
+            transportConfig.setHttpProtocol(protocol);
+            transportConfig.setMaxRequests(concurrency);
+            transportConfig.setMaxRequestsPerHost(concurrency);
+            transportConfig.setMaxIdleConnections(concurrency);
+            OkHttpClient client = HttpUtility.newClientBuilder(HttpUtility.newRootHttpClient(), transportConfig).build();
+
+            CountDownLatch done = new CountDownLatch(calls);
+            AtomicInteger failures = new AtomicInteger();
+            long start = System.nanoTime();
+            for (int i = 0; i < calls; i++) {
+                Request request = new Request.Builder().url(url).post(RequestBody.create(REQUEST_BODY, JSON)).build();
+                client.newCall(request).enqueue(new Callback() {
+                    @Override
+                    public void onFailure(Call call, IOException e) {
+                        failures.incrementAndGet();
+                        done.countDown();
+                    }
+
+                    @Override
+                    public void onResponse(Call call, Response response) {
+                        try (Response ignored = response) {
+                            response.body().bytes();
+                        } catch (IOException e) {
+                            failures.incrementAndGet();
+                        }
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+            long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+            if (report) {
+                System.out.printf("%-24s %6d calls %8.0f calls/s %5d sockets %4d failures%n", protocol, calls,
+                        calls * 1000.0 / elapsedMillis, socketCount.get(), failures.get());
+            }
+            client.dispatcher().executorService().shutdown();
+            client.connectionPool().evictAll();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.skyflow.utils;
+
+import com.google.gson.JsonObject;
+import com.skyflow.errors.SkyflowException;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class HttpUtilitySendTests {
+    private static final String EXCEPTION_NOT_THROWN = "Should have thrown an exception";
+    private static final String ECHO_ID_HEADER = "x-echo-id";
+    private static final int THREADS = 8;
+
+    private OkHttpClient client;
+    private URL url;
+
+    @Before
+    public void setup() throws Exception {
+        // Answers every call locally: echoes the request body and returns the caller's ID as the request ID.
+        client = new OkHttpClient.Builder().addInterceptor(chain -> {
+            Request request = chain.request();
+            Buffer body = new Buffer();
+            if (request.body() != null) {
+                request.body().writeTo(body);
+            }
+            int code = request.url().encodedPath().endsWith("/fail") ? 400 : 200;
+            String responseBody = code == 200
+                    ? body.readUtf8()
+                    : "{\"error\":{\"message\":\"bad\",\"http_code\":400}}";
+            Response.Builder response = new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(code)
+                    .message("")
+                    .body(ResponseBody.create(responseBody, MediaType.parse("application/json")));
+            String id = request.header(ECHO_ID_HEADER);
+            if (id != null) {
+                response.header(Constants.REQUEST_ID_HEADER_KEY, id + ",proxy");
+            }
+            return response.build();
+        }).build();
+        url = new URL("https://connection.example.com/echo");
+    }
+
+    @Test
+    public void testSendReturnsBodyAndRequestIdPerResponse() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<HttpResponse>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS * 4; i++) {
+                final String id = "req-" + i;
+                results.add(executor.submit(() -> {
+                    JsonObject params = new JsonObject();
+                    params.addProperty("id", id);
+                    Map<String, String> headers = new HashMap<>();
+                    headers.put(ECHO_ID_HEADER, id);
+                    return HttpUtility.send(client, "POST", url, params, headers, null);
+                }));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                HttpResponse response = results.get(i).get(10, TimeUnit.SECONDS);
+                Assert.assertEquals(200, response.getStatusCode());
+                Assert.assertEquals("req-" + i, response.getRequestId());
+                Assert.assertEquals("{\"id\":\"req-" + i + "\"}", response.getBody());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSendGeneratesRequestIdWhenHeaderIsMissing() throws Exception {
+        HttpResponse response = HttpUtility.send(client, "GET", url, null, null, null);
+        Assert.assertTrue(response.getRequestId().startsWith(Constants.HttpUtilityExtra.SDK_GENERATED_PREFIX));
+    }
+
+    @Test
+    public void testSendEncodesFormUrlEncodedBody() throws Exception {
+        JsonObject params = new JsonObject();
+        params.addProperty("card number", "4111 1111");
+        Map<String, String> headers = new HashMap<>();
+        headers.put("content-type", "application/x-www-form-urlencoded");
+        HttpResponse response = HttpUtility.send(client, "POST", url, params, headers, null);
+        Assert.assertEquals("card+number=4111+1111", response.getBody());
+    }
+
+    @Test
+    public void testSendThrowsSkyflowExceptionOnErrorStatus() throws Exception {
+        try {
+            HttpUtility.send(client, "GET", new URL("https://connection.example.com/fail"), null, null, null);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(400, e.getHttpCode());
+            Assert.assertEquals("bad", e.getMessage());
+        }
+    }
+}
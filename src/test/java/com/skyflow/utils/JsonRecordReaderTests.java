@@ -0,0 +1,66 @@
+package com.skyflow.utils;
+
+import com.skyflow.generated.rest.types.V1FieldRecords;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class JsonRecordReaderTests {
+
+    @Test
+    public void testReadsRecordsAndSkipsOtherFields() throws Exception {
+        String json = "{\"meta\":{\"records\":[{\"fields\":{\"ignored\":true}}]},"
+                + "\"records\":[{\"fields\":{\"name\":\"a\"}},{\"fields\":{\"name\":\"b\"},\"tokens\":{\"name\":\"t\"}}],"
+                + "\"next\":[1,2,3]}";
+        List<V1FieldRecords> records = new ArrayList<>();
+
+        long count = JsonRecordReader.readRecords(stream(json), "records", V1FieldRecords.class, records::add);
+
+        Assert.assertEquals(2, count);
+        Assert.assertEquals("a", records.get(0).getFields().get().get("name"));
+        Assert.assertFalse(records.get(0).getTokens().isPresent());
+        Assert.assertEquals("t", records.get(1).getTokens().get().get("name"));
+    }
+
+    @Test
+    public void testMissingOrNullFieldYieldsNoRecords() throws Exception {
+        List<V1FieldRecords> records = new ArrayList<>();
+        Assert.assertEquals(0, JsonRecordReader.readRecords(stream("{}"), "records", V1FieldRecords.class, records::add));
+        Assert.assertEquals(0, JsonRecordReader.readRecords(
+                stream("{\"records\":null}"), "records", V1FieldRecords.class, records::add));
+        Assert.assertTrue(records.isEmpty());
+    }
+
+    @Test
+    public void testPassesRecordsBeforeTruncatedInputFails() {
+        List<V1FieldRecords> records = new ArrayList<>();
+        try {
+            JsonRecordReader.readRecords(stream("{\"records\":[{\"fields\":{\"name\":\"a\"}},{\"fields\""),
+                    "records", V1FieldRecords.class, records::add);
+            Assert.fail("Should have thrown an exception");
+        } catch (IOException e) {
+            Assert.assertEquals(1, records.size());
+        }
+    }
+
+    @Test
+    public void testRejectsNonObjectDocuments() {
+        try {
+            JsonRecordReader.readRecords(stream("[]"), "records", V1FieldRecords.class, record -> {
+            });
+            Assert.fail("Should have thrown an exception");
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Expected a JSON object"));
+        }
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,185 @@
+package com.skyflow.utils;
+
+import com.skyflow.config.BatchConfig;
+import com.skyflow.errors.ErrorMessage;
+import com.skyflow.errors.SkyflowException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class MicroBatcherTests {
+    private ScheduledExecutorService scheduler;
+    private BatchConfig config;
+    private List<List<String>> sent;
+
+    @Before
+    public void setup() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        config = new BatchConfig();
+        config.setExecutor(Runnable::run);
+        sent = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testSendsFullBatchRightAwayAndRoutesResults() throws Exception {
+        config.setWindowMillis(60_000L);
+        config.setMaxBatchSize(3);
+        MicroBatcher<String, String> batcher = new MicroBatcher<>(config, this::echo, scheduler);
+
+        CompletableFuture<String> first = batcher.submit("a");
+        CompletableFuture<String> second = batcher.submit("b");
+        Assert.assertTrue(sent.isEmpty());
+        CompletableFuture<String> third = batcher.submit("c");
+
+        Assert.assertEquals(Collections.singletonList(Arrays.asList("a", "b", "c")), sent);
+        Assert.assertEquals("A", first.get());
+        Assert.assertEquals("B", second.get());
+        Assert.assertEquals("C", third.get());
+        BatchStats stats = batcher.getStats();
+        Assert.assertEquals(1, stats.getBatchCount());
+        Assert.assertEquals(3, stats.getRequestCount());
+        Assert.assertEquals(3, stats.getLargestBatchSize());
+        Assert.assertEquals(3.0, stats.getAverageBatchSize(), 0.0);
+    }
+
+    @Test
+    public void testSendsBatchOnceItsWeightIsReached() throws Exception {
+        MicroBatcher<String, String> batcher = new MicroBatcher<>(100, 10, 60_000L, Runnable::run, this::echo,
+                scheduler);
+
+        batcher.submit("a", 4);
+        batcher.submit("b", 4);
+        Assert.assertTrue(sent.isEmpty());
+        // Would take the batch to 12, so a and b go first and c starts the next batch.
+        batcher.submit("c", 4);
+        Assert.assertEquals(Collections.singletonList(Arrays.asList("a", "b")), sent);
+        Assert.assertEquals(1, batcher.getPendingCount());
+
+        CompletableFuture<String> heavy = batcher.submit("d", 25);
+        Assert.assertEquals(Arrays.asList(Arrays.asList("a", "b"), Collections.singletonList("c"),
+                Collections.singletonList("d")), sent);
+        Assert.assertEquals("D", heavy.get());
+        Assert.assertEquals(0, batcher.getPendingCount());
+    }
+
+    @Test
+    public void testSendsPartialBatchAfterWindow() throws Exception {
+        config.setWindowMillis(20L);
+        MicroBatcher<String, String> batcher = new MicroBatcher<>(config, this::echo, scheduler);
+
+        CompletableFuture<String> first = batcher.submit("a");
+        CompletableFuture<String> second = batcher.submit("b");
+
+        Assert.assertEquals("A", first.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals("B", second.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(Collections.singletonList(Arrays.asList("a", "b")), sent);
+        Assert.assertTrue(batcher.getStats().getMaxWaitMillis() >= 0);
+        Assert.assertTrue(batcher.getStats().getAverageWaitMillis() <= batcher.getStats().getMaxWaitMillis());
+    }
+
+    @Test
+    public void testFailsEveryRequestOfFailedBatch() throws Exception {
+        config.setWindowMillis(60_000L);
+        SkyflowException failure = new SkyflowException("boom");
+        MicroBatcher<String, String> batcher = new MicroBatcher<>(config, requests -> {
+            CompletableFuture<List<String>> result = new CompletableFuture<>();
+            result.completeExceptionally(failure);
+            return result;
+        }, scheduler);
+
+        CompletableFuture<String> first = batcher.submit("a");
+        CompletableFuture<String> second = batcher.submit("b");
+        batcher.flush();
+
+        for (CompletableFuture<String> future : Arrays.asList(first, second)) {
+            try {
+                future.get();
+                Assert.fail("Exception not thrown");
+            } catch (ExecutionException e) {
+                Assert.assertSame(failure, e.getCause());
+            }
+        }
+    }
+
+    @Test
+    public void testFailsRequestsWithoutResult() throws Exception {
+        config.setWindowMillis(60_000L);
+        MicroBatcher<String, String> batcher = new MicroBatcher<>(config,
+                requests -> CompletableFuture.completedFuture(Collections.singletonList("A")), scheduler);
+
+        CompletableFuture<String> first = batcher.submit("a");
+        CompletableFuture<String> second = batcher.submit("b");
+        batcher.flush();
+
+        Assert.assertEquals("A", first.get());
+        try {
+            second.get();
+            Assert.fail("Exception not thrown");
+        } catch (ExecutionException e) {
+            Assert.assertEquals(ErrorMessage.MissingBatchResult.getMessage(), e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testCloseSendsWaitingRequestsAndRejectsNewOnes() throws Exception {
+        config.setWindowMillis(60_000L);
+        MicroBatcher<String, String> batcher = new MicroBatcher<>(config, this::echo, scheduler);
+
+        CompletableFuture<String> waiting = batcher.submit("a");
+        batcher.close();
+        Assert.assertEquals("A", waiting.get());
+
+        try {
+            batcher.submit("b").get();
+            Assert.fail("Exception not thrown");
+        } catch (ExecutionException e) {
+            Assert.assertEquals(ErrorMessage.BatcherClosed.getMessage(), e.getCause().getMessage());
+        }
+        Assert.assertEquals(1, sent.size());
+    }
+
+    @Test
+    public void testSendsBatchesOnTheConfiguredExecutor() throws Exception {
+        config.setWindowMillis(5L);
+        List<Runnable> handedOff = Collections.synchronizedList(new ArrayList<>());
+        config.setExecutor(handedOff::add);
+        MicroBatcher<String, String> batcher = new MicroBatcher<>(config, this::echo, scheduler);
+
+        CompletableFuture<String> future = batcher.submit("a");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (handedOff.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        // The window expired on the scheduler, which only handed the batch over.
+        Assert.assertEquals(1, handedOff.size());
+        Assert.assertTrue(sent.isEmpty());
+
+        handedOff.get(0).run();
+        Assert.assertEquals("A", future.get());
+    }
+
+    private CompletableFuture<List<String>> echo(List<String> requests) {
+        sent.add(requests);
+        List<String> results = new ArrayList<>();
+        for (String request : requests) {
+            results.add(request.toUpperCase());
+        }
+        return CompletableFuture.completedFuture(results);
+    }
+}
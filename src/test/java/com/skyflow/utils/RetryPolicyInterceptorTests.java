@@ -0,0 +1,194 @@
+package com.skyflow.utils;
+
+import com.skyflow.config.RetryPolicy;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class RetryPolicyInterceptorTests {
+    private static final String EXCEPTION_NOT_THROWN = "Should have thrown an exception";
+    private static final String URL = "https://vault.example.com/v1/vaults";
+
+    private RetryPolicy policy;
+    private AtomicLong clock;
+    private List<Long> sleeps;
+    private AtomicInteger calls;
+    private LinkedList<Object> outcomes;
+
+    @Before
+    public void setup() {
+        policy = new RetryPolicy();
+        clock = new AtomicLong(1_000_000L);
+        sleeps = new ArrayList<>();
+        calls = new AtomicInteger();
+        outcomes = new LinkedList<>();
+    }
+
+    @Test
+    public void testRetriesThrottledRequestAndHonorsRetryAfter() throws Exception {
+        outcomes.add(status(429, "2"));
+        outcomes.add(status(200, null));
+
+        try (Response response = client().newCall(post()).execute()) {
+            Assert.assertEquals(200, response.code());
+        }
+        Assert.assertEquals(2, calls.get());
+        Assert.assertEquals(2000L, (long) sleeps.get(0));
+    }
+
+    @Test
+    public void testStopsAfterMaxAttempts() throws Exception {
+        policy.setMaxAttempts(3);
+        for (int i = 0; i < 5; i++) {
+            outcomes.add(status(503, null));
+        }
+
+        try (Response response = client().newCall(get()).execute()) {
+            Assert.assertEquals(503, response.code());
+        }
+        Assert.assertEquals(3, calls.get());
+        Assert.assertEquals(2, sleeps.size());
+    }
+
+    @Test
+    public void testBackoffUsesFullJitterWithinCap() throws Exception {
+        policy.setMaxAttempts(6);
+        policy.setBaseBackoffMillis(100L);
+        policy.setMaxBackoffMillis(300L);
+        for (int i = 0; i < 6; i++) {
+            outcomes.add(status(502, null));
+        }
+
+        client().newCall(get()).execute().close();
+        long[] caps = {100, 200, 300, 300, 300};
+        Assert.assertEquals(caps.length, sleeps.size());
+        for (int i = 0; i < caps.length; i++) {
+            Assert.assertTrue(sleeps.get(i) >= 0 && sleeps.get(i) <= caps[i]);
+        }
+    }
+
+    @Test
+    public void testDoesNotRetryServerErrorForNonIdempotentRequest() throws Exception {
+        outcomes.add(status(500, null));
+        outcomes.add(status(200, null));
+
+        try (Response response = client().newCall(post()).execute()) {
+            Assert.assertEquals(500, response.code());
+        }
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testRetriesIOExceptionOnlyWhenSafe() throws Exception {
+        outcomes.add(new SocketException("Connection reset"));
+        outcomes.add(status(200, null));
+        try (Response response = client().newCall(get()).execute()) {
+            Assert.assertEquals(200, response.code());
+        }
+
+        outcomes.add(new ConnectException("Connection refused"));
+        outcomes.add(status(200, null));
+        try (Response response = client().newCall(post()).execute()) {
+            Assert.assertEquals(200, response.code());
+        }
+
+        outcomes.add(new SocketException("Connection reset"));
+        try {
+            client().newCall(post()).execute();
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SocketException e) {
+            Assert.assertEquals(5, calls.get());
+        }
+    }
+
+    @Test
+    public void testDoesNotRetryBeyondBudget() throws Exception {
+        policy.setRetryBudgetMillis(30000L);
+        outcomes.add(status(429, "60"));
+
+        try (Response response = client().newCall(post()).execute()) {
+            Assert.assertEquals(429, response.code());
+        }
+        Assert.assertEquals(1, calls.get());
+        Assert.assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    public void testRequestTagOverridesSupplier() throws Exception {
+        RetryPolicy noRetries = new RetryPolicy();
+        noRetries.setMaxAttempts(1);
+        outcomes.add(status(503, null));
+
+        Request request = get().newBuilder().tag(RetryPolicy.class, noRetries).build();
+        try (Response response = client().newCall(request).execute()) {
+            Assert.assertEquals(503, response.code());
+        }
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testSendsOnceWithoutPolicy() throws Exception {
+        policy = null;
+        outcomes.add(status(503, null));
+
+        try (Response response = client().newCall(get()).execute()) {
+            Assert.assertEquals(503, response.code());
+        }
+        Assert.assertEquals(1, calls.get());
+        Assert.assertTrue(sleeps.isEmpty());
+    }
+
+    private OkHttpClient client() {
+        RetryPolicyInterceptor retries = new RetryPolicyInterceptor(() -> policy, clock::get, millis -> {
+            sleeps.add(millis);
+            clock.addAndGet(millis);
+        });
+        return new OkHttpClient.Builder().addInterceptor(retries).addInterceptor(chain -> {
+            calls.incrementAndGet();
+            Object outcome = outcomes.removeFirst();
+            if (outcome instanceof IOException) {
+                throw (IOException) outcome;
+            }
+            int[] codeAndRetryAfter = (int[]) outcome;
+            Response.Builder response = new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(codeAndRetryAfter[0])
+                    .message("")
+                    .body(ResponseBody.create("{}", MediaType.parse("application/json")));
+            if (codeAndRetryAfter[1] >= 0) {
+                response.header("Retry-After", String.valueOf(codeAndRetryAfter[1]));
+            }
+            return response.build();
+        }).build();
+    }
+
+    private static int[] status(int code, String retryAfter) {
+        return new int[]{code, retryAfter == null ? -1 : Integer.parseInt(retryAfter)};
+    }
+
+    private static Request get() {
+        return new Request.Builder().url(URL).get().build();
+    }
+
+    private static Request post() {
+        return new Request.Builder().url(URL)
+                .post(RequestBody.create("{}", MediaType.parse("application/json"))).build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.skyflow.utils;
+
+import com.skyflow.config.Credentials;
+import com.skyflow.serviceaccount.util.FileTokenStore;
+import com.skyflow.serviceaccount.util.TokenManager;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class TokenManagerPoolTests {
+    private static final String CREDENTIALS_STRING = "{\"clientId\":\"pool-client\"}";
+
+    @Test
+    public void testSameIdentitySharesTokenManager() {
+        Credentials first = getCredentials("role_a", "role_b");
+        Credentials second = getCredentials("role_b", "role_a");
+        Assert.assertNotSame(first, second);
+        Assert.assertSame(TokenManagerPool.get(first), TokenManagerPool.get(second));
+    }
+
+    @Test
+    public void testDifferentRolesUseSeparateTokenManagers() {
+        TokenManager manager = TokenManagerPool.get(getCredentials("role_a"));
+        Assert.assertNotSame(manager, TokenManagerPool.get(getCredentials("role_b")));
+    }
+
+    @Test
+    public void testDifferentContextUsesSeparateTokenManagers() {
+        Credentials first = getCredentials("role_a");
+        Map<String, Object> context = new HashMap<>();
+        context.put("user_id", "1");
+        first.setContext(context);
+        Credentials second = getCredentials("role_a");
+        Map<String, Object> otherContext = new HashMap<>();
+        otherContext.put("user_id", "2");
+        second.setContext(otherContext);
+        Assert.assertNotSame(TokenManagerPool.get(first), TokenManagerPool.get(second));
+    }
+
+    @Test
+    public void testDifferentTokenStoreUsesSeparateTokenManagers() {
+        Credentials first = getCredentials("role_a");
+        first.setTokenStore(new FileTokenStore());
+        Credentials second = getCredentials("role_a");
+        second.setTokenStore(new FileTokenStore());
+        Assert.assertNotSame(TokenManagerPool.get(first), TokenManagerPool.get(second));
+    }
+
+    private static Credentials getCredentials(String... roles) {
+        Credentials credentials = new Credentials();
+        credentials.setCredentialsString(CREDENTIALS_STRING);
+        credentials.setRoles(new ArrayList<>(Arrays.asList(roles)));
+        return credentials;
+    }
+}
@@ -0,0 +1,75 @@
+package com.skyflow.utils.cache;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LruCacheTests {
+    private AtomicLong now;
+    private LruCache<String, String> cache;
+
+    @Before
+    public void setup() {
+        now = new AtomicLong();
+        cache = new LruCache<>(2, TimeUnit.SECONDS.toNanos(10), now::get);
+    }
+
+    @Test
+    public void testGetReturnsStoredValueAndCountsHitsAndMisses() {
+        cache.put("a", "1");
+        Assert.assertEquals("1", cache.get("a"));
+        Assert.assertNull(cache.get("b"));
+
+        CacheStats stats = cache.getStats();
+        Assert.assertEquals(1, stats.getHitCount());
+        Assert.assertEquals(1, stats.getMissCount());
+        Assert.assertEquals(0.5, stats.getHitRate(), 0.0);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+
+        Assert.assertEquals("1", cache.get("a"));
+        Assert.assertNull(cache.get("b"));
+        Assert.assertEquals("3", cache.get("c"));
+        Assert.assertEquals(1, cache.getStats().getEvictionCount());
+        Assert.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testEntryExpiresAfterTtl() {
+        cache.put("a", "1");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        Assert.assertEquals("1", cache.get("a"));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        Assert.assertNull(cache.get("a"));
+        Assert.assertEquals(1, cache.getStats().getExpiredCount());
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testPutIfGenerationRejectsValuesReadBeforeInvalidation() {
+        long generation = cache.generation();
+        cache.invalidateAll();
+        Assert.assertFalse(cache.putIfGeneration("a", "stale", generation));
+        Assert.assertNull(cache.get("a"));
+        Assert.assertTrue(cache.putIfGeneration("a", "fresh", cache.generation()));
+        Assert.assertEquals("fresh", cache.get("a"));
+    }
+
+    @Test
+    public void testInvalidateIfRemovesMatchingKeysOnly() {
+        cache.put("vault1:a", "1");
+        cache.put("vault2:a", "2");
+        cache.invalidateIf(key -> key.startsWith("vault1:"));
+        Assert.assertNull(cache.get("vault1:a"));
+        Assert.assertEquals("2", cache.get("vault2:a"));
+    }
+}
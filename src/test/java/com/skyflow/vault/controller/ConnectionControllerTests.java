@@ -8,6 +8,7 @@ import com.skyflow.enums.RequestMethod;
 import com.skyflow.errors.ErrorCode;
 import com.skyflow.errors.ErrorMessage;
 import com.skyflow.errors.SkyflowException;
+import com.skyflow.utils.HttpResponse;
 import com.skyflow.utils.HttpUtility;
 import com.skyflow.vault.connection.InvokeConnectionRequest;
 import com.skyflow.vault.connection.InvokeConnectionResponse;
@@ -80,9 +81,8 @@ public class ConnectionControllerTests {
 
     @Test
     public void testInvoke_successWithDefaultRequest() throws Exception {
-        when(HttpUtility.sendRequest(anyString(), any(URL.class), any(), any()))
-                .thenReturn("{\"data\":\"test-value\"}");
-        when(HttpUtility.getRequestID()).thenReturn(REQUEST_ID);
+        when(HttpUtility.send(anyString(), any(URL.class), any(), any(), any()))
+                .thenReturn(new HttpResponse(200, "{\"data\":\"test-value\"}", REQUEST_ID, null));
 
         InvokeConnectionRequest request = InvokeConnectionRequest.builder().build();
         InvokeConnectionResponse response = controller.invoke(request);
@@ -93,9 +93,8 @@ public class ConnectionControllerTests {
 
     @Test
     public void testInvoke_successWithGetMethod() throws Exception {
-        when(HttpUtility.sendRequest(anyString(), any(URL.class), any(), any()))
-                .thenReturn("{\"result\":\"ok\"}");
-        when(HttpUtility.getRequestID()).thenReturn(REQUEST_ID);
+        when(HttpUtility.send(anyString(), any(URL.class), any(), any(), any()))
+                .thenReturn(new HttpResponse(200, "{\"result\":\"ok\"}", REQUEST_ID, null));
 
         InvokeConnectionRequest request = InvokeConnectionRequest.builder()
                 .method(RequestMethod.GET)
@@ -107,9 +106,8 @@ public class ConnectionControllerTests {
 
     @Test
     public void testInvoke_successWithDeleteMethod() throws Exception {
-        when(HttpUtility.sendRequest(anyString(), any(URL.class), any(), any()))
-                .thenReturn("{\"deleted\":true}");
-        when(HttpUtility.getRequestID()).thenReturn(REQUEST_ID);
+        when(HttpUtility.send(anyString(), any(URL.class), any(), any(), any()))
+                .thenReturn(new HttpResponse(200, "{\"deleted\":true}", REQUEST_ID, null));
 
         InvokeConnectionRequest request = InvokeConnectionRequest.builder()
                 .method(RequestMethod.DELETE)
@@ -121,9 +119,8 @@ public class ConnectionControllerTests {
 
     @Test
     public void testInvoke_successWithPutMethod() throws Exception {
-        when(HttpUtility.sendRequest(anyString(), any(URL.class), any(), any()))
-                .thenReturn("{\"updated\":true}");
-        when(HttpUtility.getRequestID()).thenReturn(REQUEST_ID);
+        when(HttpUtility.send(anyString(), any(URL.class), any(), any(), any()))
+                .thenReturn(new HttpResponse(200, "{\"updated\":true}", REQUEST_ID, null));
 
         Map<String, Object> body = new HashMap<>();
         body.put("field", "value");
@@ -139,9 +136,8 @@ public class ConnectionControllerTests {
 
     @Test
     public void testInvoke_successWithObjectBody() throws Exception {
-        when(HttpUtility.sendRequest(anyString(), any(URL.class), any(), any()))
-                .thenReturn("{\"result\":\"ok\"}");
-        when(HttpUtility.getRequestID()).thenReturn(REQUEST_ID);
+        when(HttpUtility.send(anyString(), any(URL.class), any(), any(), any()))
+                .thenReturn(new HttpResponse(200, "{\"result\":\"ok\"}", REQUEST_ID, null));
 
         Map<String, Object> body = new HashMap<>();
         body.put("card_number", "4111111111111111");
@@ -157,9 +153,8 @@ public class ConnectionControllerTests {
 
     @Test
     public void testInvoke_withPathParams() throws Exception {
-        when(HttpUtility.sendRequest(anyString(), any(URL.class), any(), any()))
-                .thenReturn("{\"data\":\"ok\"}");
-        when(HttpUtility.getRequestID()).thenReturn(REQUEST_ID);
+        when(HttpUtility.send(anyString(), any(URL.class), any(), any(), any()))
+                .thenReturn(new HttpResponse(200, "{\"data\":\"ok\"}", REQUEST_ID, null));
 
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("id", "record-123");
@@ -175,9 +170,8 @@ public class ConnectionControllerTests {
 
     @Test
     public void testInvoke_withQueryParams() throws Exception {
-        when(HttpUtility.sendRequest(anyString(), any(URL.class), any(), any()))
-                .thenReturn("{\"data\":\"ok\"}");
-        when(HttpUtility.getRequestID()).thenReturn(REQUEST_ID);
+        when(HttpUtility.send(anyString(), any(URL.class), any(), any(), any()))
+                .thenReturn(new HttpResponse(200, "{\"data\":\"ok\"}", REQUEST_ID, null));
 
         Map<String, String> queryParams = new HashMap<>();
         queryParams.put("limit", "10");
@@ -193,9 +187,8 @@ public class ConnectionControllerTests {
 
     @Test
     public void testInvoke_withRequestHeaders() throws Exception {
-        when(HttpUtility.sendRequest(anyString(), any(URL.class), any(), any()))
-                .thenReturn("{\"ok\":true}");
-        when(HttpUtility.getRequestID()).thenReturn(REQUEST_ID);
+        when(HttpUtility.send(anyString(), any(URL.class), any(), any(), any()))
+                .thenReturn(new HttpResponse(200, "{\"ok\":true}", REQUEST_ID, null));
 
         Map<String, String> headers = new HashMap<>();
         headers.put("x-custom-header", "custom-value");
@@ -211,9 +204,8 @@ public class ConnectionControllerTests {
 
     @Test
     public void testInvoke_nonJsonResponseWrappedUnderResponseKey() throws Exception {
-        when(HttpUtility.sendRequest(anyString(), any(URL.class), any(), any()))
-                .thenReturn("plain-text-response");
-        when(HttpUtility.getRequestID()).thenReturn(REQUEST_ID);
+        when(HttpUtility.send(anyString(), any(URL.class), any(), any(), any()))
+                .thenReturn(new HttpResponse(200, "plain-text-response", REQUEST_ID, null));
 
         InvokeConnectionRequest request = InvokeConnectionRequest.builder().build();
         InvokeConnectionResponse response = controller.invoke(request);
@@ -227,9 +219,8 @@ public class ConnectionControllerTests {
 
     @Test
     public void testInvoke_responseContainsRequestId() throws Exception {
-        when(HttpUtility.sendRequest(anyString(), any(URL.class), any(), any()))
-                .thenReturn("{\"data\":\"ok\"}");
-        when(HttpUtility.getRequestID()).thenReturn(REQUEST_ID);
+        when(HttpUtility.send(anyString(), any(URL.class), any(), any(), any()))
+                .thenReturn(new HttpResponse(200, "{\"data\":\"ok\"}", REQUEST_ID, null));
 
         InvokeConnectionRequest request = InvokeConnectionRequest.builder().build();
         InvokeConnectionResponse response = controller.invoke(request);
@@ -241,9 +232,8 @@ public class ConnectionControllerTests {
 
     @Test
     public void testInvoke_errorsNullOnSuccess() throws Exception {
-        when(HttpUtility.sendRequest(anyString(), any(URL.class), any(), any()))
-                .thenReturn("{\"data\":\"ok\"}");
-        when(HttpUtility.getRequestID()).thenReturn(REQUEST_ID);
+        when(HttpUtility.send(anyString(), any(URL.class), any(), any(), any()))
+                .thenReturn(new HttpResponse(200, "{\"data\":\"ok\"}", REQUEST_ID, null));
 
         InvokeConnectionRequest request = InvokeConnectionRequest.builder().build();
         InvokeConnectionResponse response = controller.invoke(request);
@@ -256,9 +246,8 @@ public class ConnectionControllerTests {
 
     @Test
     public void testInvoke_ioExceptionThrowsSkyflowException() throws Exception {
-        when(HttpUtility.sendRequest(anyString(), any(URL.class), any(), any()))
+        when(HttpUtility.send(anyString(), any(URL.class), any(), any(), any()))
                 .thenThrow(new IOException("connection refused"));
-        when(HttpUtility.getRequestID()).thenReturn(REQUEST_ID);
 
         try {
             InvokeConnectionRequest request = InvokeConnectionRequest.builder().build();
@@ -271,9 +260,8 @@ public class ConnectionControllerTests {
 
     @Test
     public void testInvoke_skyflowExceptionFromSendRequestPropagates() throws Exception {
-        when(HttpUtility.sendRequest(anyString(), any(URL.class), any(), any()))
+        when(HttpUtility.send(anyString(), any(URL.class), any(), any(), any()))
                 .thenThrow(new SkyflowException("upstream error", new RuntimeException()));
-        when(HttpUtility.getRequestID()).thenReturn(REQUEST_ID);
 
         try {
             InvokeConnectionRequest request = InvokeConnectionRequest.builder().build();
@@ -791,8 +791,17 @@ public class DetectControllerTests {
                 .file(FileInput.builder().file(tmpFile).build())
                 .build();
 
-        DeidentifyFileResponse response = controller.deidentifyFile(request);
-        Assert.assertNotNull(response);
+        String baseName = tmpFile.getName().substring(0, tmpFile.getName().lastIndexOf('.'));
+        File processedFile = new File("processed-" + baseName + ".txt");
+        File entityFile = new File("processed-" + baseName + ".json");
+        try {
+            DeidentifyFileResponse response = controller.deidentifyFile(request);
+            Assert.assertNotNull(response);
+        } finally {
+            // The processed files are written to the working directory.
+            Files.deleteIfExists(processedFile.toPath());
+            Files.deleteIfExists(entityFile.toPath());
+        }
     }
 
     // ─── pollForResults — IN_PROGRESS retry then SUCCESS (lines 218-229) ─────────
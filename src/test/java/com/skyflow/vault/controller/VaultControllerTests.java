@@ -2,7 +2,12 @@ package com.skyflow.vault.controller;
 
 import com.skyflow.Skyflow;
 import com.skyflow.VaultClient;
+import com.skyflow.config.BatchConfig;
+import com.skyflow.config.CacheConfig;
 import com.skyflow.config.Credentials;
+import com.skyflow.config.InsertBufferConfig;
+import com.skyflow.config.RateLimitConfig;
+import com.skyflow.config.TransportConfig;
 import com.skyflow.config.VaultConfig;
 import com.skyflow.enums.Env;
 import com.skyflow.enums.LogLevel;
@@ -12,26 +17,41 @@ import com.skyflow.errors.ErrorMessage;
 import com.skyflow.errors.HttpStatus;
 import com.skyflow.errors.SkyflowException;
 import com.skyflow.generated.rest.ApiClient;
+import com.skyflow.generated.rest.AsyncApiClient;
 import com.skyflow.generated.rest.core.ApiClientApiException;
 import com.skyflow.generated.rest.core.ApiClientHttpResponse;
+import com.skyflow.generated.rest.core.ObjectMappers;
 import com.skyflow.generated.rest.resources.query.QueryClient;
+import com.skyflow.generated.rest.resources.records.AsyncRawRecordsClient;
+import com.skyflow.generated.rest.resources.records.AsyncRecordsClient;
 import com.skyflow.generated.rest.resources.records.RawRecordsClient;
 import com.skyflow.generated.rest.resources.records.RecordsClient;
+import com.skyflow.generated.rest.resources.records.requests.RecordServiceBatchOperationBody;
+import com.skyflow.generated.rest.resources.records.requests.RecordServiceInsertRecordBody;
+import com.skyflow.generated.rest.resources.tokens.AsyncRawTokensClient;
+import com.skyflow.generated.rest.resources.tokens.AsyncTokensClient;
 import com.skyflow.generated.rest.resources.tokens.RawTokensClient;
 import com.skyflow.generated.rest.resources.tokens.TokensClient;
+import com.skyflow.generated.rest.resources.tokens.requests.V1DetokenizePayload;
+import com.skyflow.generated.rest.resources.tokens.requests.V1TokenizePayload;
 import com.skyflow.generated.rest.types.UploadFileV2Response;
 import com.skyflow.generated.rest.types.V1BatchOperationResponse;
+import com.skyflow.generated.rest.types.V1BatchRecord;
 import com.skyflow.generated.rest.types.V1BulkDeleteRecordResponse;
 import com.skyflow.generated.rest.types.V1BulkGetRecordResponse;
+import com.skyflow.generated.rest.types.V1DetokenizeRecordRequest;
 import com.skyflow.generated.rest.types.V1DetokenizeRecordResponse;
 import com.skyflow.generated.rest.types.V1DetokenizeResponse;
 import com.skyflow.generated.rest.types.V1FieldRecords;
 import com.skyflow.generated.rest.types.V1GetQueryResponse;
 import com.skyflow.generated.rest.types.V1InsertRecordResponse;
 import com.skyflow.generated.rest.types.V1RecordMetaProperties;
+import com.skyflow.generated.rest.types.V1TokenizeRecordRequest;
 import com.skyflow.generated.rest.types.V1TokenizeRecordResponse;
 import com.skyflow.generated.rest.types.V1TokenizeResponse;
 import com.skyflow.generated.rest.types.V1UpdateRecordResponse;
+import com.skyflow.utils.BatchStats;
+import com.skyflow.utils.CoalescingStats;
 import com.skyflow.utils.Constants;
 import com.skyflow.utils.Utils;
 import com.skyflow.vault.data.DeleteRequest;
@@ -46,15 +66,21 @@ import com.skyflow.vault.data.QueryRequest;
 import com.skyflow.vault.data.QueryResponse;
 import com.skyflow.vault.data.UpdateRequest;
 import com.skyflow.vault.data.UpdateResponse;
+import com.skyflow.vault.data.WarmUpResponse;
 import com.skyflow.vault.tokens.ColumnValue;
 import com.skyflow.vault.tokens.DetokenizeData;
+import com.skyflow.vault.tokens.DetokenizeRecordResponse;
 import com.skyflow.vault.tokens.DetokenizeRequest;
 import com.skyflow.vault.tokens.DetokenizeResponse;
 import com.skyflow.vault.tokens.TokenizeRequest;
 import com.skyflow.vault.tokens.TokenizeResponse;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -69,6 +95,16 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -105,6 +141,12 @@ public class VaultControllerTests {
     // --- helpers ---
 
     private static VaultController createControllerWithMock(ApiClient mockApiClient) throws Exception {
+        return createControllerWithMock(mockApiClient, config -> {
+        });
+    }
+
+    private static VaultController createControllerWithMock(ApiClient mockApiClient, Consumer<VaultConfig> configurer)
+            throws Exception {
         Credentials creds = new Credentials();
         creds.setApiKey("sky-ab123-abcd1234cdef1234abcd4321cdef4321");
 
@@ -112,6 +154,7 @@ public class VaultControllerTests {
         config.setVaultId(vaultID);
         config.setClusterId(clusterID);
         config.setEnv(Env.DEV);
+        configurer.accept(config);
 
         VaultController controller = new VaultController(config, creds);
         Field f = VaultClient.class.getDeclaredField("apiClient");
@@ -120,6 +163,20 @@ public class VaultControllerTests {
         return controller;
     }
 
+    private static VaultController createControllerWithAsyncMock(AsyncApiClient mockAsyncApiClient) throws Exception {
+        return createControllerWithAsyncMock(mockAsyncApiClient, config -> {
+        });
+    }
+
+    private static VaultController createControllerWithAsyncMock(AsyncApiClient mockAsyncApiClient,
+                                                                 Consumer<VaultConfig> configurer) throws Exception {
+        VaultController controller = createControllerWithMock(Mockito.mock(ApiClient.class), configurer);
+        Field f = VaultClient.class.getDeclaredField("asyncApiClient");
+        f.setAccessible(true);
+        f.set(controller, mockAsyncApiClient);
+        return controller;
+    }
+
     private static Response buildOkHttpResponse() {
         return new Response.Builder()
                 .request(new Request.Builder().url("https://dummy.example.com").build())
@@ -1292,9 +1349,14 @@ public class VaultControllerTests {
                 .fileName("test.txt")
                 .build();
 
-        FileUploadResponse response = controller.uploadFile(request);
-        Assert.assertNotNull(INVALID_EXCEPTION_THROWN, response);
-        Assert.assertEquals("sky-id-b64", response.getSkyflowId());
+        try {
+            FileUploadResponse response = controller.uploadFile(request);
+            Assert.assertNotNull(INVALID_EXCEPTION_THROWN, response);
+            Assert.assertEquals("sky-id-b64", response.getSkyflowId());
+        } finally {
+            // The decoded file is written to the working directory under its file name.
+            java.nio.file.Files.deleteIfExists(new File("test.txt").toPath());
+        }
     }
 
     @Test
@@ -1348,4 +1410,1101 @@ public class VaultControllerTests {
             Assert.assertEquals(403, e.getHttpCode());
         }
     }
+
+    // --- async variants ---
+
+    @Test
+    public void testInsertAsync_bulkSuccess() throws Exception {
+        AsyncApiClient mockAsyncApi = Mockito.mock(AsyncApiClient.class);
+        AsyncRecordsClient mockRecords = Mockito.mock(AsyncRecordsClient.class);
+        when(mockAsyncApi.records()).thenReturn(mockRecords);
+
+        V1RecordMetaProperties meta = V1RecordMetaProperties.builder().skyflowId("id-async").build();
+        V1InsertRecordResponse insertResp = V1InsertRecordResponse.builder()
+                .records(Collections.singletonList(meta))
+                .build();
+        when(mockRecords.recordServiceInsertRecord(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(insertResp));
+
+        VaultController controller = createControllerWithAsyncMock(mockAsyncApi);
+
+        ArrayList<HashMap<String, Object>> values = new ArrayList<>();
+        HashMap<String, Object> row = new HashMap<>();
+        row.put("card_number", "4111111111111111");
+        values.add(row);
+        InsertRequest request = InsertRequest.builder().table("test_table").values(values).build();
+
+        InsertResponse response = controller.insertAsync(request).get();
+        Assert.assertEquals(1, response.getInsertedFields().size());
+        Assert.assertEquals("id-async", response.getInsertedFields().get(0).get("skyflowId"));
+    }
+
+    @Test
+    public void testDetokenizeAsync_withExecutor() throws Exception {
+        AsyncApiClient mockAsyncApi = Mockito.mock(AsyncApiClient.class);
+        AsyncTokensClient mockTokens = Mockito.mock(AsyncTokensClient.class);
+        AsyncRawTokensClient mockRawTokens = Mockito.mock(AsyncRawTokensClient.class);
+        when(mockAsyncApi.tokens()).thenReturn(mockTokens);
+        when(mockTokens.withRawResponse()).thenReturn(mockRawTokens);
+
+        V1DetokenizeRecordResponse detokRecord = V1DetokenizeRecordResponse.builder()
+                .token("tok-async")
+                .value("4111")
+                .build();
+        V1DetokenizeResponse detokBody = V1DetokenizeResponse.builder()
+                .records(Collections.singletonList(detokRecord))
+                .build();
+        ApiClientHttpResponse<V1DetokenizeResponse> httpResp = new ApiClientHttpResponse<>(detokBody, buildOkHttpResponse());
+        when(mockRawTokens.recordServiceDetokenize(anyString(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(httpResp));
+
+        VaultController controller = createControllerWithAsyncMock(mockAsyncApi);
+
+        ArrayList<DetokenizeData> detokenizeDataList = new ArrayList<>();
+        detokenizeDataList.add(new DetokenizeData("tok-async"));
+        DetokenizeRequest request = DetokenizeRequest.builder().detokenizeData(detokenizeDataList).build();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            DetokenizeResponse response = controller.detokenizeAsync(request, executor).get();
+            Assert.assertEquals(1, response.getDetokenizedFields().size());
+            Assert.assertEquals("4111", response.getDetokenizedFields().get(0).getValue());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testTokenizeAsync_apiErrorCompletesExceptionally() throws Exception {
+        AsyncApiClient mockAsyncApi = Mockito.mock(AsyncApiClient.class);
+        AsyncTokensClient mockTokens = Mockito.mock(AsyncTokensClient.class);
+        when(mockAsyncApi.tokens()).thenReturn(mockTokens);
+        CompletableFuture<V1TokenizeResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new ApiClientApiException("tokenize failed", 429, "too many requests"));
+        when(mockTokens.recordServiceTokenize(anyString(), any(), any())).thenReturn(failed);
+
+        VaultController controller = createControllerWithAsyncMock(mockAsyncApi);
+        List<ColumnValue> columnValues = new ArrayList<>();
+        columnValues.add(ColumnValue.builder().value("4111").columnGroup("card").build());
+        TokenizeRequest request = TokenizeRequest.builder().values(columnValues).build();
+
+        try {
+            controller.tokenizeAsync(request).get();
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof SkyflowException);
+            Assert.assertEquals(429, ((SkyflowException) e.getCause()).getHttpCode());
+        }
+    }
+
+    @Test
+    public void testGetAsync_validationErrorCompletesExceptionally() throws Exception {
+        VaultController controller = createControllerWithAsyncMock(Mockito.mock(AsyncApiClient.class));
+        CompletableFuture<GetResponse> future = controller.getAsync(GetRequest.builder().build());
+        Assert.assertTrue(future.isCompletedExceptionally());
+        try {
+            future.get();
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (ExecutionException e) {
+            SkyflowException cause = (SkyflowException) e.getCause();
+            Assert.assertEquals(ErrorCode.INVALID_INPUT.getCode(), cause.getHttpCode());
+            Assert.assertEquals(
+                    Utils.parameterizedString(ErrorMessage.TableKeyError.getMessage(), Constants.SDK_PREFIX),
+                    cause.getMessage()
+            );
+        }
+    }
+
+    // --- chunked insert ---
+
+    private static ArrayList<HashMap<String, Object>> buildInsertValues(int count) {
+        ArrayList<HashMap<String, Object>> values = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            HashMap<String, Object> row = new HashMap<>();
+            row.put("name", "row-" + i);
+            values.add(row);
+        }
+        return values;
+    }
+
+    @Test
+    public void testInsert_chunkedMergesChunksInOrder() throws Exception {
+        AsyncApiClient mockAsyncApi = Mockito.mock(AsyncApiClient.class);
+        AsyncRecordsClient mockRecords = Mockito.mock(AsyncRecordsClient.class);
+        AsyncRawRecordsClient mockRawRecords = Mockito.mock(AsyncRawRecordsClient.class);
+        when(mockAsyncApi.records()).thenReturn(mockRecords);
+        when(mockRecords.withRawResponse()).thenReturn(mockRawRecords);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ExecutorService responder = Executors.newFixedThreadPool(4);
+        when(mockRawRecords.recordServiceBatchOperation(anyString(), any(), any())).thenAnswer(invocation -> {
+            RecordServiceBatchOperationBody body = invocation.getArgument(1);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                List<Map<String, Object>> responses = new ArrayList<>();
+                for (V1BatchRecord record : body.getRecords().get()) {
+                    responses.add(buildBatchInsertResult(record));
+                }
+                inFlight.decrementAndGet();
+                V1BatchOperationResponse batchBody = V1BatchOperationResponse.builder().responses(responses).build();
+                return new ApiClientHttpResponse<>(batchBody, buildOkHttpResponse());
+            }, responder);
+        });
+
+        VaultController controller = createControllerWithAsyncMock(mockAsyncApi);
+        InsertRequest request = InsertRequest.builder()
+                .table("test_table")
+                .values(buildInsertValues(7))
+                .continueOnError(true)
+                .chunkSize(2)
+                .maxConcurrency(2)
+                .build();
+
+        try {
+            InsertResponse response = controller.insert(request);
+            Assert.assertEquals(7, response.getInsertedFields().size());
+            for (int i = 0; i < 7; i++) {
+                Assert.assertEquals("id-row-" + i, response.getInsertedFields().get(i).get("skyflowId"));
+                Assert.assertEquals(i, response.getInsertedFields().get(i).get("requestIndex"));
+            }
+            Assert.assertTrue(maxInFlight.get() <= 2);
+            Mockito.verify(mockRawRecords, Mockito.times(4)).recordServiceBatchOperation(anyString(), any(), any());
+        } finally {
+            responder.shutdown();
+        }
+    }
+
+    @Test
+    public void testInsertAsync_chunkedBatchOffsetsRequestIndexAndReportsFailedChunk() throws Exception {
+        AsyncApiClient mockAsyncApi = Mockito.mock(AsyncApiClient.class);
+        AsyncRecordsClient mockRecords = Mockito.mock(AsyncRecordsClient.class);
+        AsyncRawRecordsClient mockRawRecords = Mockito.mock(AsyncRawRecordsClient.class);
+        when(mockAsyncApi.records()).thenReturn(mockRecords);
+        when(mockRecords.withRawResponse()).thenReturn(mockRawRecords);
+        when(mockRawRecords.recordServiceBatchOperation(anyString(), any(), any())).thenAnswer(invocation -> {
+            RecordServiceBatchOperationBody body = invocation.getArgument(1);
+            List<Map<String, Object>> responses = new ArrayList<>();
+            for (V1BatchRecord record : body.getRecords().get()) {
+                String name = record.getFields().get().get("name").toString();
+                if ("row-2".equals(name)) {
+                    CompletableFuture<ApiClientHttpResponse<V1BatchOperationResponse>> failed = new CompletableFuture<>();
+                    failed.completeExceptionally(new ApiClientApiException("unavailable", 503, "service unavailable"));
+                    return failed;
+                }
+                Map<String, Object> recordEntry = new HashMap<>();
+                recordEntry.put("skyflowId", "id-" + name);
+                Map<String, Object> bodyMap = new HashMap<>();
+                bodyMap.put("records", Collections.singletonList(recordEntry));
+                Map<String, Object> responseItem = new HashMap<>();
+                responseItem.put("Body", bodyMap);
+                responses.add(responseItem);
+            }
+            V1BatchOperationResponse batchBody = V1BatchOperationResponse.builder().responses(responses).build();
+            return CompletableFuture.completedFuture(new ApiClientHttpResponse<>(batchBody, buildOkHttpResponse()));
+        });
+
+        VaultController controller = createControllerWithAsyncMock(mockAsyncApi);
+        InsertRequest request = InsertRequest.builder()
+                .table("test_table")
+                .values(buildInsertValues(5))
+                .continueOnError(true)
+                .chunkSize(2)
+                .build();
+
+        InsertResponse response = controller.insertAsync(request).get();
+        Assert.assertEquals(3, response.getInsertedFields().size());
+        Assert.assertEquals(0, response.getInsertedFields().get(0).get("requestIndex"));
+        Assert.assertEquals(1, response.getInsertedFields().get(1).get("requestIndex"));
+        Assert.assertEquals("id-row-4", response.getInsertedFields().get(2).get("skyflowId"));
+        Assert.assertEquals(4, response.getInsertedFields().get(2).get("requestIndex"));
+        Assert.assertEquals(2, response.getErrors().size());
+        Assert.assertEquals(2, response.getErrors().get(0).get("requestIndex"));
+        Assert.assertEquals(3, response.getErrors().get(1).get("requestIndex"));
+        Assert.assertEquals(503, response.getErrors().get(0).get("httpCode"));
+    }
+
+    @Test
+    public void testInsert_chunkSizeWithoutContinueOnErrorIsRejected() throws Exception {
+        AsyncApiClient mockAsyncApi = Mockito.mock(AsyncApiClient.class);
+        VaultController controller = createControllerWithAsyncMock(mockAsyncApi);
+        InsertRequest request = InsertRequest.builder()
+                .table("test_table")
+                .values(buildInsertValues(6))
+                .chunkSize(2)
+                .build();
+
+        try {
+            controller.insert(request);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(ErrorCode.INVALID_INPUT.getCode(), e.getHttpCode());
+            Assert.assertEquals(ErrorMessage.ChunkSizeRequiresContinueOnError.getMessage(), e.getMessage());
+        }
+        Mockito.verifyNoInteractions(mockAsyncApi);
+    }
+
+    // --- insert buffer ---
+
+    private static Map<String, Object> buildBatchInsertResult(V1BatchRecord record) {
+        String name = record.getFields().get().get("name").toString();
+        Map<String, Object> bodyMap = new HashMap<>();
+        if (name.startsWith("bad")) {
+            bodyMap.put("error", "Invalid field name");
+        } else {
+            Map<String, Object> recordEntry = new HashMap<>();
+            recordEntry.put("skyflowId", "id-" + name);
+            recordEntry.put("tokens", Collections.singletonMap("name", "tok-" + name));
+            bodyMap.put("records", Collections.singletonList(recordEntry));
+        }
+        Map<String, Object> responseItem = new HashMap<>();
+        responseItem.put("Body", bodyMap);
+        return responseItem;
+    }
+
+    private static HashMap<String, Object> buildRecord(String name) {
+        HashMap<String, Object> record = new HashMap<>();
+        record.put("name", name);
+        return record;
+    }
+
+    @Test
+    public void testInsertBuffer_flushesByCountAndRoutesResultsByRequestIndex() throws Exception {
+        AsyncApiClient mockAsyncApi = Mockito.mock(AsyncApiClient.class);
+        AsyncRecordsClient mockRecords = Mockito.mock(AsyncRecordsClient.class);
+        AsyncRawRecordsClient mockRawRecords = Mockito.mock(AsyncRawRecordsClient.class);
+        when(mockAsyncApi.records()).thenReturn(mockRecords);
+        when(mockRecords.withRawResponse()).thenReturn(mockRawRecords);
+        List<RecordServiceBatchOperationBody> sent = Collections.synchronizedList(new ArrayList<>());
+        when(mockRawRecords.recordServiceBatchOperation(anyString(), any(), any())).thenAnswer(invocation -> {
+            RecordServiceBatchOperationBody body = invocation.getArgument(1);
+            sent.add(body);
+            List<Map<String, Object>> responses = new ArrayList<>();
+            for (V1BatchRecord record : body.getRecords().get()) {
+                responses.add(buildBatchInsertResult(record));
+            }
+            V1BatchOperationResponse batchBody = V1BatchOperationResponse.builder().responses(responses).build();
+            return CompletableFuture.completedFuture(new ApiClientHttpResponse<>(batchBody, buildOkHttpResponse()));
+        });
+        VaultController controller = createControllerWithAsyncMock(mockAsyncApi);
+        InsertBufferConfig bufferConfig = new InsertBufferConfig();
+        bufferConfig.setMaxBatchRecords(3);
+        bufferConfig.setFlushIntervalMillis(60_000L);
+        bufferConfig.setExecutor(Runnable::run);
+
+        try (InsertBuffer buffer = controller.newInsertBuffer("people", bufferConfig)) {
+            CompletableFuture<HashMap<String, Object>> first = buffer.insert(buildRecord("a"));
+            CompletableFuture<HashMap<String, Object>> failed = buffer.insert(buildRecord("bad-b"));
+            Assert.assertTrue(sent.isEmpty());
+            CompletableFuture<HashMap<String, Object>> third = buffer.insert(buildRecord("c"));
+            CompletableFuture<HashMap<String, Object>> last = buffer.insert(buildRecord("d"));
+            CompletableFuture<HashMap<String, Object>> invalid =
+                    buffer.insert(new HashMap<>(Collections.singletonMap(" ", "e")));
+
+            Assert.assertEquals(1, sent.size());
+            RecordServiceBatchOperationBody body = sent.get(0);
+            Assert.assertEquals(3, body.getRecords().get().size());
+            Assert.assertEquals(Optional.of(true), body.getContinueOnError());
+            Assert.assertEquals(Optional.of(true), body.getRecords().get().get(0).getTokenization());
+            Assert.assertEquals("id-a", first.get().get("skyflowId"));
+            Assert.assertEquals("\"tok-a\"", first.get().get("name").toString());
+            Assert.assertFalse(first.get().containsKey("requestIndex"));
+            Assert.assertEquals("id-c", third.get().get("skyflowId"));
+            try {
+                failed.get();
+                Assert.fail(EXCEPTION_NOT_THROWN);
+            } catch (ExecutionException e) {
+                Assert.assertEquals("Invalid field name", e.getCause().getMessage());
+                Assert.assertEquals(400, ((SkyflowException) e.getCause()).getHttpCode());
+            }
+            try {
+                invalid.get();
+                Assert.fail(EXCEPTION_NOT_THROWN);
+            } catch (ExecutionException e) {
+                Assert.assertEquals(ErrorMessage.EmptyKeyInValues.getMessage(), e.getCause().getMessage());
+            }
+
+            Assert.assertFalse(last.isDone());
+            buffer.flush();
+            Assert.assertEquals("id-d", last.get().get("skyflowId"));
+            Assert.assertEquals(0, buffer.getBufferedBytes());
+            Assert.assertEquals(2, buffer.getStats().getBatchCount());
+            Assert.assertEquals(4, buffer.getStats().getRequestCount());
+        }
+    }
+
+    @Test
+    public void testInsertBuffer_capsBufferedBytesWithBackpressure() throws Exception {
+        AsyncApiClient mockAsyncApi = Mockito.mock(AsyncApiClient.class);
+        AsyncRecordsClient mockRecords = Mockito.mock(AsyncRecordsClient.class);
+        AsyncRawRecordsClient mockRawRecords = Mockito.mock(AsyncRawRecordsClient.class);
+        when(mockAsyncApi.records()).thenReturn(mockRecords);
+        when(mockRecords.withRawResponse()).thenReturn(mockRawRecords);
+        List<CompletableFuture<ApiClientHttpResponse<V1BatchOperationResponse>>> inFlight =
+                Collections.synchronizedList(new ArrayList<>());
+        List<RecordServiceBatchOperationBody> sent = Collections.synchronizedList(new ArrayList<>());
+        when(mockRawRecords.recordServiceBatchOperation(anyString(), any(), any())).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(1));
+            CompletableFuture<ApiClientHttpResponse<V1BatchOperationResponse>> response = new CompletableFuture<>();
+            inFlight.add(response);
+            return response;
+        });
+        VaultController controller = createControllerWithAsyncMock(mockAsyncApi);
+        long recordBytes = "{\"name\":\"row-1\"}".length();
+        InsertBufferConfig bufferConfig = new InsertBufferConfig();
+        bufferConfig.setMaxBatchBytes(recordBytes);
+        bufferConfig.setMaxBufferedBytes(2 * recordBytes);
+        bufferConfig.setFlushIntervalMillis(60_000L);
+        bufferConfig.setBlockWhenFull(false);
+        bufferConfig.setExecutor(Runnable::run);
+        InsertBuffer rejecting = controller.newInsertBuffer("people", bufferConfig);
+
+        // Each record reaches maxBatchBytes and is sent on its own; both stay in flight.
+        rejecting.insert(buildRecord("row-1"));
+        rejecting.insert(buildRecord("row-2"));
+        Assert.assertEquals(2, sent.size());
+        Assert.assertEquals(2 * recordBytes, rejecting.getBufferedBytes());
+        try {
+            rejecting.insert(buildRecord("row-3")).get();
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (ExecutionException e) {
+            Assert.assertEquals(ErrorMessage.InsertBufferFull.getMessage(), e.getCause().getMessage());
+        }
+        inFlight.get(0).completeExceptionally(new ApiClientApiException("unavailable", 503, "service unavailable"));
+        Assert.assertEquals(recordBytes, rejecting.getBufferedBytes());
+
+        bufferConfig.setBlockWhenFull(true);
+        InsertBuffer blocking = controller.newInsertBuffer("people", bufferConfig);
+        blocking.insert(buildRecord("row-4"));
+        blocking.insert(buildRecord("row-5"));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<CompletableFuture<HashMap<String, Object>>> blocked =
+                    executor.submit(() -> blocking.insert(buildRecord("row-6")));
+            Thread.sleep(100);
+            Assert.assertFalse(blocked.isDone());
+            Assert.assertEquals(4, sent.size());
+
+            V1BatchOperationResponse batchBody = V1BatchOperationResponse.builder()
+                    .responses(Collections.singletonList(buildBatchInsertResult(
+                            sent.get(2).getRecords().get().get(0))))
+                    .build();
+            inFlight.get(2).complete(new ApiClientHttpResponse<>(batchBody, buildOkHttpResponse()));
+            blocked.get(5, TimeUnit.SECONDS);
+            Assert.assertEquals(5, sent.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // --- detokenize cache ---
+
+    private static RawTokensClient mockEchoDetokenize(ApiClient mockApi, List<List<String>> sentTokens) {
+        TokensClient mockTokens = Mockito.mock(TokensClient.class);
+        RawTokensClient mockRawTokens = Mockito.mock(RawTokensClient.class);
+        when(mockApi.tokens()).thenReturn(mockTokens);
+        when(mockTokens.withRawResponse()).thenReturn(mockRawTokens);
+        when(mockRawTokens.recordServiceDetokenize(anyString(), any(), any())).thenAnswer(invocation -> {
+            V1DetokenizePayload payload = invocation.getArgument(1);
+            List<String> tokens = new ArrayList<>();
+            List<V1DetokenizeRecordResponse> records = new ArrayList<>();
+            for (V1DetokenizeRecordRequest recordRequest : payload.getDetokenizationParameters().get()) {
+                String token = recordRequest.getToken().get();
+                tokens.add(token);
+                records.add(V1DetokenizeRecordResponse.builder().token(token).value("value-" + token).build());
+            }
+            sentTokens.add(tokens);
+            V1DetokenizeResponse body = V1DetokenizeResponse.builder().records(records).build();
+            return new ApiClientHttpResponse<>(body, buildOkHttpResponse());
+        });
+        return mockRawTokens;
+    }
+
+    private static DetokenizeRequest buildDetokenizeRequest(String... tokens) {
+        ArrayList<DetokenizeData> detokenizeData = new ArrayList<>();
+        for (String token : tokens) {
+            detokenizeData.add(new DetokenizeData(token));
+        }
+        return DetokenizeRequest.builder().detokenizeData(detokenizeData).continueOnError(true).build();
+    }
+
+    @Test
+    public void testDetokenize_cacheSendsOnlyMissesAndKeepsRequestOrder() throws Exception {
+        ApiClient mockApi = Mockito.mock(ApiClient.class);
+        List<List<String>> sentTokens = new ArrayList<>();
+        mockEchoDetokenize(mockApi, sentTokens);
+        VaultController controller = createControllerWithMock(mockApi, config -> config.setDetokenizeCacheConfig(new CacheConfig()));
+
+        controller.detokenize(buildDetokenizeRequest("tok-1", "tok-2"));
+        DetokenizeResponse response = controller.detokenize(buildDetokenizeRequest("tok-2", "tok-3", "tok-1"));
+
+        Assert.assertEquals(Arrays.asList("tok-1", "tok-2"), sentTokens.get(0));
+        Assert.assertEquals(Collections.singletonList("tok-3"), sentTokens.get(1));
+        Assert.assertEquals(3, response.getDetokenizedFields().size());
+        Assert.assertEquals("value-tok-2", response.getDetokenizedFields().get(0).getValue());
+        Assert.assertEquals("value-tok-3", response.getDetokenizedFields().get(1).getValue());
+        Assert.assertEquals("value-tok-1", response.getDetokenizedFields().get(2).getValue());
+        Assert.assertEquals(2, controller.getDetokenizeCacheStats().getHitCount());
+        Assert.assertEquals(3, controller.getDetokenizeCacheStats().getMissCount());
+    }
+
+    @Test
+    public void testDetokenize_fullCacheHitSkipsVaultCall() throws Exception {
+        ApiClient mockApi = Mockito.mock(ApiClient.class);
+        List<List<String>> sentTokens = new ArrayList<>();
+        RawTokensClient mockRawTokens = mockEchoDetokenize(mockApi, sentTokens);
+        VaultController controller = createControllerWithMock(mockApi, config -> config.setDetokenizeCacheConfig(new CacheConfig()));
+
+        controller.detokenize(buildDetokenizeRequest("tok-1"));
+        DetokenizeResponse response = controller.detokenizeAsync(buildDetokenizeRequest("tok-1")).get();
+
+        Assert.assertEquals("value-tok-1", response.getDetokenizedFields().get(0).getValue());
+        Mockito.verify(mockRawTokens, Mockito.times(1)).recordServiceDetokenize(anyString(), any(), any());
+    }
+
+    @Test
+    public void testUpdate_invalidatesDetokenizeCache() throws Exception {
+        ApiClient mockApi = Mockito.mock(ApiClient.class);
+        List<List<String>> sentTokens = new ArrayList<>();
+        mockEchoDetokenize(mockApi, sentTokens);
+        RecordsClient mockRecords = Mockito.mock(RecordsClient.class);
+        when(mockApi.records()).thenReturn(mockRecords);
+        when(mockRecords.recordServiceUpdateRecord(anyString(), anyString(), anyString(), any(), any()))
+                .thenReturn(V1UpdateRecordResponse.builder().skyflowId("id-upd-001").build());
+        VaultController controller = createControllerWithMock(mockApi, config -> config.setDetokenizeCacheConfig(new CacheConfig()));
+
+        controller.detokenize(buildDetokenizeRequest("tok-1"));
+        HashMap<String, Object> data = new HashMap<>();
+        data.put("skyflowId", "id-upd-001");
+        data.put("card_number", "9999999999999999");
+        controller.update(UpdateRequest.builder().table("test_table").data(data).build());
+        controller.detokenize(buildDetokenizeRequest("tok-1"));
+
+        Assert.assertEquals(2, sentTokens.size());
+        Assert.assertEquals(0, controller.getDetokenizeCacheStats().getHitCount());
+    }
+
+    @Test
+    public void testDetokenizeCacheStatsNullWhenDisabled() throws Exception {
+        VaultController controller = createControllerWithMock(Mockito.mock(ApiClient.class));
+        Assert.assertNull(controller.getDetokenizeCacheStats());
+    }
+
+    // --- tokenize deduplication and cache ---
+
+    private static TokensClient mockEchoTokenize(ApiClient mockApi, List<List<String>> sentValues) {
+        TokensClient mockTokens = Mockito.mock(TokensClient.class);
+        when(mockApi.tokens()).thenReturn(mockTokens);
+        when(mockTokens.recordServiceTokenize(anyString(), any(), any())).thenAnswer(invocation -> {
+            V1TokenizePayload payload = invocation.getArgument(1);
+            List<String> values = new ArrayList<>();
+            List<V1TokenizeRecordResponse> records = new ArrayList<>();
+            for (V1TokenizeRecordRequest recordRequest : payload.getTokenizationParameters().get()) {
+                String value = recordRequest.getValue().get();
+                values.add(value);
+                records.add(V1TokenizeRecordResponse.builder()
+                        .token("tok-" + recordRequest.getColumnGroup().get() + "-" + value).build());
+            }
+            sentValues.add(values);
+            return V1TokenizeResponse.builder().records(records).build();
+        });
+        return mockTokens;
+    }
+
+    @Test
+    public void testTokenize_deduplicatesIdenticalValuesAndFansOutTokens() throws Exception {
+        ApiClient mockApi = Mockito.mock(ApiClient.class);
+        List<List<String>> sentValues = new ArrayList<>();
+        mockEchoTokenize(mockApi, sentValues);
+        VaultController controller = createControllerWithMock(mockApi);
+
+        List<ColumnValue> columnValues = new ArrayList<>();
+        columnValues.add(ColumnValue.builder().value("a").columnGroup("g1").build());
+        columnValues.add(ColumnValue.builder().value("b").columnGroup("g1").build());
+        columnValues.add(ColumnValue.builder().value("a").columnGroup("g1").build());
+        columnValues.add(ColumnValue.builder().value("a").columnGroup("g2").build());
+        TokenizeResponse response = controller.tokenize(TokenizeRequest.builder().values(columnValues).build());
+
+        Assert.assertEquals(Arrays.asList("a", "b", "a"), sentValues.get(0));
+        Assert.assertEquals(Arrays.asList("tok-g1-a", "tok-g1-b", "tok-g1-a", "tok-g2-a"), response.getTokens());
+        Assert.assertNull(controller.getTokenizeCacheStats());
+    }
+
+    @Test
+    public void testTokenize_cacheServesRepeatedValuesLocally() throws Exception {
+        ApiClient mockApi = Mockito.mock(ApiClient.class);
+        List<List<String>> sentValues = new ArrayList<>();
+        TokensClient mockTokens = mockEchoTokenize(mockApi, sentValues);
+        VaultController controller = createControllerWithMock(mockApi,
+                config -> config.setTokenizeCacheConfig(new CacheConfig()));
+
+        List<ColumnValue> first = new ArrayList<>();
+        first.add(ColumnValue.builder().value("a").columnGroup("g1").build());
+        controller.tokenize(TokenizeRequest.builder().values(first).build());
+
+        List<ColumnValue> second = new ArrayList<>();
+        second.add(ColumnValue.builder().value("b").columnGroup("g1").build());
+        second.add(ColumnValue.builder().value("a").columnGroup("g1").build());
+        TokenizeResponse response = controller.tokenize(TokenizeRequest.builder().values(second).build());
+        Assert.assertEquals(Arrays.asList("tok-g1-b", "tok-g1-a"), response.getTokens());
+        Assert.assertEquals(Collections.singletonList("b"), sentValues.get(1));
+
+        TokenizeResponse cached = controller.tokenizeAsync(TokenizeRequest.builder().values(second).build()).get();
+        Assert.assertEquals(Arrays.asList("tok-g1-b", "tok-g1-a"), cached.getTokens());
+        Mockito.verify(mockTokens, Mockito.times(2)).recordServiceTokenize(anyString(), any(), any());
+        Assert.assertEquals(3, controller.getTokenizeCacheStats().getHitCount());
+    }
+
+    @Test
+    public void testTokenizeBatcher_sendsValuesTogetherAndRoutesTokens() throws Exception {
+        AsyncApiClient mockAsyncApi = Mockito.mock(AsyncApiClient.class);
+        AsyncTokensClient mockTokens = Mockito.mock(AsyncTokensClient.class);
+        when(mockAsyncApi.tokens()).thenReturn(mockTokens);
+        List<List<String>> sentValues = Collections.synchronizedList(new ArrayList<>());
+        when(mockTokens.recordServiceTokenize(anyString(), any(), any())).thenAnswer(invocation -> {
+            V1TokenizePayload payload = invocation.getArgument(1);
+            List<String> values = new ArrayList<>();
+            List<V1TokenizeRecordResponse> records = new ArrayList<>();
+            for (V1TokenizeRecordRequest recordRequest : payload.getTokenizationParameters().get()) {
+                values.add(recordRequest.getValue().get());
+                records.add(V1TokenizeRecordResponse.builder()
+                        .token("tok-" + recordRequest.getColumnGroup().get() + "-" + recordRequest.getValue().get())
+                        .build());
+            }
+            sentValues.add(values);
+            return CompletableFuture.completedFuture(V1TokenizeResponse.builder().records(records).build());
+        });
+        VaultController controller = createControllerWithAsyncMock(mockAsyncApi);
+        BatchConfig batchConfig = new BatchConfig();
+        batchConfig.setWindowMillis(60_000L);
+        batchConfig.setMaxBatchSize(3);
+
+        try (TokenizeBatcher batcher = controller.newTokenizeBatcher(batchConfig)) {
+            CompletableFuture<String> first = batcher.tokenize(ColumnValue.builder().value("a").columnGroup("g1").build());
+            CompletableFuture<String> second = batcher.tokenize(ColumnValue.builder().value("b").columnGroup("g1").build());
+            CompletableFuture<String> repeated = batcher.tokenize(ColumnValue.builder().value("a").columnGroup("g1").build());
+            CompletableFuture<String> last = batcher.tokenize(ColumnValue.builder().value("c").columnGroup("g2").build());
+            CompletableFuture<String> invalid = batcher.tokenize(ColumnValue.builder().value("d").build());
+
+            Assert.assertEquals("tok-g1-a", first.get());
+            Assert.assertEquals("tok-g1-b", second.get());
+            Assert.assertEquals("tok-g1-a", repeated.get());
+            Assert.assertEquals(Collections.singletonList(Arrays.asList("a", "b")), sentValues);
+            Assert.assertFalse(last.isDone());
+            batcher.flush();
+            Assert.assertEquals("tok-g2-c", last.get());
+            try {
+                invalid.get();
+                Assert.fail(EXCEPTION_NOT_THROWN);
+            } catch (ExecutionException e) {
+                Assert.assertEquals(ErrorMessage.EmptyColumnGroupInColumnValue.getMessage(), e.getCause().getMessage());
+            }
+
+            BatchStats stats = batcher.getStats();
+            Assert.assertEquals(2, stats.getBatchCount());
+            Assert.assertEquals(4, stats.getRequestCount());
+            Assert.assertEquals(3, stats.getLargestBatchSize());
+            Assert.assertEquals(2.0, stats.getAverageBatchSize(), 0.0);
+        }
+    }
+
+    @Test
+    public void testTokenizeBatcher_sendsFromTheConfiguredExecutor() throws Exception {
+        AsyncApiClient mockAsyncApi = Mockito.mock(AsyncApiClient.class);
+        AsyncTokensClient mockTokens = Mockito.mock(AsyncTokensClient.class);
+        when(mockAsyncApi.tokens()).thenReturn(mockTokens);
+        List<String> sendingThreads = Collections.synchronizedList(new ArrayList<>());
+        when(mockTokens.recordServiceTokenize(anyString(), any(), any())).thenAnswer(invocation -> {
+            sendingThreads.add(Thread.currentThread().getName());
+            return CompletableFuture.completedFuture(V1TokenizeResponse.builder()
+                    .records(Collections.singletonList(V1TokenizeRecordResponse.builder().token("tok-a").build()))
+                    .build());
+        });
+        VaultController controller = createControllerWithAsyncMock(mockAsyncApi);
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "batch-sender"));
+        BatchConfig batchConfig = new BatchConfig();
+        batchConfig.setWindowMillis(1L);
+        batchConfig.setExecutor(executor);
+
+        try (TokenizeBatcher batcher = controller.newTokenizeBatcher(batchConfig)) {
+            CompletableFuture<String> token = batcher.tokenize(ColumnValue.builder().value("a").columnGroup("g1").build());
+            Assert.assertEquals("tok-a", token.get(5, TimeUnit.SECONDS));
+            Assert.assertEquals(Collections.singletonList("batch-sender"), sendingThreads);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTokenizeBatcher_failsEveryValueWhenCallFails() throws Exception {
+        AsyncApiClient mockAsyncApi = Mockito.mock(AsyncApiClient.class);
+        AsyncTokensClient mockTokens = Mockito.mock(AsyncTokensClient.class);
+        when(mockAsyncApi.tokens()).thenReturn(mockTokens);
+        CompletableFuture<V1TokenizeResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new ApiClientApiException("Bad request", 400, "{}"));
+        when(mockTokens.recordServiceTokenize(anyString(), any(), any())).thenReturn(failed);
+        VaultController controller = createControllerWithAsyncMock(mockAsyncApi);
+
+        BatchConfig batchConfig = new BatchConfig();
+        batchConfig.setWindowMillis(60_000L);
+        TokenizeBatcher batcher = controller.newTokenizeBatcher(batchConfig);
+        CompletableFuture<String> first = batcher.tokenize(ColumnValue.builder().value("a").columnGroup("g1").build());
+        CompletableFuture<String> second = batcher.tokenize(ColumnValue.builder().value("b").columnGroup("g1").build());
+        batcher.close();
+
+        for (CompletableFuture<String> future : Arrays.asList(first, second)) {
+            try {
+                future.get();
+                Assert.fail(EXCEPTION_NOT_THROWN);
+            } catch (ExecutionException e) {
+                Assert.assertEquals(400, ((SkyflowException) e.getCause()).getHttpCode());
+            }
+        }
+        Mockito.verify(mockTokens, Mockito.times(1)).recordServiceTokenize(anyString(), any(), any());
+    }
+
+    @Test
+    public void testWarmUp_opensConnectionsWithoutSdkInterceptors() throws Exception {
+        List<Request> warmUpRequests = Collections.synchronizedList(new ArrayList<>());
+        OkHttpClient baseClient = new OkHttpClient.Builder().addInterceptor(chain -> {
+            warmUpRequests.add(chain.request());
+            return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(404)
+                    .message("")
+                    .body(ResponseBody.create("", MediaType.parse("application/json")))
+                    .build();
+        }).build();
+        TransportConfig transportConfig = new TransportConfig();
+        transportConfig.setHttpClient(baseClient);
+        VaultController controller = createControllerWithMock(Mockito.mock(ApiClient.class),
+                config -> config.setTransportConfig(transportConfig));
+
+        WarmUpResponse response = controller.warmUp(3);
+
+        Assert.assertEquals(vaultID, response.getVaultId());
+        Assert.assertEquals(3, response.getConnectionsRequested());
+        Assert.assertEquals(3, response.getConnectionsOpened());
+        Assert.assertTrue(response.getTotalMillis() >= response.getConnectionsMillis());
+        Assert.assertEquals(3, warmUpRequests.size());
+        for (Request request : warmUpRequests) {
+            Assert.assertEquals("HEAD", request.method());
+            Assert.assertEquals(Utils.getVaultURL(clusterID, Env.DEV) + "/", request.url().toString());
+            Assert.assertNull(request.header("Authorization"));
+        }
+    }
+
+    @Test
+    public void testInsert_largeRequestIsStreamed() throws Exception {
+        List<Request> sent = Collections.synchronizedList(new ArrayList<>());
+        List<String> sentBodies = Collections.synchronizedList(new ArrayList<>());
+        StringBuilder responseJson = new StringBuilder("{\"records\":[");
+        ArrayList<HashMap<String, Object>> values = new ArrayList<>();
+        for (int i = 0; i < Constants.STREAMING_REQUEST_MIN_RECORDS; i++) {
+            HashMap<String, Object> record = new HashMap<>();
+            record.put("card_number", "card-" + i);
+            values.add(record);
+            responseJson.append(i == 0 ? "" : ",").append("{\"skyflow_id\":\"id-").append(i).append("\"}");
+        }
+        String response = responseJson.append("]}").toString();
+        TransportConfig transportConfig = new TransportConfig();
+        transportConfig.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            Buffer body = new Buffer();
+            chain.request().body().writeTo(body);
+            sent.add(chain.request());
+            sentBodies.add(body.readUtf8());
+            return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("OK")
+                    .body(ResponseBody.create(response, MediaType.parse("application/json")))
+                    .build();
+        }).build());
+        ApiClient mockApiClient = Mockito.mock(ApiClient.class);
+        VaultController controller = createControllerWithMock(mockApiClient,
+                config -> config.setTransportConfig(transportConfig));
+
+        InsertRequest request = InsertRequest.builder().table("cards").values(values).build();
+        InsertResponse syncResponse = controller.insert(request);
+        InsertResponse asyncResponse = controller.insertAsync(request).get();
+
+        Mockito.verifyNoInteractions(mockApiClient);
+        Assert.assertEquals(2, sent.size());
+        for (int i = 0; i < sent.size(); i++) {
+            Request sentRequest = sent.get(i);
+            Assert.assertEquals("POST", sentRequest.method());
+            Assert.assertEquals("/v1/vaults/" + vaultID + "/cards", sentRequest.url().encodedPath());
+            Assert.assertEquals(-1, sentRequest.body().contentLength());
+            Assert.assertNotNull(sentRequest.header(Constants.SDK_METRICS_HEADER_KEY));
+            Assert.assertEquals(Constants.STREAMING_REQUEST_MIN_RECORDS,
+                    ObjectMappers.JSON_MAPPER.readTree(sentBodies.get(i)).get("records").size());
+        }
+        for (InsertResponse insertResponse : Arrays.asList(syncResponse, asyncResponse)) {
+            Assert.assertEquals(Constants.STREAMING_REQUEST_MIN_RECORDS, insertResponse.getInsertedFields().size());
+            Assert.assertEquals("id-999", insertResponse.getInsertedFields().get(999).get("skyflowId"));
+        }
+    }
+
+    @Test
+    public void testDetokenize_largeStreamedRequestMapsApiErrors() throws Exception {
+        TransportConfig transportConfig = new TransportConfig();
+        transportConfig.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> new Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(500)
+                .message("Internal Server Error")
+                .body(ResponseBody.create("{\"error\":{\"message\":\"boom\"}}",
+                        MediaType.parse("application/json")))
+                .build()).build());
+        VaultController controller = createControllerWithMock(Mockito.mock(ApiClient.class),
+                config -> config.setTransportConfig(transportConfig));
+        ArrayList<DetokenizeData> data = new ArrayList<>();
+        for (int i = 0; i < Constants.STREAMING_REQUEST_MIN_RECORDS; i++) {
+            data.add(new DetokenizeData("token-" + i));
+        }
+        DetokenizeRequest request = DetokenizeRequest.builder().detokenizeData(data).build();
+
+        try {
+            controller.detokenize(request);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(500, e.getHttpCode());
+        }
+        try {
+            controller.detokenizeAsync(request).get();
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof SkyflowException);
+            Assert.assertEquals(500, ((SkyflowException) e.getCause()).getHttpCode());
+        }
+    }
+
+    @Test
+    public void testDetokenizeBatcher_sendsLookupsTogetherAndRoutesRecords() throws Exception {
+        AsyncApiClient mockAsyncApi = Mockito.mock(AsyncApiClient.class);
+        AsyncTokensClient mockTokens = Mockito.mock(AsyncTokensClient.class);
+        AsyncRawTokensClient mockRawTokens = Mockito.mock(AsyncRawTokensClient.class);
+        when(mockAsyncApi.tokens()).thenReturn(mockTokens);
+        when(mockTokens.withRawResponse()).thenReturn(mockRawTokens);
+        List<V1DetokenizePayload> payloads = Collections.synchronizedList(new ArrayList<>());
+        when(mockRawTokens.recordServiceDetokenize(anyString(), any(), any())).thenAnswer(invocation -> {
+            V1DetokenizePayload payload = invocation.getArgument(1);
+            payloads.add(payload);
+            List<V1DetokenizeRecordResponse> records = new ArrayList<>();
+            for (V1DetokenizeRecordRequest recordRequest : payload.getDetokenizationParameters().get()) {
+                String token = recordRequest.getToken().get();
+                records.add(token.startsWith("bad")
+                        ? V1DetokenizeRecordResponse.builder().token(token).error("Token not found").build()
+                        : V1DetokenizeRecordResponse.builder().token(token).value("value-" + token).build());
+            }
+            V1DetokenizeResponse body = V1DetokenizeResponse.builder().records(records).build();
+            return CompletableFuture.completedFuture(new ApiClientHttpResponse<>(body, buildOkHttpResponse()));
+        });
+        VaultController controller = createControllerWithAsyncMock(mockAsyncApi);
+        BatchConfig batchConfig = new BatchConfig();
+        batchConfig.setWindowMillis(60_000L);
+        batchConfig.setMaxBatchSize(3);
+
+        try (DetokenizeBatcher batcher = controller.newDetokenizeBatcher(batchConfig)) {
+            CompletableFuture<DetokenizeRecordResponse> first = batcher.detokenize(new DetokenizeData("tok-1"));
+            CompletableFuture<DetokenizeRecordResponse> missing = batcher.detokenize(new DetokenizeData("bad-1"));
+            CompletableFuture<DetokenizeRecordResponse> third = batcher.detokenize(new DetokenizeData("tok-3"));
+            CompletableFuture<DetokenizeRecordResponse> last = batcher.detokenize(new DetokenizeData("tok-4"));
+            CompletableFuture<DetokenizeRecordResponse> invalid = batcher.detokenize(new DetokenizeData(" "));
+
+            Assert.assertEquals("value-tok-1", first.get().getValue());
+            Assert.assertEquals("Token not found", missing.get().getError());
+            Assert.assertEquals("req-test-123", missing.get().getRequestId());
+            Assert.assertEquals("value-tok-3", third.get().getValue());
+            Assert.assertFalse(last.isDone());
+            batcher.flush();
+            Assert.assertEquals("value-tok-4", last.get().getValue());
+            try {
+                invalid.get();
+                Assert.fail(EXCEPTION_NOT_THROWN);
+            } catch (ExecutionException e) {
+                Assert.assertEquals(ErrorMessage.EmptyTokenInDetokenizeData.getMessage(), e.getCause().getMessage());
+            }
+
+            Assert.assertEquals(2, payloads.size());
+            Assert.assertEquals(3, payloads.get(0).getDetokenizationParameters().get().size());
+            Assert.assertEquals(Optional.of(true), payloads.get(0).getContinueOnError());
+            Assert.assertEquals(2, batcher.getStats().getBatchCount());
+            Assert.assertEquals(4, batcher.getStats().getRequestCount());
+        }
+    }
+
+    @Test
+    public void testDetokenizeBatcher_failsEveryLookupWhenCallFails() throws Exception {
+        AsyncApiClient mockAsyncApi = Mockito.mock(AsyncApiClient.class);
+        AsyncTokensClient mockTokens = Mockito.mock(AsyncTokensClient.class);
+        AsyncRawTokensClient mockRawTokens = Mockito.mock(AsyncRawTokensClient.class);
+        when(mockAsyncApi.tokens()).thenReturn(mockTokens);
+        when(mockTokens.withRawResponse()).thenReturn(mockRawTokens);
+        CompletableFuture<ApiClientHttpResponse<V1DetokenizeResponse>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new ApiClientApiException("Service unavailable", 503, "{}"));
+        when(mockRawTokens.recordServiceDetokenize(anyString(), any(), any())).thenReturn(failed);
+        VaultController controller = createControllerWithAsyncMock(mockAsyncApi);
+
+        DetokenizeBatcher batcher = controller.newDetokenizeBatcher();
+        CompletableFuture<DetokenizeRecordResponse> first = batcher.detokenize(new DetokenizeData("tok-1"));
+        CompletableFuture<DetokenizeRecordResponse> second = batcher.detokenize(new DetokenizeData("tok-2"));
+        batcher.close();
+
+        for (CompletableFuture<DetokenizeRecordResponse> future : Arrays.asList(first, second)) {
+            try {
+                future.get();
+                Assert.fail(EXCEPTION_NOT_THROWN);
+            } catch (ExecutionException e) {
+                Assert.assertEquals(503, ((SkyflowException) e.getCause()).getHttpCode());
+            }
+        }
+        try {
+            batcher.detokenize(new DetokenizeData("tok-3")).get();
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (ExecutionException e) {
+            Assert.assertEquals(ErrorMessage.BatcherClosed.getMessage(), e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testNewDetokenizeBatcher_rejectsInvalidConfig() throws Exception {
+        VaultController controller = createControllerWithMock(Mockito.mock(ApiClient.class));
+        BatchConfig batchConfig = new BatchConfig();
+        batchConfig.setMaxBatchSize(0);
+        try {
+            controller.newDetokenizeBatcher(batchConfig);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(ErrorMessage.InvalidBatchMaxSize.getMessage(), e.getMessage());
+        }
+        batchConfig.setMaxBatchSize(null);
+        batchConfig.setWindowMillis(-1L);
+        try {
+            controller.newDetokenizeBatcher(batchConfig);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(ErrorMessage.InvalidBatchWindow.getMessage(), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testDetokenizeAsync_coalescesIdenticalRequestsInFlight() throws Exception {
+        AsyncApiClient mockAsyncApi = Mockito.mock(AsyncApiClient.class);
+        AsyncTokensClient mockTokens = Mockito.mock(AsyncTokensClient.class);
+        AsyncRawTokensClient mockRawTokens = Mockito.mock(AsyncRawTokensClient.class);
+        when(mockAsyncApi.tokens()).thenReturn(mockTokens);
+        when(mockTokens.withRawResponse()).thenReturn(mockRawTokens);
+        List<CompletableFuture<ApiClientHttpResponse<V1DetokenizeResponse>>> calls =
+                Collections.synchronizedList(new ArrayList<>());
+        when(mockRawTokens.recordServiceDetokenize(anyString(), any(), any())).thenAnswer(invocation -> {
+            CompletableFuture<ApiClientHttpResponse<V1DetokenizeResponse>> call = new CompletableFuture<>();
+            calls.add(call);
+            return call;
+        });
+        VaultController controller = createControllerWithAsyncMock(mockAsyncApi,
+                config -> config.setCoalesceRequests(true));
+        ArrayList<DetokenizeData> tokens = new ArrayList<>(Collections.singletonList(new DetokenizeData("tok-1")));
+        ArrayList<DetokenizeData> masked = new ArrayList<>(
+                Collections.singletonList(new DetokenizeData("tok-1", RedactionType.MASKED)));
+
+        CompletableFuture<DetokenizeResponse> first =
+                controller.detokenizeAsync(DetokenizeRequest.builder().detokenizeData(tokens).build());
+        CompletableFuture<DetokenizeResponse> second =
+                controller.detokenizeAsync(DetokenizeRequest.builder().detokenizeData(tokens).build());
+        CompletableFuture<DetokenizeResponse> otherRedaction =
+                controller.detokenizeAsync(DetokenizeRequest.builder().detokenizeData(masked).build());
+        Assert.assertEquals(2, calls.size());
+        CoalescingStats stats = controller.getCoalescingStats();
+        Assert.assertEquals(2, stats.getCallCount());
+        Assert.assertEquals(1, stats.getCoalescedCount());
+        Assert.assertEquals(2, stats.getInFlightCount());
+
+        V1DetokenizeResponse body = V1DetokenizeResponse.builder()
+                .records(Collections.singletonList(V1DetokenizeRecordResponse.builder().token("tok-1").value("4111").build()))
+                .build();
+        calls.get(0).complete(new ApiClientHttpResponse<>(body, buildOkHttpResponse()));
+        Assert.assertEquals("4111", first.get().getDetokenizedFields().get(0).getValue());
+        Assert.assertNotSame(first.get(), second.get());
+        Assert.assertNotSame(first.get().getDetokenizedFields(), second.get().getDetokenizedFields());
+        Assert.assertEquals(first.get().toString(), second.get().toString());
+        first.get().getDetokenizedFields().clear();
+        Assert.assertEquals(1, second.get().getDetokenizedFields().size());
+        Assert.assertFalse(otherRedaction.isDone());
+
+        // Nothing is kept once the call completes.
+        controller.detokenizeAsync(DetokenizeRequest.builder().detokenizeData(tokens).build());
+        Assert.assertEquals(3, calls.size());
+        Assert.assertEquals(3, controller.getCoalescingStats().getCallCount());
+    }
+
+    @Test
+    public void testGet_coalescesIdenticalRequestsAcrossThreads() throws Exception {
+        ApiClient mockApi = Mockito.mock(ApiClient.class);
+        RecordsClient mockRecords = Mockito.mock(RecordsClient.class);
+        when(mockApi.records()).thenReturn(mockRecords);
+        CountDownLatch release = new CountDownLatch(1);
+        V1BulkGetRecordResponse getResp = V1BulkGetRecordResponse.builder()
+                .records(Collections.singletonList(V1FieldRecords.builder()
+                        .fields(Collections.singletonMap("skyflow_id", "id-1")).build()))
+                .build();
+        when(mockRecords.recordServiceBulkGetRecord(anyString(), anyString(), any(), any())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return getResp;
+        });
+        VaultController controller = createControllerWithMock(mockApi, config -> config.setCoalesceRequests(true));
+        GetRequest request = GetRequest.builder()
+                .table("test_table").ids(new ArrayList<>(Collections.singletonList("id-1"))).build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<GetResponse> first = executor.submit(() -> controller.get(request));
+            while (controller.getCoalescingStats().getInFlightCount() == 0) {
+                Thread.sleep(1);
+            }
+            Future<GetResponse> second = executor.submit(() -> controller.get(request));
+            while (controller.getCoalescingStats().getCoalescedCount() == 0) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            Assert.assertEquals("id-1", first.get().getData().get(0).get("skyflowId"));
+            Assert.assertNotSame(first.get(), second.get());
+            Assert.assertNotSame(first.get().getData().get(0), second.get().getData().get(0));
+            Assert.assertEquals(first.get().getData(), second.get().getData());
+            Mockito.verify(mockRecords, Mockito.times(1))
+                    .recordServiceBulkGetRecord(anyString(), anyString(), any(), any());
+            Assert.assertEquals(0, controller.getCoalescingStats().getInFlightCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testCoalescingIsDisabledByDefault() throws Exception {
+        VaultController controller = createControllerWithMock(Mockito.mock(ApiClient.class));
+        Assert.assertNull(controller.getCoalescingStats());
+    }
+
+    @Test
+    public void testGetRateLimitStats_reportsConfiguredRate() throws Exception {
+        Assert.assertNull(createControllerWithMock(Mockito.mock(ApiClient.class)).getRateLimitStats());
+        RateLimitConfig rateLimitConfig = new RateLimitConfig();
+        rateLimitConfig.setInitialRate(25.0);
+        VaultController controller = createControllerWithMock(Mockito.mock(ApiClient.class),
+                config -> config.setRateLimitConfig(rateLimitConfig));
+        Assert.assertEquals(25.0, controller.getRateLimitStats().getCurrentRate(), 0.0);
+        Assert.assertEquals(0, controller.getRateLimitStats().getPermitCount());
+    }
+
+    @Test
+    public void testStreamingVariants_passRecordsToConsumer() throws Exception {
+        List<Request> sent = Collections.synchronizedList(new ArrayList<>());
+        TransportConfig transportConfig = new TransportConfig();
+        transportConfig.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            sent.add(chain.request());
+            String path = chain.request().url().encodedPath();
+            String json;
+            if (path.endsWith("/detokenize")) {
+                json = "{\"records\":[{\"token\":\"t1\",\"value\":\"v1\",\"valueType\":\"STRING\"},"
+                        + "{\"token\":\"t2\",\"error\":\"Token not found\"}]}";
+            } else {
+                json = "{\"records\":[{\"fields\":{\"skyflow_id\":\"id-1\",\"name\":\"a\"}},"
+                        + "{\"fields\":{\"skyflow_id\":\"id-2\",\"name\":\"b\"}}]}";
+            }
+            return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("OK")
+                    .header(Constants.REQUEST_ID_HEADER_KEY, "req-stream")
+                    .body(ResponseBody.create(json, MediaType.parse("application/json")))
+                    .build();
+        }).build());
+        ApiClient mockApiClient = Mockito.mock(ApiClient.class);
+        VaultController controller = createControllerWithMock(mockApiClient,
+                config -> config.setTransportConfig(transportConfig));
+
+        List<DetokenizeRecordResponse> detokenized = new ArrayList<>();
+        long detokenizeCount = controller.detokenize(DetokenizeRequest.builder()
+                .detokenizeData(new ArrayList<>(Arrays.asList(new DetokenizeData("t1"), new DetokenizeData("t2"))))
+                .continueOnError(true)
+                .build(), detokenized::add);
+        Assert.assertEquals(2, detokenizeCount);
+        Assert.assertEquals("v1", detokenized.get(0).getValue());
+        Assert.assertNull(detokenized.get(0).getError());
+        Assert.assertEquals("Token not found", detokenized.get(1).getError());
+        Assert.assertEquals("req-stream", detokenized.get(1).getRequestId());
+
+        List<HashMap<String, Object>> rows = new ArrayList<>();
+        long getCount = controller.get(GetRequest.builder()
+                .table("people")
+                .ids(new ArrayList<>(Arrays.asList("id-1", "id-2")))
+                .redactionType(RedactionType.PLAIN_TEXT)
+                .build(), rows::add);
+        Assert.assertEquals(2, getCount);
+        Assert.assertEquals("id-2", rows.get(1).get("skyflowId"));
+        Request getRequest = sent.get(1);
+        Assert.assertEquals("GET", getRequest.method());
+        Assert.assertEquals("/v1/vaults/" + vaultID + "/people", getRequest.url().encodedPath());
+        Assert.assertEquals(Arrays.asList("id-1", "id-2"), getRequest.url().queryParameterValues("skyflow_ids"));
+        Assert.assertEquals("PLAIN_TEXT", getRequest.url().queryParameter("redaction"));
+
+        rows.clear();
+        long queryCount = controller.query(
+                QueryRequest.builder().query("SELECT * FROM people").build(), rows::add);
+        Assert.assertEquals(2, queryCount);
+        Assert.assertEquals("a", rows.get(0).get("name"));
+        Request queryRequest = sent.get(2);
+        Assert.assertEquals("/v1/vaults/" + vaultID + "/query", queryRequest.url().encodedPath());
+        Buffer queryBody = new Buffer();
+        queryRequest.body().writeTo(queryBody);
+        Assert.assertEquals("{\"query\":\"SELECT * FROM people\"}", queryBody.readUtf8());
+
+        Mockito.verifyNoInteractions(mockApiClient);
+    }
+
+    @Test
+    public void testStreamingVariants_mapErrorsAndValidateConsumer() throws Exception {
+        TransportConfig transportConfig = new TransportConfig();
+        transportConfig.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> new Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(400)
+                .message("Bad Request")
+                .body(ResponseBody.create("{\"error\":{\"message\":\"bad query\"}}",
+                        MediaType.parse("application/json")))
+                .build()).build());
+        VaultController controller = createControllerWithMock(Mockito.mock(ApiClient.class),
+                config -> config.setTransportConfig(transportConfig));
+        QueryRequest request = QueryRequest.builder().query("SELECT * FROM people").build();
+
+        try {
+            controller.query(request, row -> Assert.fail("No records expected"));
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(400, e.getHttpCode());
+        }
+        try {
+            controller.query(request, null);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(ErrorCode.INVALID_INPUT.getCode(), e.getHttpCode());
+            Assert.assertEquals(
+                    Utils.parameterizedString(ErrorMessage.InvalidRecordConsumer.getMessage(), Constants.SDK_PREFIX),
+                    e.getMessage());
+        }
+    }
+
+    @Test
+    public void testWarmUp_invalidConnectionsThrows() {
+        try {
+            skyflowClient.vault(vaultID).warmUp(0);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(ErrorCode.INVALID_INPUT.getCode(), e.getHttpCode());
+            Assert.assertEquals(ErrorMessage.InvalidWarmUpConnections.getMessage(), e.getMessage());
+        }
+    }
 }
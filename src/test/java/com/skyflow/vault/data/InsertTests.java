@@ -141,6 +141,39 @@ public class InsertTests {
         }
     }
 
+    @Test
+    public void testInvalidChunkSizeInInsertRequestValidations() {
+        values.add(valueMap);
+        InsertRequest request = InsertRequest.builder().table(table).values(values).chunkSize(0).build();
+        try {
+            Validations.validateInsertRequest(request);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(ErrorCode.INVALID_INPUT.getCode(), e.getHttpCode());
+            Assert.assertEquals(
+                    Utils.parameterizedString(ErrorMessage.InvalidChunkSize.getMessage(), Constants.SDK_PREFIX),
+                    e.getMessage()
+            );
+        }
+    }
+
+    @Test
+    public void testInvalidMaxConcurrencyInInsertRequestValidations() {
+        values.add(valueMap);
+        InsertRequest request = InsertRequest.builder()
+                .table(table).values(values).continueOnError(true).chunkSize(10).maxConcurrency(-1).build();
+        try {
+            Validations.validateInsertRequest(request);
+            Assert.fail(EXCEPTION_NOT_THROWN);
+        } catch (SkyflowException e) {
+            Assert.assertEquals(ErrorCode.INVALID_INPUT.getCode(), e.getHttpCode());
+            Assert.assertEquals(
+                    Utils.parameterizedString(ErrorMessage.InvalidMaxConcurrency.getMessage(), Constants.SDK_PREFIX),
+                    e.getMessage()
+            );
+        }
+    }
+
     @Test
     public void testEmptyTableInInsertRequestValidations() {
         InsertRequest request = InsertRequest.builder().table("").build();